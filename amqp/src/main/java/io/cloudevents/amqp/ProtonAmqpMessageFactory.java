@@ -69,12 +69,11 @@ public final class ProtonAmqpMessageFactory {
      * @throws CloudEventRWException if something goes wrong while resolving the {@link SpecVersion} or if the message has unknown encoding
      */
     public static MessageReader createReader(final String contentType, final ApplicationProperties props, @Nullable final Section body) throws CloudEventRWException {
-        final byte[] payload = AmqpConstants.getPayloadAsByteArray(body);
         return MessageUtils.parseStructuredOrBinaryMessage(
             () -> contentType,
-            format -> new GenericStructuredMessageReader(format, payload),
+            format -> new GenericStructuredMessageReader(format, AmqpConstants.getPayloadAsByteArray(body)),
             () -> AmqpConstants.getApplicationProperty(props, AmqpConstants.APP_PROPERTY_SPEC_VERSION, String.class),
-            sv -> new ProtonAmqpBinaryMessageReader(sv, props, contentType, payload)
+            sv -> new ProtonAmqpBinaryMessageReader(sv, props, contentType, AmqpConstants.getPayloadAsCloudEventData(body))
         );
     }
 
@@ -18,13 +18,17 @@
 package io.cloudevents.amqp.impl;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 
+import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.messaging.AmqpValue;
 import org.apache.qpid.proton.amqp.messaging.ApplicationProperties;
 import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.Section;
 
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.core.message.impl.MessageUtils;
 
 /**
@@ -111,7 +115,11 @@ public final class AmqpConstants {
         }
 
         if (payload instanceof Data body) {
-            return body.getValue().getArray();
+            final Binary binary = body.getValue();
+            if (binary.getArrayOffset() == 0 && binary.getLength() == binary.getArray().length) {
+                return binary.getArray();
+            }
+            return Arrays.copyOfRange(binary.getArray(), binary.getArrayOffset(), binary.getArrayOffset() + binary.getLength());
         } else if (payload instanceof AmqpValue body) {
             if (body.getValue() instanceof byte[]) {
                 return (byte[]) body.getValue();
@@ -124,4 +132,26 @@ public final class AmqpConstants {
         return null;
     }
 
+    /**
+     * Parses a message payload into a {@link CloudEventData}, following the same rules of {@link #getPayloadAsByteArray(Section)}.
+     * <p>
+     * Unlike {@link #getPayloadAsByteArray(Section)}, the bytes of a Data section are wrapped without copying them,
+     * even when the section holds a range of a larger array.
+     *
+     * @param payload  The message payload to extract the bytes from.
+     * @return         The payload data or {@code null} if the payload is missing or empty.
+     */
+    public static CloudEventData getPayloadAsCloudEventData(final Section payload) {
+        if (payload instanceof Data body) {
+            final Binary binary = body.getValue();
+            if (binary == null || binary.getLength() == 0) {
+                return null;
+            }
+            return BytesCloudEventData.wrap(binary.getArray(), binary.getArrayOffset(), binary.getLength());
+        }
+
+        final byte[] bytes = getPayloadAsByteArray(payload);
+        return bytes != null && bytes.length > 0 ? BytesCloudEventData.wrap(bytes) : null;
+    }
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+/**
+ * Typed handle of a context attribute or extension, to read its value with {@link CloudEventContext#get(AttributeKey)}.
+ * <p>
+ * The handles of the context attributes are the constants of this class, and {@link #of(String)} resolves a name to its handle.
+ * Resolving the handles once and reusing them avoids looking up the attributes by name for every event:
+ * the SDK implementations read the attribute field directly.
+ * <p>
+ * Handles of the context attributes are singletons and compared by identity, while handles of extensions are equal
+ * when their names are equal.
+ *
+ * @param <T> the type of the value
+ */
+@ParametersAreNonnullByDefault
+public final class AttributeKey<T> {
+
+    /**
+     * Handle of the {@code specversion} attribute.
+     */
+    public static final AttributeKey<SpecVersion> SPECVERSION = new AttributeKey<>("specversion", SpecVersion.class, true);
+    /**
+     * Handle of the {@code id} attribute.
+     */
+    public static final AttributeKey<String> ID = new AttributeKey<>("id", String.class, true);
+    /**
+     * Handle of the {@code source} attribute.
+     */
+    public static final AttributeKey<URI> SOURCE = new AttributeKey<>("source", URI.class, true);
+    /**
+     * Handle of the {@code type} attribute.
+     */
+    public static final AttributeKey<String> TYPE = new AttributeKey<>("type", String.class, true);
+    /**
+     * Handle of the {@code datacontenttype} attribute.
+     */
+    public static final AttributeKey<String> DATACONTENTTYPE = new AttributeKey<>("datacontenttype", String.class, true);
+    /**
+     * Handle of the {@code dataschema} attribute, defined by {@link SpecVersion#V1}.
+     */
+    public static final AttributeKey<URI> DATASCHEMA = new AttributeKey<>("dataschema", URI.class, true);
+    /**
+     * Handle of the {@code subject} attribute.
+     */
+    public static final AttributeKey<String> SUBJECT = new AttributeKey<>("subject", String.class, true);
+    /**
+     * Handle of the {@code time} attribute.
+     */
+    public static final AttributeKey<OffsetDateTime> TIME = new AttributeKey<>("time", OffsetDateTime.class, true);
+    /**
+     * Handle of the {@code schemaurl} attribute, defined by {@link SpecVersion#V03}.
+     */
+    public static final AttributeKey<URI> SCHEMAURL = new AttributeKey<>("schemaurl", URI.class, true);
+    /**
+     * Handle of the {@code datacontentencoding} attribute, defined by {@link SpecVersion#V03}.
+     */
+    public static final AttributeKey<String> DATACONTENTENCODING = new AttributeKey<>("datacontentencoding", String.class, true);
+
+    private final String name;
+    private final Class<T> type;
+    private final boolean specAttribute;
+
+    private AttributeKey(String name, Class<T> type, boolean specAttribute) {
+        this.name = name;
+        this.type = type;
+        this.specAttribute = specAttribute;
+    }
+
+    /**
+     * Resolve the handle of a context attribute or extension.
+     *
+     * @param name the name of the context attribute or extension
+     * @return the constant handle of the context attribute, or a new handle of the extension
+     */
+    @SuppressWarnings("unchecked")
+    public static AttributeKey<Object> of(String name) {
+        Objects.requireNonNull(name);
+        AttributeKey<?> key = switch (name) {
+            case "specversion" -> SPECVERSION;
+            case "id" -> ID;
+            case "source" -> SOURCE;
+            case "type" -> TYPE;
+            case "datacontenttype" -> DATACONTENTTYPE;
+            case "dataschema" -> DATASCHEMA;
+            case "subject" -> SUBJECT;
+            case "time" -> TIME;
+            case "schemaurl" -> SCHEMAURL;
+            case "datacontentencoding" -> DATACONTENTENCODING;
+            default -> extension(name);
+        };
+        return (AttributeKey<Object>) key;
+    }
+
+    /**
+     * Create the handle of an extension.
+     * Unlike {@link #of(String)}, the name is not resolved to a context attribute.
+     *
+     * @param name the name of the extension
+     * @return the handle of the extension
+     */
+    public static AttributeKey<Object> extension(String name) {
+        return new AttributeKey<>(Objects.requireNonNull(name), Object.class, false);
+    }
+
+    /**
+     * @return the name of the context attribute or extension
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the type of the value
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @return true if this is the handle of a context attribute of any spec version, false if it's the handle of an extension
+     */
+    public boolean isSpecAttribute() {
+        return specAttribute;
+    }
+
+    /**
+     * @param specVersion the spec version
+     * @return true if this is the handle of a context attribute of the provided spec version
+     */
+    public boolean isAttributeOf(SpecVersion specVersion) {
+        return specAttribute && specVersion.getAllAttributes().contains(name);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AttributeKey<?> that = (AttributeKey<?>) o;
+        return specAttribute == that.specAttribute && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AttributeKey{" + name + '}';
+    }
+}
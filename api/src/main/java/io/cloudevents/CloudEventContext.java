@@ -20,4 +20,25 @@ package io.cloudevents;
  * Interface representing an in memory read only representation of CloudEvent attributes and extensions.
  */
 public interface CloudEventContext extends CloudEventAttributes, CloudEventExtensions {
+
+    /**
+     * Get the value of a context attribute or extension through its handle.
+     * <p>
+     * When the handle refers to a context attribute not defined by the spec version of this event,
+     * like {@link AttributeKey#SCHEMAURL} for {@link SpecVersion#V1}, this method returns null:
+     * an extension with the same name can be read with the handle created by {@link AttributeKey#extension(String)}.
+     * <p>
+     * The SDK implementations override this method to read the attribute without looking it up by name.
+     *
+     * @param key the handle of the context attribute or extension
+     * @param <T> the type of the value
+     * @return the value, or null if the attribute or extension is not set
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T get(AttributeKey<T> key) {
+        if (key.isSpecAttribute()) {
+            return key.isAttributeOf(getSpecVersion()) ? (T) getAttribute(key.getName()) : null;
+        }
+        return (T) getExtension(key.getName());
+    }
 }
@@ -17,6 +17,12 @@
 
 package io.cloudevents;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 /**
  * Interface that defines a wrapper for CloudEvent data.
  * <p>
@@ -33,4 +39,51 @@ public interface CloudEventData {
      */
     byte[] toBytes();
 
+    /**
+     * Returns the number of bytes of the bytes representation of this data instance.
+     * <p>
+     * The default implementation falls back to {@link #toBytes()}.
+     *
+     * @return the length of this data, in bytes.
+     */
+    default int length() {
+        return toBytes().length;
+    }
+
+    /**
+     * Returns a read-only {@link ByteBuffer} view of the bytes representation of this data instance.
+     * The returned buffer has position {@code 0} and limit {@link #length()}.
+     * <p>
+     * Implementations backed by a byte array or a buffer should return a view without copying the payload.
+     * The default implementation wraps the result of {@link #toBytes()}.
+     *
+     * @return this data, as a read-only {@link ByteBuffer}.
+     */
+    default ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(toBytes()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns an {@link InputStream} reading the bytes representation of this data instance.
+     * <p>
+     * The default implementation wraps the result of {@link #toBytes()}.
+     *
+     * @return a new {@link InputStream} reading this data.
+     */
+    default InputStream toInputStream() {
+        return new ByteArrayInputStream(toBytes());
+    }
+
+    /**
+     * Writes the bytes representation of this data instance to the provided {@link OutputStream}.
+     * <p>
+     * The default implementation writes the result of {@link #toBytes()}.
+     *
+     * @param out the stream where to write this data.
+     * @throws IOException if something went wrong while writing to {@code out}.
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        out.write(toBytes());
+    }
+
 }
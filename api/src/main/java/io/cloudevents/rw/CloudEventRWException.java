@@ -19,6 +19,8 @@ package io.cloudevents.rw;
 
 import io.cloudevents.lang.Nullable;
 
+import java.util.function.Supplier;
+
 /**
  * This class is the exception Protocol Binding and Event Format implementers can use to signal errors while serializing/deserializing CloudEvent.
  */
@@ -68,6 +70,8 @@ public class CloudEventRWException extends RuntimeException {
         OTHER
     }
 
+    private static final ThreadLocal<int[]> STACKLESS_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
     private final CloudEventRWExceptionKind kind;
 
     private CloudEventRWException(CloudEventRWExceptionKind kind, Throwable cause) {
@@ -85,6 +89,42 @@ public class CloudEventRWException extends RuntimeException {
         this.kind = kind;
     }
 
+    /**
+     * Run the provided action without filling the stack trace of the {@link CloudEventRWException}s, and the
+     * other SDK exceptions checking {@link #isStackTraceDisabled()}, created in the current thread.
+     * <p>
+     * Filling the stack trace is the most expensive part of creating an exception: when decoding large batches
+     * of events which could be invalid, this allows to reject the invalid events at full speed.
+     *
+     * @param action the action to run
+     * @param <T>    the action result type
+     * @return the action result
+     */
+    public static <T> T withoutStackTraces(Supplier<T> action) {
+        int[] depth = STACKLESS_DEPTH.get();
+        depth[0]++;
+        try {
+            return action.get();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    /**
+     * @return true if the current thread is running an action passed to {@link #withoutStackTraces(Supplier)}
+     */
+    public static boolean isStackTraceDisabled() {
+        return STACKLESS_DEPTH.get()[0] > 0;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (isStackTraceDisabled()) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
     /**
      * @return the {@link CloudEventRWExceptionKind} associated to this exception instance.
      */
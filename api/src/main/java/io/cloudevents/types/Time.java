@@ -19,17 +19,38 @@ package io.cloudevents.types;
 
 import io.cloudevents.rw.CloudEventRWException;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
 
 import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
 /**
  * Utilities to handle the <a href="https://github.com/cloudevents/spec/blob/v1.0/spec.md#type-system">CloudEvent Attribute Timestamp type</a>
+ * <p>
+ * Timestamps in the common RFC3339 form are parsed and written without going through
+ * {@link java.time.format.DateTimeFormatter}. Every other value, like years after 9999 or offsets with seconds,
+ * is delegated to {@link OffsetDateTime#parse(CharSequence)} and {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME},
+ * so the results are always the same.
  */
 public final class Time {
 
+    /**
+     * Length of the longest timestamp written without falling back to {@link java.time.format.DateTimeFormatter},
+     * e.g. {@code 2020-08-03T18:10:00.123456789+02:00}.
+     */
+    private static final int MAX_FAST_LENGTH = 35;
+
+    /**
+     * Scratch buffer of {@link #fastWrite(OffsetDateTime, byte[])}, reused by all the writes of a thread.
+     */
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[MAX_FAST_LENGTH]);
+
+    private static final int[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
     private Time() {
     }
 
@@ -41,6 +62,10 @@ public final class Time {
      * @throws DateTimeParseException if something went wrong when parsing the provided time.
      */
     public static OffsetDateTime parseTime(String time) throws DateTimeParseException {
+        OffsetDateTime parsed = fastParse(time);
+        if (parsed != null) {
+            return parsed;
+        }
         return OffsetDateTime.parse(time);
     }
 
@@ -68,7 +93,12 @@ public final class Time {
      * @throws DateTimeException if something went wrong when serializing the provided time.
      */
     public static String writeTime(OffsetDateTime time) throws DateTimeException {
-        return ISO_OFFSET_DATE_TIME.format(time);
+        byte[] buffer = SCRATCH.get();
+        int length = fastWrite(time, buffer);
+        if (length < 0) {
+            return ISO_OFFSET_DATE_TIME.format(time);
+        }
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
     }
 
     /**
@@ -86,4 +116,192 @@ public final class Time {
             throw CloudEventRWException.newInvalidAttributeValue(attributeName, time, e);
         }
     }
+
+    /**
+     * Append a {@link OffsetDateTime} as RFC3339 compliant timestamp to the provided {@link StringBuilder}.
+     *
+     * @param time    the time to write
+     * @param builder the builder where to append the serialized time
+     * @return the provided {@code builder}
+     * @throws DateTimeException if something went wrong when serializing the provided time.
+     */
+    public static StringBuilder writeTime(OffsetDateTime time, StringBuilder builder) throws DateTimeException {
+        byte[] buffer = SCRATCH.get();
+        int length = fastWrite(time, buffer);
+        if (length < 0) {
+            return builder.append(ISO_OFFSET_DATE_TIME.format(time));
+        }
+        for (int i = 0; i < length; i++) {
+            builder.append((char) buffer[i]);
+        }
+        return builder;
+    }
+
+    /**
+     * Write a {@link OffsetDateTime} as RFC3339 compliant timestamp to the provided {@link ByteBuffer}, encoded as US-ASCII.
+     *
+     * @param time   the time to write
+     * @param buffer the buffer where to write the serialized time, starting from its current position
+     * @throws DateTimeException               if something went wrong when serializing the provided time.
+     * @throws java.nio.BufferOverflowException if there is not enough space remaining in {@code buffer}.
+     */
+    public static void writeTime(OffsetDateTime time, ByteBuffer buffer) throws DateTimeException {
+        byte[] bytes = SCRATCH.get();
+        int length = fastWrite(time, bytes);
+        if (length < 0) {
+            buffer.put(ISO_OFFSET_DATE_TIME.format(time).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            buffer.put(bytes, 0, length);
+        }
+    }
+
+    /**
+     * Parse {@code yyyy-MM-ddTHH:mm[:ss[.S{1,9}]](Z|+HH:MM|-HH:MM)}.
+     *
+     * @return the parsed time, or null if the input should be parsed by {@link OffsetDateTime#parse(CharSequence)}.
+     */
+    private static OffsetDateTime fastParse(String s) {
+        final int length = s.length();
+        // Shortest accepted input is yyyy-MM-ddTHH:mmZ
+        if (length < 17) {
+            return null;
+        }
+        int year = parseDigits(s, 0, 4);
+        int month = parseDigits(s, 5, 2);
+        int day = parseDigits(s, 8, 2);
+        int hour = parseDigits(s, 11, 2);
+        int minute = parseDigits(s, 14, 2);
+        char t = s.charAt(10);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0
+            || s.charAt(4) != '-' || s.charAt(7) != '-' || (t != 'T' && t != 't') || s.charAt(13) != ':') {
+            return null;
+        }
+
+        int pos = 16;
+        int second = 0;
+        int nano = 0;
+        if (s.charAt(pos) == ':') {
+            if (pos + 3 >= length) {
+                return null;
+            }
+            second = parseDigits(s, pos + 1, 2);
+            if (second < 0) {
+                return null;
+            }
+            pos += 3;
+            if (s.charAt(pos) == '.') {
+                pos++;
+                int start = pos;
+                while (pos < length && pos - start < 9 && isDigit(s.charAt(pos))) {
+                    nano = nano * 10 + (s.charAt(pos) - '0');
+                    pos++;
+                }
+                int digits = pos - start;
+                if (digits == 0 || pos >= length || isDigit(s.charAt(pos))) {
+                    return null;
+                }
+                nano *= POW10[9 - digits];
+            }
+        }
+
+        ZoneOffset offset;
+        char c = s.charAt(pos);
+        if ((c == 'Z' || c == 'z') && pos + 1 == length) {
+            offset = ZoneOffset.UTC;
+        } else if ((c == '+' || c == '-') && pos + 6 == length && s.charAt(pos + 3) == ':') {
+            int offsetHours = parseDigits(s, pos + 1, 2);
+            int offsetMinutes = parseDigits(s, pos + 4, 2);
+            if (offsetHours < 0 || offsetMinutes < 0) {
+                return null;
+            }
+            try {
+                offset = c == '+' ?
+                    ZoneOffset.ofHoursMinutes(offsetHours, offsetMinutes) :
+                    ZoneOffset.ofHoursMinutes(-offsetHours, -offsetMinutes);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+        } catch (DateTimeException e) {
+            // Let OffsetDateTime.parse() throw the DateTimeParseException
+            return null;
+        }
+    }
+
+    /**
+     * Write the time in {@code buffer} using the same layout of {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @return the number of written bytes, or -1 if the time should be written by {@link java.time.format.DateTimeFormatter}.
+     */
+    private static int fastWrite(OffsetDateTime time, byte[] buffer) {
+        int year = time.getYear();
+        int offsetSeconds = time.getOffset().getTotalSeconds();
+        if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+            return -1;
+        }
+
+        int pos = writeDigits(buffer, 0, year, 4);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, time.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, time.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, time.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, time.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, time.getSecond(), 2);
+
+        int nano = time.getNano();
+        if (nano != 0) {
+            // Like DateTimeFormatter, strip the trailing zeros of the fraction
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[pos++] = '.';
+            pos = writeDigits(buffer, pos, nano, digits);
+        }
+
+        if (offsetSeconds == 0) {
+            buffer[pos++] = 'Z';
+        } else {
+            buffer[pos++] = (byte) (offsetSeconds < 0 ? '-' : '+');
+            int absOffsetMinutes = Math.abs(offsetSeconds) / 60;
+            pos = writeDigits(buffer, pos, absOffsetMinutes / 60, 2);
+            buffer[pos++] = ':';
+            pos = writeDigits(buffer, pos, absOffsetMinutes % 60, 2);
+        }
+        return pos;
+    }
+
+    private static int parseDigits(String s, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int writeDigits(byte[] buffer, int pos, int value, int count) {
+        for (int i = pos + count - 1; i >= pos; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + count;
+    }
 }
@@ -0,0 +1,45 @@
+package io.cloudevents;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttributeKeyTest {
+
+    @Test
+    void resolveSpecAttributes() {
+        for (SpecVersion specVersion : SpecVersion.values()) {
+            for (String name : specVersion.getAllAttributes()) {
+                AttributeKey<Object> key = AttributeKey.of(name);
+
+                assertThat(key.isSpecAttribute()).isTrue();
+                assertThat(key.isAttributeOf(specVersion)).isTrue();
+                assertThat(key.getName()).isEqualTo(name);
+                assertThat(key).isSameAs(AttributeKey.of(name));
+            }
+        }
+        assertThat(AttributeKey.of("time")).isSameAs(AttributeKey.TIME);
+        assertThat(AttributeKey.TIME.getType()).isEqualTo(java.time.OffsetDateTime.class);
+    }
+
+    @Test
+    void attributesOfOtherSpecVersion() {
+        assertThat(AttributeKey.SCHEMAURL.isAttributeOf(SpecVersion.V1)).isFalse();
+        assertThat(AttributeKey.SCHEMAURL.isAttributeOf(SpecVersion.V03)).isTrue();
+        assertThat(AttributeKey.DATASCHEMA.isAttributeOf(SpecVersion.V03)).isFalse();
+    }
+
+    @Test
+    void resolveExtensions() {
+        AttributeKey<Object> key = AttributeKey.of("myext");
+
+        assertThat(key.isSpecAttribute()).isFalse();
+        assertThat(key.isAttributeOf(SpecVersion.V1)).isFalse();
+        assertThat(key.getType()).isEqualTo(Object.class);
+        assertThat(key)
+            .isEqualTo(AttributeKey.extension("myext"))
+            .hasSameHashCodeAs(AttributeKey.extension("myext"));
+        assertThat(AttributeKey.extension("id"))
+            .isNotEqualTo(AttributeKey.ID);
+    }
+}
@@ -23,13 +23,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.stream.Stream;
 
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TimeTest {
 
@@ -61,6 +66,39 @@ public class TimeTest {
         ))).isEqualTo("2020-08-03T18:10:00+02:00");
     }
 
+    @ParameterizedTest
+    @MethodSource("jdkParseArguments")
+    void testParseSameAsJdk(String ts) {
+        assertThat(Time.parseTime(ts))
+            .isEqualTo(OffsetDateTime.parse(ts));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidParseArguments")
+    void testParseInvalidSameAsJdk(String ts) {
+        assertThatThrownBy(() -> OffsetDateTime.parse(ts))
+            .isInstanceOf(DateTimeParseException.class);
+        assertThatThrownBy(() -> Time.parseTime(ts))
+            .isInstanceOf(DateTimeParseException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("writeArguments")
+    void testWriteSameAsJdk(OffsetDateTime time) {
+        String expected = ISO_OFFSET_DATE_TIME.format(time);
+
+        assertThat(Time.writeTime(time))
+            .isEqualTo(expected);
+        assertThat(Time.writeTime(time, new StringBuilder("prefix:")).toString())
+            .isEqualTo("prefix:" + expected);
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        Time.writeTime(time, buffer);
+        buffer.flip();
+        assertThat(StandardCharsets.US_ASCII.decode(buffer).toString())
+            .isEqualTo(expected);
+    }
+
     public static Stream<Arguments> parseDateArguments() {
         return Stream.of(
             Arguments.of("1985-04-12T23:20:50.520Z"),
@@ -69,4 +107,53 @@ public class TimeTest {
             Arguments.of("1937-01-01T12:00:27.870+00:20")
         );
     }
+
+    public static Stream<Arguments> jdkParseArguments() {
+        return Stream.of(
+            Arguments.of("1985-04-12T23:20:50.52Z"),
+            Arguments.of("1985-04-12t23:20:50.52z"),
+            Arguments.of("1985-04-12T23:20:50.123456789Z"),
+            Arguments.of("1985-04-12T23:20:50.1-00:30"),
+            Arguments.of("1996-12-19T16:39:57-08:00"),
+            Arguments.of("2020-02-29T00:00:00+18:00"),
+            Arguments.of("2020-02-29T00:00:00-18:00"),
+            Arguments.of("0001-01-01T00:00Z"),
+            Arguments.of("9999-12-31T23:59:59.999999999+01:00"),
+            Arguments.of("2020-01-01T00:00:00.Z"),
+            Arguments.of("+10000-01-01T00:00Z"),
+            Arguments.of("2020-01-01T00:00:00+01:00:30")
+        );
+    }
+
+    public static Stream<Arguments> invalidParseArguments() {
+        return Stream.of(
+            Arguments.of("2021-02-29T00:00:00Z"),
+            Arguments.of("2020-13-01T00:00:00Z"),
+            Arguments.of("2020-01-01T24:00:00Z"),
+            Arguments.of("2020-01-01T00:60:00Z"),
+            Arguments.of("2020-01-01T00:00:60Z"),
+            Arguments.of("2020-01-01T00:00:00.1234567891Z"),
+            Arguments.of("2020-01-01T00:00:00+19:00"),
+            Arguments.of("2020-01-01T00:00:00+01:60"),
+            Arguments.of("2020-01-01T00:00:00+0100"),
+            Arguments.of("2020-01-01 00:00:00Z"),
+            Arguments.of("2020-01-01T00:00:00"),
+            Arguments.of("2020-01-01T00:00:00Zx"),
+            Arguments.of("2020-1-01T00:00:00Z")
+        );
+    }
+
+    public static Stream<Arguments> writeArguments() {
+        return Stream.of(
+            Arguments.of(OffsetDateTime.of(2020, 8, 3, 18, 10, 0, 0, ZoneOffset.ofHours(2))),
+            Arguments.of(OffsetDateTime.of(1985, 4, 12, 23, 20, 50, 520_000_000, ZoneOffset.UTC)),
+            Arguments.of(OffsetDateTime.of(1985, 4, 12, 23, 20, 50, 1, ZoneOffset.UTC)),
+            Arguments.of(OffsetDateTime.of(1985, 4, 12, 23, 20, 50, 123_456_789, ZoneOffset.ofHoursMinutes(-9, -30))),
+            Arguments.of(OffsetDateTime.of(1, 1, 1, 0, 0, 0, 100_000, ZoneOffset.ofHours(-18))),
+            Arguments.of(OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999, ZoneOffset.ofHours(18))),
+            Arguments.of(OffsetDateTime.of(10000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
+            Arguments.of(OffsetDateTime.of(-1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
+            Arguments.of(OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHoursMinutesSeconds(1, 0, 30)))
+        );
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.bench.core;
+
+import io.cloudevents.core.builder.CloudEventBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static io.cloudevents.core.test.Data.*;
+
+public class CloudEventBuilderBenchmark {
+
+    @State(Scope.Thread)
+    public static class BuilderState {
+        public io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.v1()
+            .withSource(SOURCE)
+            .withType(TYPE)
+            .withDataContentType(DATACONTENTTYPE_JSON)
+            .markTemplate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(Threads.MAX)
+    public void buildWithRandomUuidAndNow(BuilderState state, Blackhole bh) {
+        bh.consume(
+            state.builder.reset()
+                .withId(UUID.randomUUID().toString())
+                .withTime(OffsetDateTime.now())
+                .withData(DATA_JSON_SERIALIZED)
+                .build()
+        );
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Threads(Threads.MAX)
+    public void buildWithGeneratedIdAndCurrentTime(BuilderState state, Blackhole bh) {
+        bh.consume(
+            state.builder.reset()
+                .withGeneratedId()
+                .withCurrentTime()
+                .withData(DATA_JSON_SERIALIZED)
+                .build()
+        );
+    }
+
+}
@@ -18,6 +18,7 @@
 package io.cloudevents.bench.jackson;
 
 import io.cloudevents.jackson.JsonFormat;
+import io.cloudevents.jackson.JsonFormatOptions;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -32,6 +33,9 @@ public class JsonFormatDeserializationBenchmark {
         public byte[] eventWithJson;
         public byte[] eventWithXml;
         public JsonFormat format = new JsonFormat();
+        public JsonFormat streamingFormat = new JsonFormat(
+            JsonFormatOptions.builder().streamingDeserialization(true).build()
+        );
 
         public DeserializationState() {
             eventWithJson = format.serialize(V1_WITH_JSON_DATA_WITH_EXT);
@@ -55,4 +59,20 @@ public class JsonFormatDeserializationBenchmark {
         );
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void streamingDeserializeWithJsonData(DeserializationState state, Blackhole bh) {
+        bh.consume(
+            state.streamingFormat.deserialize(state.eventWithJson)
+        );
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void streamingDeserializeWithXmlData(DeserializationState state, Blackhole bh) {
+        bh.consume(
+            state.streamingFormat.deserialize(state.eventWithXml)
+        );
+    }
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.bench.types;
+
+import io.cloudevents.types.Time;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+public class TimeBenchmark {
+
+    @State(Scope.Thread)
+    public static class TimeState {
+        public String utc = "2018-04-05T17:31:00Z";
+        public String withOffsetAndFraction = "1985-04-12T23:20:50.123456-08:00";
+        public OffsetDateTime time = OffsetDateTime.of(1985, 4, 12, 23, 20, 50, 123_456_000, ZoneOffset.ofHours(-8));
+        public StringBuilder builder = new StringBuilder(64);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void parseUtcWithJdk(TimeState state, Blackhole bh) {
+        bh.consume(OffsetDateTime.parse(state.utc));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void parseUtc(TimeState state, Blackhole bh) {
+        bh.consume(Time.parseTime(state.utc));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void parseWithOffsetAndFractionWithJdk(TimeState state, Blackhole bh) {
+        bh.consume(OffsetDateTime.parse(state.withOffsetAndFraction));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void parseWithOffsetAndFraction(TimeState state, Blackhole bh) {
+        bh.consume(Time.parseTime(state.withOffsetAndFraction));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void writeWithJdk(TimeState state, Blackhole bh) {
+        bh.consume(ISO_OFFSET_DATE_TIME.format(state.time));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void write(TimeState state, Blackhole bh) {
+        bh.consume(Time.writeTime(state.time));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void writeToStringBuilder(TimeState state, Blackhole bh) {
+        state.builder.setLength(0);
+        bh.consume(Time.writeTime(state.time, state.builder));
+    }
+
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.arena;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.AttributeValueCache;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.rw.CloudEventContextReader;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.types.Time;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static io.cloudevents.core.arena.EventRecord.*;
+
+/**
+ * Flyweight {@link CloudEvent} view on an event stored in an {@link EventArena}.
+ * <p>
+ * The view holds no attribute value: every getter decodes it from the arena memory, so the view should be
+ * copied to the heap with {@link #toHeapEvent()} when the attributes are accessed repeatedly,
+ * or when the event must outlive its release.
+ * The view is valid until the event is released, either with {@link #release()} or with {@link EventArena#releaseAll()}:
+ * accessing a released view throws {@link IllegalStateException}.
+ * The check is best effort when the event is released concurrently with the access, which must be avoided.
+ * <p>
+ * Two views are equal only if they refer to the same stored event.
+ */
+public final class ArenaCloudEvent implements CloudEvent, CloudEventContextReader {
+
+    private final EventArena arena;
+    private final Segment segment;
+    private final int offset;
+    private final int generation;
+
+    ArenaCloudEvent(EventArena arena, Segment segment, int offset) {
+        this.arena = arena;
+        this.segment = segment;
+        this.offset = offset;
+        this.generation = segment.generation;
+    }
+
+    /**
+     * Release the event from its arena. After this call, the view cannot be accessed anymore.
+     *
+     * @throws IllegalStateException if the event was already released
+     */
+    public void release() throws IllegalStateException {
+        arena.release(this);
+    }
+
+    /**
+     * Copy the event, including its data, to a new heap {@link CloudEvent}.
+     *
+     * @return the copy of the event
+     */
+    public CloudEvent toHeapEvent() {
+        CloudEventData data = getData();
+        CloudEventBuilder builder = CloudEventBuilder.from(this);
+        if (data != null) {
+            builder.withData(BytesCloudEventData.wrap(data.toBytes()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return true if the event was released, false otherwise
+     */
+    public boolean isReleased() {
+        return segment.generation != generation || segment.buffer.get(offset + STATE_OFFSET) != STATE_LIVE;
+    }
+
+    /**
+     * @return the size of the stored event, in bytes
+     */
+    public int getStoredSize() {
+        return buffer().getInt(offset + LENGTH_OFFSET);
+    }
+
+    @Override
+    public SpecVersion getSpecVersion() {
+        return readVersion(buffer(), offset);
+    }
+
+    @Override
+    public String getId() {
+        return (String) value(ID, null);
+    }
+
+    @Override
+    public String getType() {
+        return (String) value(TYPE, null);
+    }
+
+    @Override
+    public URI getSource() {
+        return uri(SOURCE);
+    }
+
+    @Override
+    public String getDataContentType() {
+        return (String) value(DATACONTENTTYPE, null);
+    }
+
+    @Override
+    public URI getDataSchema() {
+        return uri(getSpecVersion() == SpecVersion.V03 ? SCHEMAURL : DATASCHEMA);
+    }
+
+    @Override
+    public String getSubject() {
+        return (String) value(SUBJECT, null);
+    }
+
+    @Override
+    public OffsetDateTime getTime() {
+        Object value = value(TIME, null);
+        if (value instanceof String string) {
+            return Time.parseTime(ATTRIBUTE_NAMES[TIME], string);
+        }
+        return (OffsetDateTime) value;
+    }
+
+    @Override
+    public Object getAttribute(String attributeName) throws IllegalArgumentException {
+        switch (attributeName) {
+            case "specversion":
+                return getSpecVersion();
+            case "source":
+                return getSource();
+            case "time":
+                return getTime();
+        }
+        SpecVersion specVersion = getSpecVersion();
+        if (!specVersion.getAllAttributes().contains(attributeName)) {
+            throw new IllegalArgumentException("Spec version " + specVersion + " doesn't have attribute named " + attributeName);
+        }
+        byte code = attributeCode(specVersion, attributeName);
+        if (code == DATASCHEMA || code == SCHEMAURL) {
+            return uri(code);
+        }
+        return value(code, null);
+    }
+
+    @Override
+    public Object getExtension(String extensionName) {
+        return value(EXTENSION, extensionName);
+    }
+
+    @Override
+    public Set<String> getExtensionNames() {
+        ByteBuffer buffer = buffer();
+        Set<String> names = new HashSet<>();
+        int index = offset + HEADER_SIZE;
+        int end = attributesEnd(buffer);
+        while (index < end) {
+            byte code = buffer.get(index++);
+            if (code == EXTENSION) {
+                names.add(readName(buffer, index));
+                index += 2 + buffer.getShort(index);
+            }
+            index = skipValue(buffer, index);
+        }
+        return names;
+    }
+
+    @Override
+    public CloudEventData getData() {
+        ByteBuffer buffer = buffer();
+        int dataLength = buffer.getInt(offset + DATA_LENGTH_OFFSET);
+        if (dataLength < 0) {
+            return null;
+        }
+        return new ArenaCloudEventData(offset + getStoredSize() - dataLength, dataLength);
+    }
+
+    @Override
+    public void readContext(CloudEventContextWriter writer) throws CloudEventRWException {
+        ByteBuffer buffer = buffer();
+        int index = offset + HEADER_SIZE;
+        int end = attributesEnd(buffer);
+        while (index < end) {
+            byte code = buffer.get(index++);
+            String name;
+            if (code == EXTENSION) {
+                name = readName(buffer, index);
+                index += 2 + buffer.getShort(index);
+            } else {
+                name = ATTRIBUTE_NAMES[code];
+            }
+            Object value = readValue(buffer, index);
+            if (value instanceof String string) {
+                writer.withContextAttribute(name, string);
+            } else if (value instanceof URI uri) {
+                writer.withContextAttribute(name, uri);
+            } else if (value instanceof OffsetDateTime time) {
+                writer.withContextAttribute(name, time);
+            } else if (value instanceof Integer integer) {
+                writer.withContextAttribute(name, integer);
+            } else if (value instanceof Number number) {
+                writer.withContextAttribute(name, number);
+            } else if (value instanceof Boolean bool) {
+                writer.withContextAttribute(name, bool);
+            } else {
+                writer.withContextAttribute(name, (byte[]) value);
+            }
+            index = skipValue(buffer, index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isReleased()) {
+            return "ArenaCloudEvent{released}";
+        }
+        return "ArenaCloudEvent{" +
+            "specversion=" + getSpecVersion() +
+            ", id='" + getId() + '\'' +
+            ", source=" + getSource() +
+            ", type='" + getType() + '\'' +
+            ", size=" + getStoredSize() +
+            '}';
+    }
+
+    EventArena arena() {
+        return arena;
+    }
+
+    Segment segment() {
+        return segment;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    private ByteBuffer buffer() {
+        if (isReleased()) {
+            throw new IllegalStateException("The event was released from the arena");
+        }
+        return segment.buffer;
+    }
+
+    private int attributesEnd(ByteBuffer buffer) {
+        int dataLength = buffer.getInt(offset + DATA_LENGTH_OFFSET);
+        return offset + buffer.getInt(offset + LENGTH_OFFSET) - Math.max(dataLength, 0);
+    }
+
+    private URI uri(byte code) {
+        Object value = value(code, null);
+        if (value instanceof String string) {
+            return AttributeValueCache.getDefault().parseUri(ATTRIBUTE_NAMES[code], string);
+        }
+        return (URI) value;
+    }
+
+    /**
+     * Find and decode the attribute with the provided code, or the extension with the provided name.
+     */
+    private Object value(byte code, String extensionName) {
+        ByteBuffer buffer = buffer();
+        int index = offset + HEADER_SIZE;
+        int end = attributesEnd(buffer);
+        while (index < end) {
+            byte current = buffer.get(index++);
+            boolean found;
+            if (current == EXTENSION) {
+                found = code == EXTENSION && nameEquals(buffer, index, extensionName);
+                index += 2 + buffer.getShort(index);
+            } else {
+                found = current == code;
+            }
+            if (found) {
+                return readValue(buffer, index);
+            }
+            index = skipValue(buffer, index);
+        }
+        return null;
+    }
+
+    private static Object readValue(ByteBuffer buffer, int tagIndex) {
+        int valueIndex = tagIndex + 1;
+        return switch (buffer.get(tagIndex)) {
+            case TAG_STRING -> readString(buffer, valueIndex);
+            case TAG_URI -> URI.create(readString(buffer, valueIndex));
+            case TAG_TIME -> readTime(buffer, valueIndex);
+            case TAG_INTEGER -> buffer.getInt(valueIndex);
+            case TAG_BOOLEAN -> buffer.get(valueIndex) != 0;
+            case TAG_BYTES -> readBytes(buffer, valueIndex);
+            case TAG_LONG -> buffer.getLong(valueIndex);
+            default -> throw new IllegalStateException("Corrupted event record, unknown tag " + buffer.get(tagIndex));
+        };
+    }
+
+    private static String readName(ByteBuffer buffer, int index) {
+        char[] name = new char[buffer.getShort(index)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = (char) buffer.get(index + 2 + i);
+        }
+        return new String(name);
+    }
+
+    private static boolean nameEquals(ByteBuffer buffer, int index, String name) {
+        int length = buffer.getShort(index);
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(index + 2 + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final class ArenaCloudEventData implements CloudEventData {
+
+        private final int dataOffset;
+        private final int length;
+
+        private ArenaCloudEventData(int dataOffset, int length) {
+            this.dataOffset = dataOffset;
+            this.length = length;
+        }
+
+        @Override
+        public byte[] toBytes() {
+            byte[] bytes = new byte[length];
+            buffer().get(dataOffset, bytes);
+            return bytes;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        /**
+         * @return a read only view on the data in the arena memory, valid until the event is released
+         */
+        @Override
+        public ByteBuffer toByteBuffer() {
+            return buffer().slice(dataOffset, length).asReadOnlyBuffer();
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            Channels.newChannel(out).write(toByteBuffer());
+        }
+
+        /**
+         * This data is equal to the other arena data and to {@link BytesCloudEventData} with the same content,
+         * and its hash code is the one of the {@link BytesCloudEventData} with the same content.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ArenaCloudEventData) && !(o instanceof BytesCloudEventData)) return false;
+            CloudEventData that = (CloudEventData) o;
+            return length == that.length() && toByteBuffer().equals(that.toByteBuffer());
+        }
+
+        @Override
+        public int hashCode() {
+            ByteBuffer buffer = buffer();
+            int result = 1;
+            for (int i = dataOffset; i < dataOffset + length; i++) {
+                result = 31 * result + buffer.get(i);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "ArenaCloudEventData{length=" + length + '}';
+        }
+    }
+}
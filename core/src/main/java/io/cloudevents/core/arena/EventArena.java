@@ -0,0 +1,255 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.arena;
+
+import io.cloudevents.CloudEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Off heap storage of {@link CloudEvent}s, meant to hold large amounts of in-flight events without pressure on the GC.
+ * <p>
+ * {@link #allocate(CloudEvent)} encodes the event in a direct memory segment and returns an {@link ArenaCloudEvent},
+ * a flyweight view which decodes the attributes on access. The events are stored one after the other in fixed size segments,
+ * and a segment is reused as soon as all its events are released, so an arena used as a FIFO queue has a stable memory footprint.
+ * Events larger than a segment get a dedicated segment, freed on release.
+ * <p>
+ * Events are released one by one with {@link ArenaCloudEvent#release()}, or all at once with {@link #releaseAll()}.
+ * The memory of the segments is freed by the GC once the arena is closed and unreachable.
+ * <p>
+ * The arena is thread safe, and the views can be read concurrently.
+ */
+public final class EventArena implements AutoCloseable {
+
+    private final int segmentSize;
+    private final long maxSize;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final Deque<Segment> freeSegments = new ArrayDeque<>();
+    private Segment current;
+
+    private long allocatedBytes;
+    private long usedBytes;
+    private long liveEvents;
+    private boolean closed;
+
+    private EventArena(Builder builder) {
+        this.segmentSize = builder.segmentSize;
+        this.maxSize = builder.maxSize;
+    }
+
+    /**
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Store the provided event in the arena.
+     *
+     * @param event the event to store
+     * @return the view on the stored event
+     * @throws IllegalStateException if the arena is closed, or if storing the event would exceed the arena max size
+     */
+    public ArenaCloudEvent allocate(CloudEvent event) throws IllegalStateException {
+        Objects.requireNonNull(event);
+        int size = EventRecord.size(event);
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The arena is closed");
+            }
+            Segment segment = segmentFor(size);
+            int offset = segment.position;
+            EventRecord.write(event, size, segment.buffer, offset);
+            segment.position += size;
+            segment.liveEvents++;
+            this.usedBytes += size;
+            this.liveEvents++;
+            return new ArenaCloudEvent(this, segment, offset);
+        }
+    }
+
+    /**
+     * Release the provided event. After this call, the view cannot be accessed anymore.
+     *
+     * @param event the event to release
+     * @throws IllegalArgumentException if the event was not stored in this arena
+     * @throws IllegalStateException    if the event was already released
+     */
+    public synchronized void release(ArenaCloudEvent event) throws IllegalArgumentException, IllegalStateException {
+        if (event.arena() != this) {
+            throw new IllegalArgumentException("The event was not stored in this arena");
+        }
+        if (event.isReleased()) {
+            throw new IllegalStateException("The event was already released from the arena");
+        }
+        Segment segment = event.segment();
+        segment.buffer.put(event.offset() + EventRecord.STATE_OFFSET, EventRecord.STATE_RELEASED);
+        this.usedBytes -= segment.buffer.getInt(event.offset() + EventRecord.LENGTH_OFFSET);
+        this.liveEvents--;
+
+        if (--segment.liveEvents == 0) {
+            if (segment == current) {
+                // Rewind the current segment, as nothing references its content
+                segment.reset();
+            } else {
+                recycle(segment);
+            }
+        }
+    }
+
+    /**
+     * Release all the events stored in the arena, invalidating all their views.
+     */
+    public synchronized void releaseAll() {
+        this.freeSegments.clear();
+        this.current = null;
+        for (Segment segment : new ArrayList<>(segments)) {
+            recycle(segment);
+        }
+        this.usedBytes = 0;
+        this.liveEvents = 0;
+    }
+
+    /**
+     * Release all the events and drop the segments. The arena cannot be used anymore after this call.
+     */
+    @Override
+    public synchronized void close() {
+        releaseAll();
+        this.segments.clear();
+        this.freeSegments.clear();
+        this.allocatedBytes = 0;
+        this.closed = true;
+    }
+
+    /**
+     * @return the off heap memory allocated by the arena, in bytes
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return the memory used by the events not yet released, in bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * @return the number of events not yet released
+     */
+    public synchronized long getLiveEvents() {
+        return liveEvents;
+    }
+
+    /**
+     * @return the number of allocated segments
+     */
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    private Segment segmentFor(int size) {
+        if (size > segmentSize) {
+            // Oversized events get a dedicated segment, out of the bump allocation
+            return newSegment(size, true);
+        }
+        if (current != null && current.remaining() >= size) {
+            return current;
+        }
+        Segment next = freeSegments.poll();
+        if (next == null) {
+            next = newSegment(segmentSize, false);
+        }
+        this.current = next;
+        return next;
+    }
+
+    private Segment newSegment(int capacity, boolean oversized) {
+        if (allocatedBytes + capacity > maxSize) {
+            throw new IllegalStateException(
+                "Cannot allocate " + capacity + " bytes, the arena would exceed its max size of " + maxSize + " bytes"
+            );
+        }
+        Segment segment = new Segment(capacity, oversized);
+        this.segments.add(segment);
+        this.allocatedBytes += capacity;
+        return segment;
+    }
+
+    private void recycle(Segment segment) {
+        segment.reset();
+        if (segment.oversized) {
+            this.segments.remove(segment);
+            this.allocatedBytes -= segment.capacity();
+        } else {
+            this.freeSegments.push(segment);
+        }
+    }
+
+    /**
+     * Builder of {@link EventArena}.
+     */
+    public static final class Builder {
+
+        private int segmentSize = 1024 * 1024;
+        private long maxSize = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param segmentSize the size of the direct memory segments, in bytes. Default: 1 MiB.
+         * @return self
+         */
+        public Builder segmentSize(int segmentSize) {
+            if (segmentSize <= 0) {
+                throw new IllegalArgumentException("segmentSize must be positive, got " + segmentSize);
+            }
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * @param maxSize the max off heap memory the arena can allocate, in bytes. Default: unbounded.
+         * @return self
+         */
+        public Builder maxSize(long maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive, got " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @return the new {@link EventArena}
+         */
+        public EventArena build() {
+            return new EventArena(this);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.arena;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.message.impl.MessageUtils;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary layout of the events stored in an {@link EventArena}.
+ * <p>
+ * A record is made of:
+ * <ul>
+ *     <li>A header with the record length ({@code int}), the record state ({@code byte}),
+ *     the spec version ({@code byte}) and the data length ({@code int}, {@code -1} when the event has no data).</li>
+ *     <li>The context attributes and extensions, every one made of the attribute code ({@code byte}),
+ *     the extension name for code {@code 0} ({@code short} length and ASCII bytes), the value tag ({@code byte}) and the value.</li>
+ *     <li>The data bytes.</li>
+ * </ul>
+ * Strings are written as {@code int} length and UTF-8 bytes, timestamps as epoch seconds ({@code long}),
+ * nanoseconds ({@code int}) and offset seconds ({@code int}).
+ * <p>
+ * This class is also the {@link CloudEventContextWriter} encoding the attributes: without a buffer, it only computes the size.
+ */
+final class EventRecord implements CloudEventContextWriter {
+
+    static final int LENGTH_OFFSET = 0;
+    static final int STATE_OFFSET = 4;
+    static final int VERSION_OFFSET = 5;
+    static final int DATA_LENGTH_OFFSET = 6;
+    static final int HEADER_SIZE = 10;
+
+    static final byte STATE_LIVE = 0;
+    static final byte STATE_RELEASED = 1;
+
+    static final byte EXTENSION = 0;
+    static final byte ID = 1;
+    static final byte SOURCE = 2;
+    static final byte TYPE = 3;
+    static final byte DATACONTENTTYPE = 4;
+    static final byte DATASCHEMA = 5;
+    static final byte SUBJECT = 6;
+    static final byte TIME = 7;
+    static final byte SCHEMAURL = 8;
+    static final byte DATACONTENTENCODING = 9;
+
+    static final String[] ATTRIBUTE_NAMES = {
+        null, "id", "source", "type", "datacontenttype", "dataschema", "subject", "time", "schemaurl", "datacontentencoding"
+    };
+
+    static final byte TAG_STRING = 0;
+    static final byte TAG_URI = 1;
+    static final byte TAG_TIME = 2;
+    static final byte TAG_INTEGER = 3;
+    static final byte TAG_BOOLEAN = 4;
+    static final byte TAG_BYTES = 5;
+    static final byte TAG_LONG = 6;
+
+    // Replaces unpaired surrogates with '?', like String.getBytes(UTF_8) and MessageUtils.utf8Length do
+    private static final ThreadLocal<CharsetEncoder> UTF8_ENCODER = ThreadLocal.withInitial(() -> StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+    private final SpecVersion specVersion;
+    private final ByteBuffer buffer;
+    private int position;
+
+    private EventRecord(SpecVersion specVersion, ByteBuffer buffer, int position) {
+        this.specVersion = specVersion;
+        this.buffer = buffer;
+        this.position = position;
+    }
+
+    /**
+     * Compute the size of the record of an event.
+     */
+    static int size(CloudEvent event) {
+        EventRecord measure = new EventRecord(event.getSpecVersion(), null, HEADER_SIZE);
+        CloudEventUtils.toContextReader(event).readContext(measure);
+        CloudEventData data = event.getData();
+        return measure.position + (data != null ? data.length() : 0);
+    }
+
+    /**
+     * Write the record of an event at {@code offset}, with the size computed by {@link #size(CloudEvent)}.
+     */
+    static void write(CloudEvent event, int size, ByteBuffer buffer, int offset) {
+        EventRecord writer = new EventRecord(event.getSpecVersion(), buffer, offset + HEADER_SIZE);
+        CloudEventUtils.toContextReader(event).readContext(writer);
+
+        CloudEventData data = event.getData();
+        int dataLength = -1;
+        if (data != null) {
+            ByteBuffer bytes = data.toByteBuffer();
+            dataLength = bytes.remaining();
+            buffer.put(writer.position, bytes, bytes.position(), dataLength);
+        }
+
+        buffer.putInt(offset + LENGTH_OFFSET, size);
+        buffer.put(offset + STATE_OFFSET, STATE_LIVE);
+        buffer.put(offset + VERSION_OFFSET, (byte) event.getSpecVersion().ordinal());
+        buffer.putInt(offset + DATA_LENGTH_OFFSET, dataLength);
+    }
+
+    static SpecVersion readVersion(ByteBuffer buffer, int offset) {
+        return SpecVersion.values()[buffer.get(offset + VERSION_OFFSET)];
+    }
+
+    /**
+     * @return the index of the attribute following the one whose tag is at {@code tagIndex}
+     */
+    static int skipValue(ByteBuffer buffer, int tagIndex) {
+        int valueIndex = tagIndex + 1;
+        return switch (buffer.get(tagIndex)) {
+            case TAG_STRING, TAG_URI, TAG_BYTES -> valueIndex + 4 + buffer.getInt(valueIndex);
+            case TAG_TIME -> valueIndex + 16;
+            case TAG_INTEGER -> valueIndex + 4;
+            case TAG_BOOLEAN -> valueIndex + 1;
+            case TAG_LONG -> valueIndex + 8;
+            default -> throw new IllegalStateException("Corrupted event record, unknown tag " + buffer.get(tagIndex));
+        };
+    }
+
+    static String readString(ByteBuffer buffer, int index) {
+        byte[] bytes = readBytes(buffer, index);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static byte[] readBytes(ByteBuffer buffer, int index) {
+        byte[] bytes = new byte[buffer.getInt(index)];
+        buffer.get(index + 4, bytes);
+        return bytes;
+    }
+
+    static OffsetDateTime readTime(ByteBuffer buffer, int index) {
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(buffer.getInt(index + 12));
+        return OffsetDateTime.of(
+            LocalDateTime.ofEpochSecond(buffer.getLong(index), buffer.getInt(index + 8), offset),
+            offset
+        );
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+        writeName(name);
+        writeTag(TAG_STRING);
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, URI value) throws CloudEventRWException {
+        writeName(name);
+        writeTag(TAG_URI);
+        writeString(value.toString());
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, OffsetDateTime value) throws CloudEventRWException {
+        writeName(name);
+        writeTag(TAG_TIME);
+        if (buffer != null) {
+            buffer.putLong(position, value.toEpochSecond());
+            buffer.putInt(position + 8, value.getNano());
+            buffer.putInt(position + 12, value.getOffset().getTotalSeconds());
+        }
+        position += 16;
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Number value) throws CloudEventRWException {
+        if (value instanceof Integer integer) {
+            return withContextAttribute(name, integer);
+        }
+        if (value instanceof Long longValue) {
+            writeName(name);
+            writeTag(TAG_LONG);
+            if (buffer != null) {
+                buffer.putLong(position, longValue);
+            }
+            position += 8;
+            return this;
+        }
+        return withContextAttribute(name, String.valueOf(value));
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Integer value) throws CloudEventRWException {
+        writeName(name);
+        writeTag(TAG_INTEGER);
+        if (buffer != null) {
+            buffer.putInt(position, value);
+        }
+        position += 4;
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
+        writeName(name);
+        writeTag(TAG_BOOLEAN);
+        if (buffer != null) {
+            buffer.put(position, (byte) (value ? 1 : 0));
+        }
+        position += 1;
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        writeName(name);
+        writeTag(TAG_BYTES);
+        if (buffer != null) {
+            buffer.putInt(position, value.length);
+            buffer.put(position + 4, value);
+        }
+        position += 4 + value.length;
+        return this;
+    }
+
+    private void writeName(String name) {
+        byte code = attributeCode(specVersion, name);
+        if (buffer != null) {
+            buffer.put(position, code);
+        }
+        position++;
+        if (code == EXTENSION) {
+            // Extension names are made of ASCII letters and digits
+            if (buffer != null) {
+                buffer.putShort(position, (short) name.length());
+                for (int i = 0; i < name.length(); i++) {
+                    buffer.put(position + 2 + i, (byte) name.charAt(i));
+                }
+            }
+            position += 2 + name.length();
+        }
+    }
+
+    private void writeTag(byte tag) {
+        if (buffer != null) {
+            buffer.put(position, tag);
+        }
+        position++;
+    }
+
+    private void writeString(String value) {
+        int length = MessageUtils.utf8Length(value);
+        if (buffer != null) {
+            buffer.putInt(position, length);
+            ByteBuffer target = buffer.slice(position + 4, length);
+            CharsetEncoder encoder = UTF8_ENCODER.get().reset();
+            encoder.encode(CharBuffer.wrap(value), target, true);
+            encoder.flush(target);
+        }
+        position += 4 + length;
+    }
+
+    static byte attributeCode(SpecVersion specVersion, String name) {
+        if (!specVersion.getAllAttributes().contains(name)) {
+            return EXTENSION;
+        }
+        return switch (name) {
+            case "id" -> ID;
+            case "source" -> SOURCE;
+            case "type" -> TYPE;
+            case "datacontenttype" -> DATACONTENTTYPE;
+            case "dataschema" -> DATASCHEMA;
+            case "subject" -> SUBJECT;
+            case "time" -> TIME;
+            case "schemaurl" -> SCHEMAURL;
+            case "datacontentencoding" -> DATACONTENTENCODING;
+            default -> EXTENSION;
+        };
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.arena;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Direct memory segment of an {@link EventArena}, filled by a bump allocator.
+ * <p>
+ * The segment is recycled when all its events are released: the generation is incremented,
+ * so the views on the previous records can detect that their memory was reused.
+ */
+final class Segment {
+
+    final ByteBuffer buffer;
+    final boolean oversized;
+
+    int position;
+    int liveEvents;
+    volatile int generation;
+
+    Segment(int capacity, boolean oversized) {
+        this.buffer = ByteBuffer.allocateDirect(capacity);
+        this.oversized = oversized;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int remaining() {
+        return buffer.capacity() - position;
+    }
+
+    void reset() {
+        this.position = 0;
+        this.liveEvents = 0;
+        this.generation++;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.builder;
+
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache of parsed attribute values, keyed by their raw {@link String} form.
+ * <p>
+ * When events flowing through an application reuse a small set of {@code source}, {@code dataschema} and {@code type}
+ * values, this cache allows the builders to share a single {@link URI} and {@link String} instance per distinct value,
+ * rather than parsing a new one for every event.
+ * <p>
+ * The cache is split in stripes, each one evicting its least recently used entries, so the total number of entries
+ * of each kind never exceeds {@link #getMaxSize()}. Values which cannot be parsed are never cached.
+ * <p>
+ * The builders use {@link #getDefault()} unless configured with
+ * {@link io.cloudevents.core.impl.BaseCloudEventBuilder#withAttributeValueCache(AttributeValueCache)}.
+ * The default cache is disabled, unless the system property {@value #MAX_SIZE_PROPERTY} is set to a positive number.
+ */
+public final class AttributeValueCache {
+
+    /**
+     * System property configuring the maximum size of {@link #getDefault()}.
+     */
+    public static final String MAX_SIZE_PROPERTY = "io.cloudevents.attributeValueCache.maxSize";
+
+    private static final int MAX_STRIPES = 16;
+
+    private static final AttributeValueCache DISABLED = new AttributeValueCache(0);
+
+    private static final AttributeValueCache DEFAULT = create(Integer.getInteger(MAX_SIZE_PROPERTY, 0));
+
+    private final int maxSize;
+    private final Table<URI> uris;
+    private final Table<String> strings;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of URIs and the maximum number of strings kept by this cache.
+     *                {@code 0} disables the cache.
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    public AttributeValueCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Attribute value cache max size cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.uris = maxSize > 0 ? new Table<>(maxSize) : null;
+        this.strings = maxSize > 0 ? new Table<>(maxSize) : null;
+    }
+
+    /**
+     * @return the cache used by default by the builders, configured through {@value #MAX_SIZE_PROPERTY}
+     */
+    public static AttributeValueCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return a cache which doesn't cache anything
+     */
+    public static AttributeValueCache disabled() {
+        return DISABLED;
+    }
+
+    private static AttributeValueCache create(int maxSize) {
+        return maxSize > 0 ? new AttributeValueCache(maxSize) : DISABLED;
+    }
+
+    /**
+     * Parse the provided value as {@link URI}, reusing the instance previously parsed for the same value, if any.
+     *
+     * @param attributeName the attribute name, used to report parsing errors
+     * @param value         the value to parse
+     * @return the parsed {@link URI}
+     * @throws CloudEventRWException if the value is not a valid {@link URI}
+     */
+    public URI parseUri(String attributeName, String value) throws CloudEventRWException {
+        if (uris == null) {
+            return newUri(attributeName, value);
+        }
+        return uris.get(value, v -> newUri(attributeName, v));
+    }
+
+    /**
+     * Return the canonical instance of the provided value, caching it if it's not cached yet.
+     *
+     * @param value the value to intern
+     * @return a {@link String} equal to {@code value}
+     */
+    public String intern(String value) {
+        if (strings == null || value == null) {
+            return value;
+        }
+        return strings.get(value, Function.identity());
+    }
+
+    /**
+     * @return the maximum number of URIs and the maximum number of strings kept by this cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return {@code true} if this cache has a positive max size
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return the number of lookups which found a cached value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups which didn't find a cached value
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached values
+     */
+    public int size() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        return uris.size() + strings.size();
+    }
+
+    /**
+     * Remove all the cached values and reset the hit and miss counters.
+     */
+    public void clear() {
+        if (isEnabled()) {
+            uris.clear();
+            strings.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    private static URI newUri(String attributeName, String value) {
+        try {
+            return new URI(value);
+        } catch (URISyntaxException e) {
+            throw CloudEventRWException.newInvalidAttributeValue(attributeName, value, e);
+        }
+    }
+
+    private final class Table<V> {
+
+        private final Stripe<V>[] stripes;
+
+        @SuppressWarnings("unchecked")
+        Table(int maxSize) {
+            int stripesCount = Math.min(MAX_STRIPES, Integer.highestOneBit(maxSize));
+            // Round down the stripe capacity, so the table never exceeds maxSize
+            int stripeMaxSize = maxSize / stripesCount;
+            this.stripes = new Stripe[stripesCount];
+            for (int i = 0; i < stripesCount; i++) {
+                this.stripes[i] = new Stripe<>(stripeMaxSize);
+            }
+        }
+
+        V get(String key, Function<String, V> parser) {
+            int h = key.hashCode();
+            Stripe<V> stripe = stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+            V value;
+            synchronized (stripe) {
+                value = stripe.get(key);
+            }
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+            misses.increment();
+            // Parse outside the lock, the parser may throw
+            value = parser.apply(key);
+            synchronized (stripe) {
+                V existing = stripe.putIfAbsent(key, value);
+                return existing != null ? existing : value;
+            }
+        }
+
+        int size() {
+            int size = 0;
+            for (Stripe<V> stripe : stripes) {
+                synchronized (stripe) {
+                    size += stripe.size();
+                }
+            }
+            return size;
+        }
+
+        void clear() {
+            for (Stripe<V> stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.clear();
+                }
+            }
+        }
+    }
+
+    private static final class Stripe<V> extends LinkedHashMap<String, V> {
+
+        private final int maxSize;
+
+        Stripe(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
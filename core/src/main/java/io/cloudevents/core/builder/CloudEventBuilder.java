@@ -18,6 +18,8 @@
 package io.cloudevents.core.builder;
 
 import io.cloudevents.*;
+import io.cloudevents.core.data.DataCodec;
+import io.cloudevents.core.provider.DataCodecProvider;
 import io.cloudevents.rw.CloudEventWriter;
 
 import javax.annotation.Nonnull;
@@ -39,6 +41,16 @@ public interface CloudEventBuilder extends CloudEventWriter<CloudEvent> {
      */
     CloudEventBuilder withId(String id);
 
+    /**
+     * Set the {@code id} of the event to a new id, generated by {@link IdGenerator#uuidV7()}
+     * unless the builder is configured with another {@link IdGenerator}.
+     *
+     * @return self
+     */
+    default CloudEventBuilder withGeneratedId() {
+        return withId(IdGenerator.uuidV7().generateId());
+    }
+
     /**
      * Set the {@code source} of the event
      *
@@ -87,6 +99,16 @@ public interface CloudEventBuilder extends CloudEventWriter<CloudEvent> {
      */
     CloudEventBuilder withTime(OffsetDateTime time);
 
+    /**
+     * Set the {@code time} of the event to the current time, read from {@link CoarseClock#systemUTC()}
+     * unless the builder is configured with another {@link java.time.Clock}.
+     *
+     * @return self
+     */
+    default CloudEventBuilder withCurrentTime() {
+        return withTime(CoarseClock.systemUTC().now());
+    }
+
     /**
      * Set the {@code data} of the event
      *
@@ -141,6 +163,51 @@ public interface CloudEventBuilder extends CloudEventWriter<CloudEvent> {
      */
     CloudEventBuilder withData(String dataContentType, URI dataSchema, CloudEventData data);
 
+    /**
+     * Set the {@code datacontenttype} and {@code data} of the event, encoding {@code data} with the
+     * {@link DataCodec} resolved by {@link DataCodecProvider} from its class.
+     * The {@code datacontenttype} is set to the content type produced by the resolved codec.
+     * <p>
+     * The data is encoded on the first access and the encoded bytes are reused afterwards,
+     * so an event written to several sinks is encoded only once.
+     * {@code byte[]} and {@link CloudEventData} are set as they are, without changing the {@code datacontenttype}.
+     *
+     * @param data data of the event
+     * @return self
+     * @throws io.cloudevents.rw.CloudEventRWException if no codec can encode {@code data}
+     */
+    @SuppressWarnings("unchecked")
+    default CloudEventBuilder withData(@Nonnull Object data) {
+        if (data instanceof CloudEventData cloudEventData) {
+            return withData(cloudEventData);
+        }
+        if (data instanceof byte[] bytes) {
+            return withData(bytes);
+        }
+        DataCodec<Object> codec = (DataCodec<Object>) DataCodecProvider.getInstance().requireCodec(data.getClass(), null);
+        return withData(codec.getContentType(), codec.wrap(data));
+    }
+
+    /**
+     * Like {@link #withData(Object)}, but the codec is resolved from the class of {@code data} and {@code dataContentType}.
+     *
+     * @param dataContentType datacontenttype of the event
+     * @param data            data of the event
+     * @return self
+     * @throws io.cloudevents.rw.CloudEventRWException if no codec can encode {@code data} to {@code dataContentType}
+     */
+    @SuppressWarnings("unchecked")
+    default CloudEventBuilder withData(@Nonnull String dataContentType, @Nonnull Object data) {
+        if (data instanceof CloudEventData cloudEventData) {
+            return withData(dataContentType, cloudEventData);
+        }
+        if (data instanceof byte[] bytes) {
+            return withData(dataContentType, bytes);
+        }
+        DataCodec<Object> codec = (DataCodec<Object>) DataCodecProvider.getInstance().requireCodec(data.getClass(), dataContentType);
+        return withData(dataContentType, codec.wrap(data));
+    }
+
     /**
      * Remove the {@code datacontenttype}, {@code dataschema} and {@code data} from the event
      *
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.builder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * {@link Clock} caching the current time for the configured resolution, used by {@link CloudEventBuilder#withCurrentTime()}.
+ * <p>
+ * All the invocations of {@link #now()} in the same resolution window return the same {@link OffsetDateTime} instance,
+ * truncated to the beginning of the window, so the cost of computing the zone offset is paid once per window.
+ */
+public final class CoarseClock extends Clock {
+
+    private static final CoarseClock SYSTEM_UTC = new CoarseClock(ZoneOffset.UTC, Duration.ofMillis(1));
+
+    private final ZoneId zone;
+    private final long resolutionMillis;
+    private volatile Tick tick = new Tick(Long.MIN_VALUE, Instant.EPOCH, null);
+
+    /**
+     * @param zone       the zone of the returned times
+     * @param resolution the resolution of this clock, at least one millisecond
+     * @throws IllegalArgumentException if the resolution is less than one millisecond
+     */
+    public CoarseClock(ZoneId zone, Duration resolution) {
+        this.zone = Objects.requireNonNull(zone);
+        this.resolutionMillis = resolution.toMillis();
+        if (this.resolutionMillis < 1) {
+            throw new IllegalArgumentException("Coarse clock resolution must be at least 1 millisecond: " + resolution);
+        }
+    }
+
+    /**
+     * @return the default clock, using UTC and a resolution of one millisecond
+     */
+    public static CoarseClock systemUTC() {
+        return SYSTEM_UTC;
+    }
+
+    /**
+     * @return the current time, truncated to the resolution of this clock
+     */
+    public OffsetDateTime now() {
+        return currentTick().time;
+    }
+
+    @Override
+    public Instant instant() {
+        return currentTick().instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public CoarseClock withZone(ZoneId zone) {
+        if (this.zone.equals(zone)) {
+            return this;
+        }
+        return new CoarseClock(zone, Duration.ofMillis(resolutionMillis));
+    }
+
+    private Tick currentTick() {
+        long window = System.currentTimeMillis() / resolutionMillis;
+        Tick tick = this.tick;
+        if (tick.window != window) {
+            // Racing threads compute the same value, no need to synchronize
+            Instant instant = Instant.ofEpochMilli(window * resolutionMillis);
+            tick = new Tick(window, instant, OffsetDateTime.ofInstant(instant, zone));
+            this.tick = tick;
+        }
+        return tick;
+    }
+
+    private static final class Tick {
+        private final long window;
+        private final Instant instant;
+        private final OffsetDateTime time;
+
+        private Tick(long window, Instant instant, OffsetDateTime time) {
+            this.window = window;
+            this.instant = instant;
+            this.time = time;
+        }
+    }
+}
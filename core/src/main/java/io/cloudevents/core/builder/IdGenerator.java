@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.builder;
+
+import java.util.UUID;
+
+/**
+ * Generator of event ids, used by {@link CloudEventBuilder#withGeneratedId()}.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * @return a new id
+     */
+    String generateId();
+
+    /**
+     * Return the default generator, creating time ordered <a href="https://www.rfc-editor.org/rfc/rfc9562#name-uuid-version-7">UUIDv7</a> ids.
+     * <p>
+     * The generator keeps its state per thread, so it never blocks, and the ids generated by the same thread
+     * are strictly increasing. The random bits are generated with {@link java.util.concurrent.ThreadLocalRandom},
+     * hence the ids are unique but not unpredictable.
+     *
+     * @return the UUIDv7 generator
+     */
+    static IdGenerator uuidV7() {
+        return UuidV7Generator.INSTANCE;
+    }
+
+    /**
+     * @return a generator using {@link UUID#randomUUID()}
+     */
+    static IdGenerator randomUuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.builder;
+
+import io.cloudevents.core.impl.BaseCloudEventBuilder;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Factory of reusable builders, one per thread, all starting from the same template.
+ * <p>
+ * This is useful in producer loops where all the events share most of the attributes, for example:
+ *
+ * <pre>{@code
+ * ThreadLocalCloudEventBuilder<io.cloudevents.core.v1.CloudEventBuilder> builders = ThreadLocalCloudEventBuilder.of(
+ *     () -> CloudEventBuilder.v1().withSource(source).withType(type)
+ * );
+ *
+ * CloudEvent event = builders.get()
+ *     .withId(id)
+ *     .withData(data)
+ *     .build();
+ * }</pre>
+ * <p>
+ * The builder returned by {@link #get()} must not be shared with other threads, nor used after the next {@link #get()}
+ * invocation on the same thread.
+ *
+ * @param <B> the builder type
+ * @see BaseCloudEventBuilder#markTemplate()
+ * @see BaseCloudEventBuilder#reset()
+ */
+public final class ThreadLocalCloudEventBuilder<B extends BaseCloudEventBuilder<B, ?>> {
+
+    private final ThreadLocal<B> builders;
+
+    private ThreadLocalCloudEventBuilder(Supplier<B> templateFactory) {
+        this.builders = ThreadLocal.withInitial(() -> templateFactory.get().markTemplate());
+    }
+
+    /**
+     * @param templateFactory the factory of the template builder, invoked once per thread
+     * @param <B>             the builder type
+     * @return a new {@link ThreadLocalCloudEventBuilder}
+     */
+    public static <B extends BaseCloudEventBuilder<B, ?>> ThreadLocalCloudEventBuilder<B> of(Supplier<B> templateFactory) {
+        Objects.requireNonNull(templateFactory);
+        return new ThreadLocalCloudEventBuilder<>(templateFactory);
+    }
+
+    /**
+     * @return the builder of the current thread, reset to the template
+     */
+    public B get() {
+        return builders.get().reset();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.builder;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link IdGenerator} creating UUIDv7, using the 12 bits of {@code rand_a} as per-thread counter
+ * to guarantee the monotonicity of the ids generated in the same millisecond.
+ */
+final class UuidV7Generator implements IdGenerator {
+
+    static final UuidV7Generator INSTANCE = new UuidV7Generator();
+
+    private static final int COUNTER_BITS = 12;
+    private static final int COUNTER_MAX = (1 << COUNTER_BITS) - 1;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private UuidV7Generator() {
+    }
+
+    @Override
+    public String generateId() {
+        return nextUuid().toString();
+    }
+
+    UUID nextUuid() {
+        State state = STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long now = System.currentTimeMillis();
+        if (now > state.millis) {
+            state.millis = now;
+            // Start from a random value in the lower half, leaving room for the ids generated in the same millisecond
+            state.counter = random.nextInt(COUNTER_MAX >> 1);
+        } else if (state.counter < COUNTER_MAX) {
+            // Same millisecond, or the clock moved backwards
+            state.counter++;
+        } else {
+            // Counter exhausted, borrow the next millisecond
+            state.millis++;
+            state.counter = 0;
+        }
+
+        long msb = (state.millis << 16) | 0x7000L | state.counter;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static final class State {
+        private long millis = Long.MIN_VALUE;
+        private int counter;
+    }
+}
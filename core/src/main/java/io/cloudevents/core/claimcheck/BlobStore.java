@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.claimcheck;
+
+import io.cloudevents.CloudEventData;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Storage of event payloads offloaded by {@link ClaimCheck}.
+ * <p>
+ * The {@link URI} returned by {@link #store(CloudEventData)} is set as the
+ * {@link io.cloudevents.core.extensions.DatarefExtension#DATAREF} extension of the event,
+ * and it's later used to fetch the payload with {@link #fetch(URI)}.
+ * <p>
+ * Implementations must be thread safe.
+ *
+ * @see FileSystemBlobStore
+ */
+public interface BlobStore {
+
+    /**
+     * Store the provided payload.
+     *
+     * @param data the payload to store
+     * @return the reference to the stored payload
+     * @throws IOException if the payload cannot be stored
+     */
+    URI store(CloudEventData data) throws IOException;
+
+    /**
+     * Fetch the payload referenced by {@code ref}.
+     *
+     * @param ref the reference returned by {@link #store(CloudEventData)}
+     * @return the payload bytes
+     * @throws IOException if the payload cannot be fetched
+     */
+    byte[] fetch(URI ref) throws IOException;
+
+    /**
+     * @param ref a {@code dataref} value
+     * @return true if {@code ref} points to a payload managed by this store, false otherwise
+     */
+    boolean accepts(URI ref);
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.claimcheck;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.extensions.DatarefExtension;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.message.Encoding;
+import io.cloudevents.core.message.MessageReader;
+import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.message.StructuredMessageWriter;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Implementation of the <a href="https://github.com/cloudevents/spec/blob/v1.0/extensions/dataref.md">Claim Check Pattern</a>
+ * on top of a {@link BlobStore}.
+ * <p>
+ * When an event is written, a payload longer than the configured threshold is stored in the {@link BlobStore}
+ * and replaced by the {@link DatarefExtension#DATAREF} extension. When an event is read, a {@code dataref} accepted
+ * by the {@link BlobStore} is replaced by a {@link DatarefCloudEventData}, which fetches the payload only when it's accessed.
+ * <p>
+ * {@link #offloading(MessageWriter)} and {@link #resolving(MessageReader)} decorate the {@link MessageWriter}
+ * and {@link MessageReader} of any protocol binding:
+ * <pre>{@code
+ * ClaimCheck claimCheck = ClaimCheck.create(new FileSystemBlobStore(dir), 64 * 1024);
+ * claimCheck.offloading(KafkaMessageFactory.createWriter(topic)).writeBinary(event);
+ * CloudEvent received = claimCheck.resolving(KafkaMessageFactory.createReader(record)).toEvent();
+ * }</pre>
+ * Structured messages which are already serialized, like the ones read with {@link MessageReader#read(MessageWriter)},
+ * are passed through as they are.
+ */
+public final class ClaimCheck {
+
+    private final BlobStore store;
+    private final int threshold;
+
+    private ClaimCheck(BlobStore store, int threshold) {
+        this.store = store;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Create a new {@link ClaimCheck}.
+     *
+     * @param store     the store where to offload the payloads
+     * @param threshold the maximum length, in bytes, of a payload which is not offloaded
+     * @return the new {@link ClaimCheck}
+     */
+    public static ClaimCheck create(BlobStore store, int threshold) {
+        Objects.requireNonNull(store);
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must be positive or zero, got " + threshold);
+        }
+        return new ClaimCheck(store, threshold);
+    }
+
+    /**
+     * @return the store where the payloads are offloaded
+     */
+    public BlobStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return the maximum length, in bytes, of a payload which is not offloaded
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @param data the payload
+     * @return true if {@code data} should be stored in the {@link BlobStore}, false otherwise.
+     * A {@link DatarefCloudEventData} is never stored again: its reference is written as it is.
+     */
+    public boolean shouldOffload(CloudEventData data) {
+        return data != null && !(data instanceof DatarefCloudEventData) && data.length() > threshold;
+    }
+
+    /**
+     * Offload the payload of {@code event}, if it's longer than the threshold.
+     * <p>
+     * When the payload is a {@link DatarefCloudEventData}, like in an event resolved by this class and then forwarded,
+     * its reference is written back in the {@code dataref} extension, without fetching the payload.
+     *
+     * @param event the event to offload
+     * @return a copy of {@code event} with the {@code dataref} extension and without data,
+     * or {@code event} itself if its payload is not offloaded
+     * @throws CloudEventRWException if the payload cannot be stored
+     */
+    public CloudEvent offload(CloudEvent event) throws CloudEventRWException {
+        URI ref = offloadedRef(event.getData());
+        if (ref == null) {
+            return event;
+        }
+        return CloudEventBuilder.from(event)
+            .withoutData()
+            .withExtension(DatarefExtension.DATAREF, ref)
+            .build();
+    }
+
+    /**
+     * Like {@link #resolve(CloudEvent, CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     */
+    public CloudEvent resolve(CloudEvent event) throws CloudEventRWException {
+        return resolve(event, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Replace the {@code dataref} extension of {@code event} with a {@link DatarefCloudEventData},
+     * if the event has no data and the reference is accepted by the store.
+     *
+     * @param event  the event to resolve
+     * @param mapper the mapper to apply to the {@link DatarefCloudEventData}
+     * @return a copy of {@code event} with the resolved data, or {@code event} itself if there's nothing to resolve
+     */
+    public CloudEvent resolve(CloudEvent event, CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException {
+        if (event.getData() != null) {
+            return event;
+        }
+        URI ref = toAcceptedRef(event.getExtension(DatarefExtension.DATAREF));
+        if (ref == null) {
+            return event;
+        }
+        return CloudEventBuilder.from(event)
+            .withoutExtension(DatarefExtension.DATAREF)
+            .withData(mapper.map(new DatarefCloudEventData(store, ref)))
+            .build();
+    }
+
+    /**
+     * Decorate {@code writer}, offloading the payloads longer than the threshold.
+     *
+     * @param writer the writer to decorate
+     * @param <R>    the return value of the writer
+     * @return the decorated writer
+     */
+    public <R> MessageWriter<CloudEventWriter<R>, R> offloading(MessageWriter<? extends CloudEventWriter<R>, R> writer) {
+        Objects.requireNonNull(writer);
+        return new OffloadingMessageWriter<>(writer);
+    }
+
+    /**
+     * Decorate {@code reader}, resolving the {@code dataref} extension accepted by the store.
+     *
+     * @param reader the reader to decorate
+     * @return the decorated reader
+     */
+    public MessageReader resolving(MessageReader reader) {
+        Objects.requireNonNull(reader);
+        return new ResolvingMessageReader(reader);
+    }
+
+    private URI offloadedRef(CloudEventData data) {
+        if (data instanceof DatarefCloudEventData dataref) {
+            return dataref.getDataref();
+        }
+        return shouldOffload(data) ? store(data) : null;
+    }
+
+    private URI store(CloudEventData data) {
+        try {
+            return store.store(data);
+        } catch (IOException e) {
+            throw CloudEventRWException.newOther(e);
+        }
+    }
+
+    private URI toAcceptedRef(Object value) {
+        if (value == null) {
+            return null;
+        }
+        URI ref;
+        if (value instanceof URI uri) {
+            ref = uri;
+        } else {
+            try {
+                ref = URI.create(value.toString());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return store.accepts(ref) ? ref : null;
+    }
+
+    private final class OffloadingMessageWriter<R> implements MessageWriter<CloudEventWriter<R>, R> {
+
+        private final MessageWriter<? extends CloudEventWriter<R>, R> delegate;
+
+        private OffloadingMessageWriter(MessageWriter<? extends CloudEventWriter<R>, R> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CloudEventWriter<R> create(SpecVersion version) throws CloudEventRWException {
+            return new OffloadingWriter<>(delegate.create(version));
+        }
+
+        @Override
+        public R setEvent(EventFormat format, byte[] value) throws CloudEventRWException {
+            return delegate.setEvent(format, value);
+        }
+
+        @Override
+        public R writeStructured(CloudEvent event, String format) {
+            return delegate.writeStructured(offload(event), format);
+        }
+
+        @Override
+        public R writeStructured(CloudEvent event, EventFormat format) {
+            return delegate.writeStructured(offload(event), format);
+        }
+
+        @Override
+        public R writeBinary(CloudEvent event) {
+            return delegate.writeBinary(offload(event));
+        }
+    }
+
+    private final class OffloadingWriter<R> extends ForwardingWriter<R> {
+
+        private OffloadingWriter(CloudEventWriter<R> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public R end(CloudEventData data) throws CloudEventRWException {
+            URI ref = offloadedRef(data);
+            if (ref != null) {
+                delegate.withContextAttribute(DatarefExtension.DATAREF, ref);
+                return delegate.end();
+            }
+            return delegate.end(data);
+        }
+    }
+
+    private final class ResolvingMessageReader implements MessageReader {
+
+        private final MessageReader delegate;
+
+        private ResolvingMessageReader(MessageReader delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <W extends CloudEventWriter<R>, R> R read(CloudEventWriterFactory<W, R> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+            return delegate.read(version -> new ResolvingWriter<>(writerFactory.create(version), mapper), mapper);
+        }
+
+        @Override
+        public <R> R read(StructuredMessageWriter<R> writer) throws CloudEventRWException, IllegalStateException {
+            return delegate.read(writer);
+        }
+
+        @Override
+        public Encoding getEncoding() {
+            return delegate.getEncoding();
+        }
+
+        @Override
+        public Map<String, String> peekAttributes(Set<String> names) throws CloudEventRWException, IllegalStateException {
+            // The attributes don't depend on the data, so there's nothing to resolve
+            return delegate.peekAttributes(names);
+        }
+
+        @Override
+        public CloudEvent toEvent(CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+            return resolve(delegate.toEvent(mapper), mapper);
+        }
+    }
+
+    private final class ResolvingWriter<R> extends ForwardingWriter<R> {
+
+        private final CloudEventDataMapper<? extends CloudEventData> mapper;
+        private Object dataref;
+
+        private ResolvingWriter(CloudEventWriter<R> delegate, CloudEventDataMapper<? extends CloudEventData> mapper) {
+            super(delegate);
+            this.mapper = mapper;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+            if (DatarefExtension.DATAREF.equals(name)) {
+                this.dataref = value;
+                return this;
+            }
+            return super.withContextAttribute(name, value);
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, URI value) throws CloudEventRWException {
+            if (DatarefExtension.DATAREF.equals(name)) {
+                this.dataref = value;
+                return this;
+            }
+            return super.withContextAttribute(name, value);
+        }
+
+        @Override
+        public R end(CloudEventData data) throws CloudEventRWException {
+            if (data != null) {
+                flushDataref();
+                return delegate.end(data);
+            }
+            return end();
+        }
+
+        @Override
+        public R end() throws CloudEventRWException {
+            URI ref = toAcceptedRef(this.dataref);
+            if (ref != null) {
+                return delegate.end(mapper.map(new DatarefCloudEventData(store, ref)));
+            }
+            flushDataref();
+            return delegate.end();
+        }
+
+        private void flushDataref() {
+            if (this.dataref instanceof URI uri) {
+                delegate.withContextAttribute(DatarefExtension.DATAREF, uri);
+            } else if (this.dataref != null) {
+                delegate.withContextAttribute(DatarefExtension.DATAREF, this.dataref.toString());
+            }
+        }
+    }
+
+    private static class ForwardingWriter<R> implements CloudEventWriter<R> {
+
+        protected final CloudEventWriter<R> delegate;
+
+        private ForwardingWriter(CloudEventWriter<R> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+            delegate.withContextAttribute(name, value);
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, URI value) throws CloudEventRWException {
+            delegate.withContextAttribute(name, value);
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, OffsetDateTime value) throws CloudEventRWException {
+            delegate.withContextAttribute(name, value);
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, Number value) throws CloudEventRWException {
+            delegate.withContextAttribute(name, value);
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, Integer value) throws CloudEventRWException {
+            delegate.withContextAttribute(name, value);
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
+            delegate.withContextAttribute(name, value);
+            return this;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, byte[] value) throws CloudEventRWException {
+            delegate.withContextAttribute(name, value);
+            return this;
+        }
+
+        @Override
+        public R end(CloudEventData data) throws CloudEventRWException {
+            return delegate.end(data);
+        }
+
+        @Override
+        public R end() throws CloudEventRWException {
+            return delegate.end();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.claimcheck;
+
+import io.cloudevents.CloudEventData;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Objects;
+
+/**
+ * {@link CloudEventData} referencing a payload kept in a {@link BlobStore}.
+ * <p>
+ * The payload is fetched from the store on the first call to {@link #toBytes()} (or any method deriving from it),
+ * then it's cached in this instance.
+ */
+public final class DatarefCloudEventData implements CloudEventData {
+
+    private final BlobStore store;
+    private final URI dataref;
+    private volatile byte[] value;
+
+    /**
+     * @param store   the store containing the payload
+     * @param dataref the reference to the payload
+     */
+    public DatarefCloudEventData(BlobStore store, URI dataref) {
+        Objects.requireNonNull(store);
+        Objects.requireNonNull(dataref);
+        this.store = store;
+        this.dataref = dataref;
+    }
+
+    /**
+     * @return the reference to the payload
+     */
+    public URI getDataref() {
+        return dataref;
+    }
+
+    /**
+     * @return true if the payload was already fetched from the store, false otherwise
+     */
+    public boolean isFetched() {
+        return value != null;
+    }
+
+    /**
+     * @return the payload, fetching it from the store if it wasn't fetched yet
+     * @throws CloudEventRWException if the payload cannot be fetched
+     */
+    @Override
+    public byte[] toBytes() {
+        byte[] bytes = this.value;
+        if (bytes == null) {
+            try {
+                bytes = this.store.fetch(this.dataref);
+            } catch (IOException e) {
+                throw CloudEventRWException.newDataConversion(e, URI.class.getName(), "byte[]");
+            }
+            this.value = bytes;
+        }
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DatarefCloudEventData that = (DatarefCloudEventData) o;
+        return Objects.equals(dataref, that.dataref);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataref);
+    }
+
+    @Override
+    public String toString() {
+        return "DatarefCloudEventData{" +
+            "dataref=" + dataref +
+            '}';
+    }
+}
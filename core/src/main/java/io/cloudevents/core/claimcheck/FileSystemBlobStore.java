@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.claimcheck;
+
+import io.cloudevents.CloudEventData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * {@link BlobStore} keeping every payload in a file of a local directory, referenced with a {@code file:} {@link URI}.
+ * <p>
+ * The directory is usually shared between producers and consumers, for example a network file system mount.
+ * Payloads are streamed to disk with {@link CloudEventData#writeTo(OutputStream)}, and only files inside
+ * the directory of this store can be fetched.
+ */
+public final class FileSystemBlobStore implements BlobStore {
+
+    private final Path directory;
+
+    /**
+     * @param directory the directory where the payloads are stored. It's created if it doesn't exist.
+     * @throws IOException if the directory cannot be created
+     */
+    public FileSystemBlobStore(Path directory) throws IOException {
+        Objects.requireNonNull(directory);
+        this.directory = Files.createDirectories(directory).toRealPath();
+    }
+
+    /**
+     * @return the directory where the payloads are stored
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public URI store(CloudEventData data) throws IOException {
+        Path file = this.directory.resolve(UUID.randomUUID().toString());
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            data.writeTo(out);
+        }
+        return file.toUri();
+    }
+
+    @Override
+    public byte[] fetch(URI ref) throws IOException {
+        if (!accepts(ref)) {
+            throw new IOException("Reference " + ref + " is not managed by this store");
+        }
+        return Files.readAllBytes(Path.of(ref));
+    }
+
+    @Override
+    public boolean accepts(URI ref) {
+        if (!"file".equals(ref.getScheme())) {
+            return false;
+        }
+        try {
+            Path file = Path.of(ref).normalize();
+            return file.getParent() != null && file.getParent().equals(this.directory);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileSystemBlobStore{" +
+            "directory=" + directory +
+            '}';
+    }
+}
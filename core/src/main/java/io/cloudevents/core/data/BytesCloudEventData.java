@@ -2,47 +2,98 @@ package io.cloudevents.core.data;
 
 import io.cloudevents.CloudEventData;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
 /**
- * An implementation of {@link CloudEventData} that wraps a byte array.
+ * An implementation of {@link CloudEventData} that wraps a byte array, or a range of it.
+ * <p>
+ * When this instance wraps a range of the array, {@link #toBytes()} copies the range in a new array,
+ * while {@link #toByteBuffer()}, {@link #toInputStream()} and {@link #writeTo(OutputStream)} don't copy the payload.
  */
 public class BytesCloudEventData implements CloudEventData {
 
     private final byte[] value;
+    private final int offset;
+    private final int length;
 
     /**
      * @param value the bytes to wrap
      * @deprecated use {@link BytesCloudEventData#wrap(byte[])}
      */
     public BytesCloudEventData(byte[] value) {
+        this(value, 0, Objects.requireNonNull(value).length);
+    }
+
+    private BytesCloudEventData(byte[] value, int offset, int length) {
         Objects.requireNonNull(value);
+        Objects.checkFromIndexSize(offset, length, value.length);
         this.value = value;
+        this.offset = offset;
+        this.length = length;
     }
 
     @Override
     public byte[] toBytes() {
-        return this.value;
+        if (this.offset == 0 && this.length == this.value.length) {
+            return this.value;
+        }
+        return Arrays.copyOfRange(this.value, this.offset, this.offset + this.length);
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(this.value, this.offset, this.length).slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(this.value, this.offset, this.length);
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(this.value, this.offset, this.length);
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (o == null) return false;
+        if (getClass() != o.getClass()) {
+            // Other byte views, like the data of the events allocated in an EventArena, compare their content with this one
+            return !(o instanceof BytesCloudEventData) && o instanceof CloudEventData && o.equals(this);
+        }
         BytesCloudEventData that = (BytesCloudEventData) o;
-        return Arrays.equals(value, that.value);
+        return Arrays.equals(
+            value, offset, offset + length,
+            that.value, that.offset, that.offset + that.length
+        );
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(value);
+        int result = 1;
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + value[i];
+        }
+        return result;
     }
 
     @Override
     public String toString() {
         return "BytesCloudEventData{" +
-            "value=" + Arrays.toString(value) +
+            "value=" + Arrays.toString(toBytes()) +
             '}';
     }
 
@@ -53,4 +104,35 @@ public class BytesCloudEventData implements CloudEventData {
     public static BytesCloudEventData wrap(byte[] value) {
         return new BytesCloudEventData(value);
     }
+
+    /**
+     * Wrap a range of the provided byte array, without copying it.
+     *
+     * @param value  byte array to wrap
+     * @param offset the offset of the range to wrap
+     * @param length the length of the range to wrap
+     * @return the range of the byte array wrapped in a {@link BytesCloudEventData}, which implements {@link CloudEventData}.
+     * @throws IndexOutOfBoundsException if the range is out of the array bounds
+     */
+    public static BytesCloudEventData wrap(byte[] value, int offset, int length) {
+        return new BytesCloudEventData(value, offset, length);
+    }
+
+    /**
+     * Wrap the remaining bytes of the provided {@link ByteBuffer}. If the buffer is backed by an accessible array,
+     * the array is wrapped without copying it, otherwise the remaining bytes are copied.
+     * <p>
+     * This method doesn't change the position of {@code buffer}.
+     *
+     * @param buffer buffer to wrap
+     * @return the remaining bytes of the buffer wrapped in a {@link BytesCloudEventData}, which implements {@link CloudEventData}.
+     */
+    public static BytesCloudEventData wrap(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new BytesCloudEventData(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return new BytesCloudEventData(copy);
+    }
 }
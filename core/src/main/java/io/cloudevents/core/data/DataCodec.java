@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.data;
+
+import io.cloudevents.CloudEventData;
+
+/**
+ * Encoder of Java objects to event data, used by {@link io.cloudevents.core.builder.CloudEventBuilder#withData(Object)}.
+ * <p>
+ * Codecs are discovered with {@link java.util.ServiceLoader} and resolved by
+ * {@link io.cloudevents.core.provider.DataCodecProvider} from the Java type of the data and, optionally, its content type.
+ * Implementations must be thread safe.
+ *
+ * @param <T> the type of the objects this codec can encode, including their subtypes
+ */
+public interface DataCodec<T> {
+
+    /**
+     * @return the type of the objects this codec can encode, including their subtypes
+     */
+    Class<T> getJavaType();
+
+    /**
+     * @return the content type of the data produced by {@link #encode(Object)}
+     */
+    String getContentType();
+
+    /**
+     * Check if this codec can produce data of the provided content type. The content type parameters are ignored.
+     * <p>
+     * The default implementation compares, ignoring the case, {@code contentType} with {@link #getContentType()}.
+     *
+     * @param contentType the content type to check
+     * @return true if this codec can produce data of the provided content type
+     */
+    default boolean supportsContentType(String contentType) {
+        int i = contentType.indexOf(';');
+        String mediaType = (i == -1 ? contentType : contentType.substring(0, i)).trim();
+        return mediaType.equalsIgnoreCase(getContentType());
+    }
+
+    /**
+     * @param value the object to encode
+     * @return the encoded object
+     * @throws Exception when something goes wrong during the encoding
+     */
+    byte[] encode(T value) throws Exception;
+
+    /**
+     * Wrap the provided value in a {@link CloudEventData}, which encodes it on the first access and memoizes the result.
+     *
+     * @param value the object to wrap
+     * @return the wrapped value
+     */
+    default PojoCloudEventData<T> wrap(T value) {
+        return PojoCloudEventData.wrap(value, this::encode);
+    }
+}
@@ -29,7 +29,7 @@ public class PojoCloudEventData<T> implements CloudEventData {
     }
 
     private final T value;
-    private byte[] memoizedValue;
+    private volatile byte[] memoizedValue;
     private final ToBytes<T> mapper;
 
     private PojoCloudEventData(T value, ToBytes<T> mapper) {
@@ -53,16 +53,29 @@ public class PojoCloudEventData<T> implements CloudEventData {
         return value;
     }
 
+    /**
+     * Returns the serialized POJO. The POJO is serialized only on the first invocation,
+     * even when this method is invoked concurrently, and the result is reused afterwards.
+     *
+     * @return the serialized POJO.
+     */
     @Override
     public byte[] toBytes() {
-        if (this.memoizedValue == null) {
-            try {
-                this.memoizedValue = mapper.convert(this.value);
-            } catch (Exception e) {
-                throw CloudEventRWException.newDataConversion(e, value.getClass().toString(), "byte[]");
+        byte[] bytes = this.memoizedValue;
+        if (bytes == null) {
+            synchronized (this) {
+                bytes = this.memoizedValue;
+                if (bytes == null) {
+                    try {
+                        bytes = mapper.convert(this.value);
+                    } catch (Exception e) {
+                        throw CloudEventRWException.newDataConversion(e, value.getClass().toString(), "byte[]");
+                    }
+                    this.memoizedValue = bytes;
+                }
             }
         }
-        return this.memoizedValue;
+        return bytes;
     }
 
     @Override
@@ -0,0 +1,735 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.dedup;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.message.MessageReader;
+import io.cloudevents.lang.Nullable;
+import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Memory bounded filter of duplicated events, identified by their {@code source} and {@code id}.
+ * <p>
+ * The filter remembers the events seen in the last time window with two structures:
+ * <ul>
+ *     <li>A rotating Bloom filter made of two generations. Every generation covers a time window,
+ *     or the configured expected insertions if they're reached earlier. When the current generation is full,
+ *     the previous one is cleared and reused as current, so an event is remembered for at least one window.</li>
+ *     <li>An exact cache of the most recently processed events, which recognizes their duplicates with certainty.</li>
+ * </ul>
+ * An event found only in the Bloom filter is reported as {@link Result#PROBABLE_DUPLICATE}: it may be a false positive,
+ * whose probability is reported by {@link #getEstimatedFalsePositiveRate()}. Probable duplicates are dropped only
+ * when enabled with {@link Builder#dropProbableDuplicates(boolean)}.
+ * The memory used by the filter is fixed when it's built, and can be allocated off heap with {@link Builder#offHeap(boolean)}.
+ * <p>
+ * Checking an event with {@link #contains(String, String)} doesn't remember it: the consumer must call
+ * {@link #markProcessed(String, String)} once the event was handled successfully, so an event whose processing failed
+ * is not dropped when it's delivered again:
+ * <pre>{@code
+ * for (ConsumerRecord<String, CloudEvent> record : consumer.poll(timeout)) {
+ *     CloudEvent event = record.value();
+ *     if (event != null && deduplicationFilter.test(event)) {
+ *         handle(event);
+ *         deduplicationFilter.markProcessed(event);
+ *     }
+ * }
+ * }</pre>
+ * The filter is thread safe: checks and updates don't lock, only the rotation of the Bloom filter generations does.
+ * It implements {@link Predicate}, returning false for the events to drop.
+ * Consumers of {@link MessageReader} can use {@link #filter(MessageReader)}, which skips the decoding of duplicates.
+ */
+public final class DeduplicationFilter implements Predicate<CloudEvent> {
+
+    /**
+     * Result of {@link #contains(String, String)}.
+     */
+    public enum Result {
+        /**
+         * The event was not seen before.
+         */
+        NEW,
+        /**
+         * The event was seen before.
+         */
+        DUPLICATE,
+        /**
+         * The event was probably seen before, but it may be a false positive of the Bloom filter.
+         */
+        PROBABLE_DUPLICATE
+    }
+
+    private static final Set<String> KEY_ATTRIBUTES = Set.of("source", "id");
+
+    private final int expectedInsertions;
+    private final long bitSize;
+    private final int numHashFunctions;
+    private final long windowMillis;
+    private final Clock clock;
+    private final boolean dropProbableDuplicates;
+    private final ExactCache exact;
+
+    // Replaced as a whole on every rotation, which is the only operation taking the lock
+    private volatile Generations generations;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder probableDuplicates = new LongAdder();
+    private final LongAdder rotations = new LongAdder();
+
+    private DeduplicationFilter(Builder builder) {
+        this.expectedInsertions = builder.expectedInsertions;
+        this.windowMillis = builder.window.toMillis();
+        this.clock = builder.clock;
+        this.dropProbableDuplicates = builder.dropProbableDuplicates;
+        this.exact = new ExactCache(builder.exactCapacity);
+
+        this.bitSize = optimalNumOfBits(builder.expectedInsertions, builder.falsePositiveRate);
+        this.numHashFunctions = optimalNumOfHashFunctions(builder.expectedInsertions, bitSize);
+        this.generations = new Generations(
+            new BloomGeneration(BitStore.create(bitSize, builder.offHeap)),
+            new BloomGeneration(BitStore.create(bitSize, builder.offHeap)),
+            0,
+            clock.millis()
+        );
+    }
+
+    /**
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Check if the event identified by {@code source} and {@code id} was already processed, without remembering it.
+     *
+     * @param source the event source
+     * @param id     the event id
+     * @return the result of the check
+     */
+    public Result contains(String source, String id) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(id);
+        long h1 = hash(source, id);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        Generations generations = currentGenerations();
+        this.checks.increment();
+
+        Long seenInGeneration = this.exact.get(new EventKey(source, id));
+        if (seenInGeneration != null && seenInGeneration >= generations.number - 1) {
+            this.duplicates.increment();
+            return Result.DUPLICATE;
+        }
+        if (generations.current.mightContain(h1, h2) || generations.previous.mightContain(h1, h2)) {
+            this.probableDuplicates.increment();
+            return Result.PROBABLE_DUPLICATE;
+        }
+        return Result.NEW;
+    }
+
+    /**
+     * Like {@link #contains(String, String)}, using the {@code source} and {@code id} of {@code event}.
+     *
+     * @param event the event to check
+     * @return the result of the check
+     */
+    public Result contains(CloudEvent event) {
+        return contains(event.getSource().toString(), event.getId());
+    }
+
+    /**
+     * Remember the event identified by {@code source} and {@code id}, after it was handled successfully.
+     *
+     * @param source the event source
+     * @param id     the event id
+     */
+    public void markProcessed(String source, String id) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(id);
+        long h1 = hash(source, id);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        Generations generations = currentGenerations();
+        this.exact.put(new EventKey(source, id), generations.number);
+        if (generations.current.put(h1, h2) >= this.expectedInsertions) {
+            synchronized (this) {
+                // Another thread may have rotated in the meantime
+                if (this.generations == generations) {
+                    rotate(generations, 1, clock.millis());
+                }
+            }
+        }
+    }
+
+    /**
+     * Like {@link #markProcessed(String, String)}, using the {@code source} and {@code id} of {@code event}.
+     *
+     * @param event the handled event
+     */
+    public void markProcessed(CloudEvent event) {
+        markProcessed(event.getSource().toString(), event.getId());
+    }
+
+    /**
+     * @param event the event to check
+     * @return false if the event is a duplicate, or a probable duplicate when {@link Builder#dropProbableDuplicates(boolean)}
+     * is enabled, true otherwise
+     */
+    @Override
+    public boolean test(CloudEvent event) {
+        return !shouldDrop(contains(event));
+    }
+
+    /**
+     * Like {@link #filter(MessageReader, CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     */
+    @Nullable
+    public CloudEvent filter(MessageReader reader) throws CloudEventRWException, IllegalStateException {
+        return filter(reader, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Convert {@code reader} to a {@link CloudEvent}, unless it's dropped as in {@link #test(CloudEvent)}.
+     * The event is not remembered: call {@link #markProcessed(CloudEvent)} once it was handled.
+     * <p>
+     * Messages are checked reading only their {@code source} and {@code id} attributes with
+     * {@link MessageReader#peekAttributes(Set)}, so only the events which are not dropped are decoded.
+     *
+     * @param reader the message to convert
+     * @param mapper the mapper to use to map the data, if any.
+     * @return the event, or null if the message is dropped
+     * @throws CloudEventRWException if something went wrong during the read.
+     * @throws IllegalStateException if the message has an unknown encoding.
+     */
+    @Nullable
+    public CloudEvent filter(MessageReader reader, CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+        Map<String, String> key = reader.peekAttributes(KEY_ATTRIBUTES);
+        String source = key.get("source");
+        String id = key.get("id");
+        if (source != null && id != null && shouldDrop(contains(source, id))) {
+            return null;
+        }
+        // Events missing the key are rejected while decoding
+        return reader.toEvent(mapper);
+    }
+
+    private boolean shouldDrop(Result result) {
+        return result == Result.DUPLICATE || (result == Result.PROBABLE_DUPLICATE && this.dropProbableDuplicates);
+    }
+
+    /**
+     * @return the number of events checked
+     */
+    public long getChecks() {
+        return checks.sum();
+    }
+
+    /**
+     * @return the number of events reported as {@link Result#DUPLICATE}
+     */
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    /**
+     * @return the number of events reported as {@link Result#PROBABLE_DUPLICATE}, which is an upper bound of the false positives
+     */
+    public long getProbableDuplicates() {
+        return probableDuplicates.sum();
+    }
+
+    /**
+     * @return the number of rotations of the Bloom filter generations
+     */
+    public long getRotations() {
+        return rotations.sum();
+    }
+
+    /**
+     * @return the number of events in the exact cache
+     */
+    public int getExactSize() {
+        return exact.size();
+    }
+
+    /**
+     * @return the fraction of bits set in the current generation of the Bloom filter, between 0 and 1
+     */
+    public double getOccupancy() {
+        return generations.current.occupancy();
+    }
+
+    /**
+     * @return the estimated probability that a new event is reported as {@link Result#PROBABLE_DUPLICATE},
+     * computed from the occupancy of both generations of the Bloom filter
+     */
+    public double getEstimatedFalsePositiveRate() {
+        Generations generations = this.generations;
+        double currentRate = Math.pow(generations.current.occupancy(), numHashFunctions);
+        double previousRate = Math.pow(generations.previous.occupancy(), numHashFunctions);
+        return 1 - (1 - currentRate) * (1 - previousRate);
+    }
+
+    /**
+     * @return the number of bits of each generation of the Bloom filter
+     */
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    /**
+     * @return the number of hash functions of the Bloom filter
+     */
+    public int getNumHashFunctions() {
+        return numHashFunctions;
+    }
+
+    /**
+     * Forget all the events seen so far. The metrics are not reset.
+     */
+    public synchronized void clear() {
+        Generations generations = this.generations;
+        generations.current.clear();
+        generations.previous.clear();
+        this.exact.clear();
+        this.generations = new Generations(generations.current, generations.previous, generations.number, clock.millis());
+    }
+
+    private Generations currentGenerations() {
+        Generations generations = this.generations;
+        long now = clock.millis();
+        if (now - generations.startMillis < this.windowMillis) {
+            return generations;
+        }
+        synchronized (this) {
+            generations = this.generations;
+            long elapsed = now - generations.startMillis;
+            if (elapsed >= this.windowMillis) {
+                // After two windows of inactivity, both generations are stale
+                rotate(generations, elapsed >= 2 * this.windowMillis ? 2 : 1, now);
+            }
+            return this.generations;
+        }
+    }
+
+    private void rotate(Generations generations, int times, long now) {
+        assert Thread.holdsLock(this);
+        BloomGeneration current = generations.current;
+        BloomGeneration previous = generations.previous;
+        for (int i = 0; i < times; i++) {
+            BloomGeneration reused = previous;
+            reused.clear();
+            previous = current;
+            current = reused;
+        }
+        this.generations = new Generations(current, previous, generations.number + times, now);
+        this.rotations.add(times);
+    }
+
+    static long optimalNumOfBits(long n, double p) {
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        // Round up to a whole number of words
+        return Math.max(64, (bits + 63) & ~63L);
+    }
+
+    static int optimalNumOfHashFunctions(long n, long m) {
+        return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    private static long hash(String source, String id) {
+        // FNV-1a over the UTF-16 chars, with a separator between source and id
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < source.length(); i++) {
+            h = (h ^ source.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ 0xFFFF) * 0x100000001b3L;
+        for (int i = 0; i < id.length(); i++) {
+            h = (h ^ id.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        // MurmurHash3 fmix64
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Immutable snapshot of the Bloom filter generations, so every check reads a consistent pair.
+     */
+    private static final class Generations {
+
+        private final BloomGeneration current;
+        private final BloomGeneration previous;
+        private final long number;
+        private final long startMillis;
+
+        private Generations(BloomGeneration current, BloomGeneration previous, long number, long startMillis) {
+            this.current = current;
+            this.previous = previous;
+            this.number = number;
+            this.startMillis = startMillis;
+        }
+    }
+
+    private final class BloomGeneration {
+
+        private final BitStore bits;
+        private final LongAdder bitCount = new LongAdder();
+        private final AtomicInteger insertions = new AtomicInteger();
+
+        private BloomGeneration(BitStore bits) {
+            this.bits = bits;
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            long size = bits.size();
+            long combined = h1;
+            for (int i = 0; i < numHashFunctions; i++) {
+                if (!bits.get(Long.remainderUnsigned(combined, size))) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+
+        /**
+         * @return the insertions in this generation, including this one
+         */
+        private int put(long h1, long h2) {
+            long size = bits.size();
+            long combined = h1;
+            for (int i = 0; i < numHashFunctions; i++) {
+                if (bits.set(Long.remainderUnsigned(combined, size))) {
+                    bitCount.increment();
+                }
+                combined += h2;
+            }
+            return insertions.incrementAndGet();
+        }
+
+        private double occupancy() {
+            return (double) bitCount.sum() / bits.size();
+        }
+
+        private void clear() {
+            bits.clear();
+            bitCount.reset();
+            insertions.set(0);
+        }
+    }
+
+    private static abstract class BitStore {
+
+        static BitStore create(long bits, boolean offHeap) {
+            long words = bits >>> 6;
+            if (words > Integer.MAX_VALUE / 8) {
+                throw new IllegalArgumentException("Bloom filter too large: " + bits + " bits");
+            }
+            return offHeap ? new OffHeapBitStore((int) words) : new HeapBitStore((int) words);
+        }
+
+        abstract long word(int index);
+
+        abstract boolean compareAndSetWord(int index, long expected, long value);
+
+        abstract void clearWord(int index);
+
+        abstract int words();
+
+        long size() {
+            return (long) words() << 6;
+        }
+
+        boolean get(long bit) {
+            return (word((int) (bit >>> 6)) & (1L << bit)) != 0;
+        }
+
+        /**
+         * @return true if the bit changed
+         */
+        boolean set(long bit) {
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = word(index);
+                if ((word & mask) != 0) {
+                    return false;
+                }
+            } while (!compareAndSetWord(index, word, word | mask));
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < words(); i++) {
+                clearWord(i);
+            }
+        }
+    }
+
+    private static final class HeapBitStore extends BitStore {
+
+        private final AtomicLongArray data;
+
+        private HeapBitStore(int words) {
+            this.data = new AtomicLongArray(words);
+        }
+
+        @Override
+        long word(int index) {
+            return data.get(index);
+        }
+
+        @Override
+        boolean compareAndSetWord(int index, long expected, long value) {
+            return data.compareAndSet(index, expected, value);
+        }
+
+        @Override
+        void clearWord(int index) {
+            data.set(index, 0);
+        }
+
+        @Override
+        int words() {
+            return data.length();
+        }
+    }
+
+    private static final class OffHeapBitStore extends BitStore {
+
+        private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+        private final ByteBuffer data;
+        private final int words;
+
+        private OffHeapBitStore(int words) {
+            // Atomic access requires the words to be aligned
+            this.data = ByteBuffer.allocateDirect(words * 8 + 7).alignedSlice(8);
+            this.words = words;
+        }
+
+        @Override
+        long word(int index) {
+            return (long) WORDS.getVolatile(data, index << 3);
+        }
+
+        @Override
+        boolean compareAndSetWord(int index, long expected, long value) {
+            return WORDS.compareAndSet(data, index << 3, expected, value);
+        }
+
+        @Override
+        void clearWord(int index) {
+            WORDS.setVolatile(data, index << 3, 0L);
+        }
+
+        @Override
+        int words() {
+            return words;
+        }
+    }
+
+    private record EventKey(String source, String id) {
+    }
+
+    /**
+     * Exact cache of the most recently processed events, mapping them to the generation they were processed in.
+     * The oldest entries are evicted first, when the cache exceeds its capacity.
+     */
+    private static final class ExactCache {
+
+        private final int capacity;
+        private final ConcurrentHashMap<EventKey, Long> entries = new ConcurrentHashMap<>();
+        private final Queue<EventKey> insertionOrder = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private ExactCache(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private Long get(EventKey key) {
+            return entries.get(key);
+        }
+
+        private void put(EventKey key, long generation) {
+            if (capacity == 0) {
+                return;
+            }
+            if (entries.put(key, generation) == null) {
+                insertionOrder.add(key);
+                if (size.incrementAndGet() > capacity) {
+                    evict();
+                }
+            }
+        }
+
+        private void evict() {
+            while (size.get() > capacity) {
+                EventKey eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    return;
+                }
+                if (entries.remove(eldest) != null) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+
+        private int size() {
+            return size.get();
+        }
+
+        private void clear() {
+            EventKey key;
+            while ((key = insertionOrder.poll()) != null) {
+                if (entries.remove(key) != null) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder of {@link DeduplicationFilter}.
+     */
+    public static final class Builder {
+
+        private int expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.001;
+        private Duration window = Duration.ofMinutes(10);
+        private int exactCapacity = 10_000;
+        private boolean offHeap = false;
+        private boolean dropProbableDuplicates = false;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * @param expectedInsertions the number of events expected in a time window, sizing every Bloom filter generation.
+         *                           A generation is rotated earlier if it reaches this number of events. Default: 100000.
+         * @return self
+         */
+        public Builder expectedInsertions(int expectedInsertions) {
+            if (expectedInsertions <= 0) {
+                throw new IllegalArgumentException("expectedInsertions must be positive, got " + expectedInsertions);
+            }
+            this.expectedInsertions = expectedInsertions;
+            return this;
+        }
+
+        /**
+         * @param falsePositiveRate the desired false positive probability of a full Bloom filter generation. Default: 0.001.
+         * @return self
+         */
+        public Builder falsePositiveRate(double falsePositiveRate) {
+            if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+                throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1, got " + falsePositiveRate);
+            }
+            this.falsePositiveRate = falsePositiveRate;
+            return this;
+        }
+
+        /**
+         * @param window the time window covered by every Bloom filter generation. Default: 10 minutes.
+         * @return self
+         */
+        public Builder window(Duration window) {
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("window must be positive, got " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * @param exactCapacity the number of most recent events remembered exactly. Default: 10000.
+         * @return self
+         */
+        public Builder exactCapacity(int exactCapacity) {
+            if (exactCapacity < 0) {
+                throw new IllegalArgumentException("exactCapacity must be positive or zero, got " + exactCapacity);
+            }
+            this.exactCapacity = exactCapacity;
+            return this;
+        }
+
+        /**
+         * @param offHeap true to allocate the Bloom filter generations in direct buffers. Default: false.
+         * @return self
+         */
+        public Builder offHeap(boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
+        /**
+         * @param dropProbableDuplicates true to drop the {@link Result#PROBABLE_DUPLICATE} events too,
+         *                               accepting to lose the false positives of the Bloom filter. Default: false.
+         * @return self
+         */
+        public Builder dropProbableDuplicates(boolean dropProbableDuplicates) {
+            this.dropProbableDuplicates = dropProbableDuplicates;
+            return this;
+        }
+
+        /**
+         * @param clock the clock used to rotate the Bloom filter generations. Default: {@link Clock#systemUTC()}.
+         * @return self
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock);
+            return this;
+        }
+
+        /**
+         * @return the new {@link DeduplicationFilter}
+         */
+        public DeduplicationFilter build() {
+            return new DeduplicationFilter(this);
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package io.cloudevents.core.format;
 
+import io.cloudevents.rw.CloudEventRWException;
+
 /**
  * Exception representing a deserialization error while using an {@link EventFormat}.
  */
@@ -27,4 +29,15 @@ public class EventDeserializationException extends RuntimeException {
     public EventDeserializationException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Skip filling the stack trace when running inside {@link CloudEventRWException#withoutStackTraces(java.util.function.Supplier)}.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (CloudEventRWException.isStackTraceDisabled()) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
 }
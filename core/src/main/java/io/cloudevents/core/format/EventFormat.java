@@ -19,10 +19,21 @@ package io.cloudevents.core.format;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.impl.ByteBufferOutputStream;
+import io.cloudevents.core.message.impl.AttributesCollector;
 import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -47,6 +58,53 @@ public interface EventFormat {
      */
     byte[] serialize(CloudEvent event) throws EventSerializationException;
 
+    /**
+     * Serialize a {@link CloudEvent} to an {@link OutputStream}. The stream is not closed.
+     * <p>
+     * The default implementation writes the result of {@link #serialize(CloudEvent)}:
+     * implementations should override it to write the event without the intermediate byte array.
+     *
+     * @param event the event to serialize.
+     * @param out   the stream to write to.
+     * @throws EventSerializationException if something goes wrong during serialization, including I/O errors.
+     */
+    default void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        byte[] bytes = serialize(event);
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Serialize a {@link CloudEvent} to a {@link ByteBuffer}, starting from its position.
+     * <p>
+     * The position of the buffer is advanced by the number of written bytes. If the buffer has not enough remaining space,
+     * an {@link EventSerializationException} is thrown and the buffer position is left unchanged,
+     * although the bytes after the position may have been overwritten.
+     * <p>
+     * The default implementation writes to the buffer through {@link #serialize(CloudEvent, OutputStream)}.
+     *
+     * @param event  the event to serialize.
+     * @param buffer the buffer to write to.
+     * @return the number of written bytes.
+     * @throws EventSerializationException if something goes wrong during serialization, or if the buffer is too small.
+     */
+    default int serialize(CloudEvent event, ByteBuffer buffer) throws EventSerializationException {
+        int start = buffer.position();
+        try {
+            serialize(event, new ByteBufferOutputStream(buffer));
+        } catch (EventSerializationException e) {
+            buffer.position(start);
+            throw e;
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw new EventSerializationException(e);
+        }
+        return buffer.position() - start;
+    }
+
     /**
      * Like {@link #deserialize(byte[], CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
      *
@@ -66,6 +124,124 @@ public interface EventFormat {
      */
     CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException;
 
+    /**
+     * Like {@link #deserialize(ByteBuffer, CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     *
+     * @see #deserialize(ByteBuffer, CloudEventDataMapper)
+     */
+    default CloudEvent deserialize(ByteBuffer buffer) throws EventDeserializationException {
+        return this.deserialize(buffer, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Deserialize the remaining bytes of a {@link ByteBuffer} to a {@link CloudEvent}, advancing the buffer position to its limit.
+     * <p>
+     * The default implementation copies the remaining bytes, unless the buffer wraps a whole array,
+     * and invokes {@link #deserialize(byte[], CloudEventDataMapper)}.
+     *
+     * @param buffer the serialized event.
+     * @param mapper the mapper to use to map the data.
+     * @return the deserialized event.
+     * @throws EventDeserializationException if something goes wrong during deserialization.
+     */
+    default CloudEvent deserialize(ByteBuffer buffer, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        byte[] bytes;
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.limit() == buffer.array().length) {
+            bytes = buffer.array();
+            buffer.position(buffer.limit());
+        } else {
+            bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+        }
+        return this.deserialize(bytes, mapper);
+    }
+
+    /**
+     * Like {@link #deserialize(InputStream, CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
+     *
+     * @see #deserialize(InputStream, CloudEventDataMapper)
+     */
+    default CloudEvent deserialize(InputStream in) throws EventDeserializationException {
+        return this.deserialize(in, CloudEventDataMapper.identity());
+    }
+
+    /**
+     * Deserialize the content of an {@link InputStream} to a {@link CloudEvent}, reading the stream until its end.
+     * The stream is not closed.
+     * <p>
+     * The default implementation reads all the bytes of the stream and invokes {@link #deserialize(byte[], CloudEventDataMapper)}.
+     *
+     * @param in     the stream containing the serialized event.
+     * @param mapper the mapper to use to map the data.
+     * @return the deserialized event.
+     * @throws EventDeserializationException if something goes wrong during deserialization, including I/O errors.
+     */
+    default CloudEvent deserialize(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        byte[] bytes;
+        try {
+            bytes = in.readAllBytes();
+        } catch (IOException e) {
+            throw new EventDeserializationException(e);
+        }
+        return this.deserialize(bytes, mapper);
+    }
+
+    /**
+     * Read a serialized event straight into the {@link CloudEventWriter} created by {@code writerFactory}, without
+     * creating a {@link CloudEvent}. This is used to transcode a structured message to binary mode,
+     * see {@link io.cloudevents.core.message.MessageReader#transcodeToBinary(CloudEventWriterFactory)}.
+     * <p>
+     * The default implementation deserializes the event and reads it: implementations should override it
+     * to write the attributes and the data to the writer while parsing them.
+     *
+     * @param bytes         the serialized event.
+     * @param writerFactory the factory creating the writer, starting from the {@link io.cloudevents.SpecVersion} of the event.
+     * @param mapper        the mapper to use to map the data.
+     * @param <W>           the {@link CloudEventWriter} type
+     * @param <R>           the return type of the {@link CloudEventWriter}
+     * @return the value returned by the writer.
+     * @throws EventDeserializationException if something goes wrong during deserialization.
+     * @throws CloudEventRWException         if something goes wrong while writing.
+     */
+    default <W extends CloudEventWriter<R>, R> R read(byte[] bytes, CloudEventWriterFactory<W, R> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException, CloudEventRWException {
+        return CloudEventUtils.toReader(deserialize(bytes)).read(writerFactory, mapper);
+    }
+
+    /**
+     * Read the provided context attributes and extensions from a serialized event, in their {@link String} encoding.
+     * This is used by {@link io.cloudevents.core.message.MessageReader#peekAttributes(Set)} for structured messages.
+     * <p>
+     * The default implementation deserializes the whole event: implementations should override it to scan
+     * only the attributes, skipping the data.
+     *
+     * @param bytes the serialized event.
+     * @param names the names of the context attributes and extensions to read.
+     * @return the values of the attributes found in the event, keyed by their name.
+     * @throws EventDeserializationException if something goes wrong during deserialization.
+     */
+    default Map<String, String> peekAttributes(byte[] bytes, Set<String> names) throws EventDeserializationException {
+        CloudEvent event = deserialize(bytes);
+        AttributesCollector collector = new AttributesCollector(names).create(event.getSpecVersion());
+        CloudEventUtils.toContextReader(event).readContext(collector);
+        return collector.getAttributes();
+    }
+
+    /**
+     * Estimate the number of bytes of {@link #serialize(CloudEvent)} for the provided event, without serializing it.
+     * This is useful to pack events in batches under a size limit, like the maximum request size of a broker.
+     * <p>
+     * Implementations should compute the estimate walking the event attributes, and they should document their error bound.
+     * The default implementation serializes the event, hence it's exact but not cheap.
+     *
+     * @param event the event to estimate.
+     * @return the estimated size of the serialized event, in bytes.
+     * @throws EventSerializationException if something goes wrong during the estimation.
+     */
+    default int estimateSerializedSize(CloudEvent event) throws EventSerializationException {
+        return serialize(event).length;
+    }
+
     /**
      * @return the set of content types this event format can deserialize. These content types are used
      * by the {@link io.cloudevents.core.provider.EventFormatProvider} to resolve an {@link EventFormat} starting
@@ -21,10 +21,8 @@ import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.rw.*;
 
-import java.net.URI;
-import java.time.OffsetDateTime;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 public abstract class BaseCloudEvent implements CloudEvent, CloudEventReader, CloudEventContextReader {
@@ -32,9 +30,13 @@ public abstract class BaseCloudEvent implements CloudEvent, CloudEventReader, Cl
     private final CloudEventData data;
     protected final Map<String, Object> extensions;
 
+    /**
+     * @param data       the event data
+     * @param extensions the event extensions, copied in an immutable compact representation
+     */
     protected BaseCloudEvent(CloudEventData data, Map<String, Object> extensions) {
         this.data = data;
-        this.extensions = extensions != null ? extensions : new HashMap<>();
+        this.extensions = CompactExtensions.copyOf(extensions);
     }
 
     @Override
@@ -64,25 +66,33 @@ public abstract class BaseCloudEvent implements CloudEvent, CloudEventReader, Cl
         return writer.end();
     }
 
-    protected void readExtensions(CloudEventContextWriter writer) throws CloudEventRWException {
-        // TODO to be improved
-        for (Map.Entry<String, Object> entry : this.extensions.entrySet()) {
-            if (entry.getValue() instanceof String) {
-                writer.withContextAttribute(entry.getKey(), (String) entry.getValue());
-            } else if (entry.getValue() instanceof Number) {
-                writer.withContextAttribute(entry.getKey(), (Number) entry.getValue());
-            } else if (entry.getValue() instanceof Boolean) {
-                writer.withContextAttribute(entry.getKey(), (Boolean) entry.getValue());
-            } else if (entry.getValue() instanceof URI) {
-                writer.withContextAttribute(entry.getKey(), (URI) entry.getValue());
-            } else if (entry.getValue() instanceof OffsetDateTime) {
-                writer.withContextAttribute(entry.getKey(), (OffsetDateTime) entry.getValue());
-            } else if (entry.getValue() instanceof byte[]) {
-                writer.withContextAttribute(entry.getKey(), (byte[]) entry.getValue());
-            } else {
-                // This should never happen because we build that map only through our builders
-                throw new IllegalStateException("Illegal value inside extensions map: " + entry);
-            }
+    /**
+     * Create the extensions of an event derived from this one, sharing the unchanged extensions.
+     *
+     * @param extensionName the extension to add or replace
+     * @param value         the extension value
+     * @return the extensions of the derived event, to be passed to the derived event constructor
+     * @throws CloudEventRWException if the extension name is not valid
+     */
+    protected Map<String, Object> extensionsWith(String extensionName, Object value) throws CloudEventRWException {
+        Objects.requireNonNull(value);
+        if (!BaseCloudEventBuilder.isValidExtensionName(extensionName)) {
+            throw CloudEventRWException.newInvalidExtensionName(extensionName);
         }
+        return ((CompactExtensions) this.extensions).with(extensionName, value);
+    }
+
+    /**
+     * Create the extensions of an event derived from this one, sharing the unchanged extensions.
+     *
+     * @param extensionName the extension to remove
+     * @return the extensions of the derived event, to be passed to the derived event constructor
+     */
+    protected Map<String, Object> extensionsWithout(String extensionName) {
+        return ((CompactExtensions) this.extensions).without(extensionName);
+    }
+
+    protected void readExtensions(CloudEventContextWriter writer) throws CloudEventRWException {
+        ((CompactExtensions) this.extensions).readInto(writer);
     }
 }
@@ -21,15 +21,20 @@ import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventContext;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.CloudEventExtension;
+import io.cloudevents.core.builder.AttributeValueCache;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.builder.CoarseClock;
+import io.cloudevents.core.builder.IdGenerator;
 import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.rw.CloudEventRWException;
 
 import javax.annotation.Nonnull;
 import java.net.URI;
+import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import static io.cloudevents.core.v03.CloudEventV03.SPECVERSION;
 
@@ -40,6 +45,12 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
 
     protected CloudEventData data;
     protected Map<String, Object> extensions = new HashMap<>();
+    protected AttributeValueCache attributeValueCache = AttributeValueCache.getDefault();
+    protected IdGenerator idGenerator = IdGenerator.uuidV7();
+    protected Clock clock = CoarseClock.systemUTC();
+
+    private CloudEventData templateData;
+    private CompactExtensions templateExtensions = CompactExtensions.EMPTY;
 
     @SuppressWarnings("unchecked")
     public BaseCloudEventBuilder() {
@@ -59,8 +70,107 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
 
     protected abstract void setAttributes(CloudEventContext event);
 
-    //TODO builder should accept data as Object and use data codecs (that we need to implement)
-    // to encode data
+    /**
+     * Set the generator used by {@link #withGeneratedId()}.
+     *
+     * @param idGenerator the id generator
+     * @return self
+     */
+    public SELF withIdGenerator(@Nonnull IdGenerator idGenerator) {
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+        return this.self;
+    }
+
+    /**
+     * Set the clock used by {@link #withCurrentTime()}.
+     *
+     * @param clock the clock
+     * @return self
+     */
+    public SELF withClock(@Nonnull Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        return this.self;
+    }
+
+    @Override
+    public SELF withGeneratedId() {
+        withId(this.idGenerator.generateId());
+        return this.self;
+    }
+
+    @Override
+    public SELF withCurrentTime() {
+        withTime(this.clock instanceof CoarseClock ? ((CoarseClock) this.clock).now() : OffsetDateTime.now(this.clock));
+        return this.self;
+    }
+
+    /**
+     * Save the attributes of this builder, so they can be restored by {@link #reset()}.
+     * <p>
+     * Subclasses supporting {@link #markTemplate()} and {@link #reset()} must override this method
+     * together with {@link #restoreTemplateAttributes()}.
+     *
+     * @throws UnsupportedOperationException if this builder doesn't support templates
+     */
+    protected void saveTemplateAttributes() {
+        throw new UnsupportedOperationException(getClass().getName() + " doesn't support templates");
+    }
+
+    /**
+     * Restore the attributes saved by {@link #saveTemplateAttributes()}, or clear all the attributes if no template was saved.
+     *
+     * @throws UnsupportedOperationException if this builder doesn't support templates
+     * @see #saveTemplateAttributes()
+     */
+    protected void restoreTemplateAttributes() {
+        throw new UnsupportedOperationException(getClass().getName() + " doesn't support templates");
+    }
+
+    /**
+     * Mark the current state of this builder, including data and extensions, as the template restored by {@link #reset()}.
+     * <p>
+     * The template extensions are shared by all the events built after a {@link #reset()}, as long as no extension is
+     * added or removed.
+     *
+     * @return self
+     * @throws UnsupportedOperationException if this builder doesn't support templates
+     */
+    public SELF markTemplate() {
+        saveTemplateAttributes();
+        this.templateData = this.data;
+        this.templateExtensions = CompactExtensions.copyOf(this.extensions);
+        this.extensions = this.templateExtensions;
+        return this.self;
+    }
+
+    /**
+     * Reset this builder to the state saved by {@link #markTemplate()}, or to an empty builder if no template was marked.
+     * <p>
+     * This allows to reuse the same builder to create several events, setting only the per-event attributes like
+     * {@code id}, {@code time} and data after each reset.
+     *
+     * @return self
+     * @throws UnsupportedOperationException if this builder doesn't support templates
+     */
+    public SELF reset() {
+        restoreTemplateAttributes();
+        this.data = this.templateData;
+        this.extensions = this.templateExtensions;
+        return this.self;
+    }
+
+    /**
+     * Set the cache used to parse the {@code source} and {@code dataschema} attributes
+     * and to intern the {@code type} attribute, when they're written as {@link String}.
+     *
+     * @param attributeValueCache the cache to use, or {@link AttributeValueCache#disabled()} to parse every value
+     * @return self
+     * @see AttributeValueCache
+     */
+    public SELF withAttributeValueCache(@Nonnull AttributeValueCache attributeValueCache) {
+        this.attributeValueCache = Objects.requireNonNull(attributeValueCache);
+        return this.self;
+    }
 
     public SELF withData(byte[] data) {
         this.data = BytesCloudEventData.wrap(data);
@@ -98,6 +208,18 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         return this.self;
     }
 
+    @Override
+    public SELF withData(@Nonnull Object data) {
+        CloudEventBuilder.super.withData(data);
+        return this.self;
+    }
+
+    @Override
+    public SELF withData(@Nonnull String dataContentType, @Nonnull Object data) {
+        CloudEventBuilder.super.withData(dataContentType, data);
+        return this.self;
+    }
+
     @Override
     public CloudEventBuilder withoutData() {
         this.data = null;
@@ -120,7 +242,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        mutableExtensions().put(key, value);
         return self;
     }
 
@@ -131,7 +253,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        mutableExtensions().put(key, value);
         return self;
     }
 
@@ -139,7 +261,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        mutableExtensions().put(key, value);
         return self;
     }
 
@@ -147,7 +269,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        mutableExtensions().put(key, value);
         return self;
     }
 
@@ -156,7 +278,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        mutableExtensions().put(key, value);
         return self;
     }
 
@@ -165,7 +287,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        mutableExtensions().put(key, value);
         return self;
     }
 
@@ -174,13 +296,13 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         if (!isValidExtensionName(key)) {
             throw CloudEventRWException.newInvalidExtensionName(key);
         }
-        this.extensions.put(key, value);
+        mutableExtensions().put(key, value);
         return self;
     }
 
     @Override
     public SELF withoutExtension(@Nonnull String key) {
-        this.extensions.remove(key);
+        mutableExtensions().remove(key);
         return self;
     }
 
@@ -194,7 +316,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         for (String key : extension.getKeys()) {
             Object value = extension.getValue(key);
             if (value != null) {
-                this.extensions.put(key, value);
+                mutableExtensions().put(key, value);
             }
         }
         return self;
@@ -215,6 +337,14 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
         }
     }
 
+    private Map<String, Object> mutableExtensions() {
+        // The template extensions are immutable, copy them on the first write after markTemplate() or reset()
+        if (this.extensions instanceof CompactExtensions) {
+            this.extensions = new HashMap<>(this.extensions);
+        }
+        return this.extensions;
+    }
+
     protected static IllegalStateException createMissingAttributeException(String attributeName) {
         return new IllegalStateException("Attribute '" + attributeName + "' cannot be null");
     }
@@ -230,7 +360,7 @@ public abstract class BaseCloudEventBuilder<SELF extends BaseCloudEventBuilder<S
      * @return true if extension name is valid, false otherwise
      * @see <a href="https://github.com/cloudevents/spec/blob/main/cloudevents/spec.md#naming-conventions">attribute-naming-conventions</a>
      */
-    private static boolean isValidExtensionName(String name) {
+    public static boolean isValidExtensionName(String name) {
         for (int i = 0; i < name.length(); i++) {
             if (!isValidChar(name.charAt(i))) {
                 return false;
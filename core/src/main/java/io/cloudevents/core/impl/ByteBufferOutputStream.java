@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OutputStream} writing to a {@link ByteBuffer}, starting from its position.
+ * <p>
+ * When the buffer has not enough remaining space for a write, an {@link IOException} caused by
+ * a {@link BufferOverflowException} is thrown, and nothing of that write is written.
+ */
+public final class ByteBufferOutputStream extends OutputStream {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer the buffer to write to
+     */
+    public ByteBufferOutputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            throw overflow();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len > buffer.remaining()) {
+            throw overflow();
+        }
+        buffer.put(b, off, len);
+    }
+
+    /**
+     * @return the buffer this stream writes to
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    private static IOException overflow() {
+        return new IOException("Not enough space in the buffer", new BufferOverflowException());
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable array-backed {@link Map} of extensions, tagging every value with its type.
+ * <p>
+ * Events usually carry a handful of extensions, so lookups scan the arrays rather than hashing into buckets,
+ * and {@link #readInto(CloudEventContextWriter)} dispatches on the tag computed once at construction time.
+ * Because it's immutable, the same instance can be shared by several events.
+ */
+final class CompactExtensions extends AbstractMap<String, Object> {
+
+    static final CompactExtensions EMPTY = new CompactExtensions(new String[0], new Object[0], new byte[0]);
+
+    private static final byte TAG_STRING = 0;
+    private static final byte TAG_NUMBER = 1;
+    private static final byte TAG_BOOLEAN = 2;
+    private static final byte TAG_URI = 3;
+    private static final byte TAG_TIME = 4;
+    private static final byte TAG_BYTES = 5;
+    private static final byte TAG_UNKNOWN = 6;
+
+    private final String[] names;
+    private final Object[] values;
+    private final byte[] tags;
+
+    private Set<String> keySet;
+    private Set<Entry<String, Object>> entrySet;
+
+    private CompactExtensions(String[] names, Object[] values, byte[] tags) {
+        this.names = names;
+        this.values = values;
+        this.tags = tags;
+    }
+
+    /**
+     * Create a {@link CompactExtensions} with the same entries, in the same iteration order, of the provided map.
+     * If {@code extensions} is already a {@link CompactExtensions}, it's returned as is.
+     *
+     * @param extensions the extensions to copy, could be null
+     * @return the immutable copy of the extensions
+     */
+    static CompactExtensions copyOf(Map<String, Object> extensions) {
+        if (extensions instanceof CompactExtensions) {
+            return (CompactExtensions) extensions;
+        }
+        if (extensions == null || extensions.isEmpty()) {
+            return EMPTY;
+        }
+        int size = extensions.size();
+        String[] names = new String[size];
+        Object[] values = new Object[size];
+        byte[] tags = new byte[size];
+        int i = 0;
+        for (Entry<String, Object> entry : extensions.entrySet()) {
+            names[i] = entry.getKey();
+            values[i] = entry.getValue();
+            tags[i] = tagOf(entry.getValue());
+            i++;
+        }
+        return new CompactExtensions(names, values, tags);
+    }
+
+    /**
+     * @return a copy of this container, with {@code name} mapped to {@code value}
+     */
+    CompactExtensions with(String name, Object value) {
+        int i = indexOf(name);
+        if (i >= 0) {
+            if (values[i] == value) {
+                return this;
+            }
+            Object[] newValues = values.clone();
+            byte[] newTags = tags.clone();
+            newValues[i] = value;
+            newTags[i] = tagOf(value);
+            return new CompactExtensions(names, newValues, newTags);
+        }
+        String[] newNames = Arrays.copyOf(names, names.length + 1);
+        Object[] newValues = Arrays.copyOf(values, values.length + 1);
+        byte[] newTags = Arrays.copyOf(tags, tags.length + 1);
+        newNames[names.length] = name;
+        newValues[names.length] = value;
+        newTags[names.length] = tagOf(value);
+        return new CompactExtensions(newNames, newValues, newTags);
+    }
+
+    /**
+     * @return a copy of this container without {@code name}
+     */
+    CompactExtensions without(String name) {
+        int i = indexOf(name);
+        if (i < 0) {
+            return this;
+        }
+        if (names.length == 1) {
+            return EMPTY;
+        }
+        String[] newNames = new String[names.length - 1];
+        Object[] newValues = new Object[names.length - 1];
+        byte[] newTags = new byte[names.length - 1];
+        System.arraycopy(names, 0, newNames, 0, i);
+        System.arraycopy(values, 0, newValues, 0, i);
+        System.arraycopy(tags, 0, newTags, 0, i);
+        System.arraycopy(names, i + 1, newNames, i, names.length - i - 1);
+        System.arraycopy(values, i + 1, newValues, i, names.length - i - 1);
+        System.arraycopy(tags, i + 1, newTags, i, names.length - i - 1);
+        return new CompactExtensions(newNames, newValues, newTags);
+    }
+
+    private static byte tagOf(Object value) {
+        if (value instanceof String) {
+            return TAG_STRING;
+        } else if (value instanceof Number) {
+            return TAG_NUMBER;
+        } else if (value instanceof Boolean) {
+            return TAG_BOOLEAN;
+        } else if (value instanceof URI) {
+            return TAG_URI;
+        } else if (value instanceof OffsetDateTime) {
+            return TAG_TIME;
+        } else if (value instanceof byte[]) {
+            return TAG_BYTES;
+        }
+        return TAG_UNKNOWN;
+    }
+
+    /**
+     * Write all the extensions to the provided writer.
+     *
+     * @param writer the writer
+     * @throws CloudEventRWException if something went wrong during the write
+     */
+    void readInto(CloudEventContextWriter writer) throws CloudEventRWException {
+        for (int i = 0; i < names.length; i++) {
+            switch (tags[i]) {
+                case TAG_STRING:
+                    writer.withContextAttribute(names[i], (String) values[i]);
+                    break;
+                case TAG_NUMBER:
+                    writer.withContextAttribute(names[i], (Number) values[i]);
+                    break;
+                case TAG_BOOLEAN:
+                    writer.withContextAttribute(names[i], (Boolean) values[i]);
+                    break;
+                case TAG_URI:
+                    writer.withContextAttribute(names[i], (URI) values[i]);
+                    break;
+                case TAG_TIME:
+                    writer.withContextAttribute(names[i], (OffsetDateTime) values[i]);
+                    break;
+                case TAG_BYTES:
+                    writer.withContextAttribute(names[i], (byte[]) values[i]);
+                    break;
+                default:
+                    // This should never happen because we build that map only through our builders
+                    throw new IllegalStateException("Illegal value inside extensions map: " + names[i] + "=" + values[i]);
+            }
+        }
+    }
+
+    private int indexOf(Object name) {
+        if (name == null) {
+            return -1;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? values[i] : null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < names.length; i++) {
+            action.accept(names[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> ks = this.keySet;
+        if (ks == null) {
+            ks = new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return new ArrayIterator<String>() {
+                        @Override
+                        String get(int i) {
+                            return names[i];
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return indexOf(o) >= 0;
+                }
+            };
+            this.keySet = ks;
+        }
+        return ks;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> es = this.entrySet;
+        if (es == null) {
+            es = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new ArrayIterator<Entry<String, Object>>() {
+                        @Override
+                        Entry<String, Object> get(int i) {
+                            return new SimpleImmutableEntry<>(names[i], values[i]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+            };
+            this.entrySet = es;
+        }
+        return es;
+    }
+
+    private abstract class ArrayIterator<E> implements Iterator<E> {
+
+        private int next = 0;
+
+        abstract E get(int i);
+
+        @Override
+        public boolean hasNext() {
+            return next < names.length;
+        }
+
+        @Override
+        public E next() {
+            if (next >= names.length) {
+                throw new NoSuchElementException();
+            }
+            return get(next++);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import io.cloudevents.AttributeKey;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.AttributeValueCache;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.types.Time;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link io.cloudevents.CloudEvent} implementation that keeps the {@code source}, {@code dataschema}/{@code schemaurl}
+ * and {@code time} attributes in their raw {@link String} form, parsing them only on first access.
+ * <p>
+ * Parsed values are cached, so every attribute is parsed at most once. URIs are parsed through
+ * {@link AttributeValueCache#getDefault()}. Because parsing is deferred,
+ * an invalid attribute value is reported by the getter accessing it, rather than when the event is created.
+ * <p>
+ * Instances of this class are created by {@link LazyCloudEventWriter}. Instances created by
+ * {@link LazyCloudEventWriter#projection(SpecVersion)} may miss the mandatory attributes.
+ */
+public final class LazyCloudEvent extends BaseCloudEvent {
+
+    private final SpecVersion specVersion;
+    private final String id;
+    private final String type;
+    private final String datacontenttype;
+    private final String subject;
+
+    private final String rawSource;
+    private final String rawDataSchema;
+    private final String rawTime;
+
+    private volatile URI source;
+    private volatile URI dataschema;
+    private volatile OffsetDateTime time;
+
+    LazyCloudEvent(SpecVersion specVersion, String id, String type, String datacontenttype, String subject,
+                   String rawSource, URI source,
+                   String rawDataSchema, URI dataschema,
+                   String rawTime, OffsetDateTime time,
+                   CloudEventData data, Map<String, Object> extensions) {
+        super(data, extensions);
+        this.specVersion = specVersion;
+        this.id = id;
+        this.type = type;
+        this.datacontenttype = datacontenttype;
+        this.subject = subject;
+        this.rawSource = rawSource;
+        this.source = source;
+        this.rawDataSchema = rawDataSchema;
+        this.dataschema = dataschema;
+        this.rawTime = rawTime;
+        this.time = time;
+    }
+
+    @Override
+    public SpecVersion getSpecVersion() {
+        return specVersion;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public URI getSource() {
+        URI value = this.source;
+        if (value == null && this.rawSource != null) {
+            value = parseUri("source", this.rawSource);
+            this.source = value;
+        }
+        return value;
+    }
+
+    /**
+     * @return the {@code source} attribute in its string form, without parsing it
+     */
+    public String getRawSource() {
+        URI value = this.source;
+        return value != null ? value.toString() : this.rawSource;
+    }
+
+    @Override
+    public String getDataContentType() {
+        return datacontenttype;
+    }
+
+    @Override
+    public URI getDataSchema() {
+        URI value = this.dataschema;
+        if (value == null && this.rawDataSchema != null) {
+            value = parseUri(dataSchemaAttributeName(), this.rawDataSchema);
+            this.dataschema = value;
+        }
+        return value;
+    }
+
+    @Override
+    public String getSubject() {
+        return subject;
+    }
+
+    @Override
+    public OffsetDateTime getTime() {
+        OffsetDateTime value = this.time;
+        if (value == null && this.rawTime != null) {
+            value = Time.parseTime("time", this.rawTime);
+            this.time = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Object getAttribute(String attributeName) throws IllegalArgumentException {
+        switch (attributeName) {
+            case "specversion":
+                return getSpecVersion();
+            case "id":
+                return getId();
+            case "source":
+                return getSource();
+            case "type":
+                return getType();
+            case "datacontenttype":
+                return getDataContentType();
+            case "subject":
+                return getSubject();
+            case "time":
+                return getTime();
+        }
+        if (attributeName.equals(dataSchemaAttributeName())) {
+            return getDataSchema();
+        }
+        if (specVersion.getAllAttributes().contains(attributeName)) {
+            // datacontentencoding is not saved in the event
+            return null;
+        }
+        throw new IllegalArgumentException("Spec version " + specVersion + " doesn't have attribute named " + attributeName);
+    }
+
+    /**
+     * Read a context attribute or extension through its handle, parsing the attribute only if it was not accessed yet.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(AttributeKey<T> key) {
+        if (!key.isSpecAttribute()) {
+            return (T) this.extensions.get(key.getName());
+        }
+        if (!key.isAttributeOf(specVersion)) {
+            return null;
+        }
+        Object value;
+        if (key == AttributeKey.ID) {
+            value = this.id;
+        } else if (key == AttributeKey.SOURCE) {
+            value = getSource();
+        } else if (key == AttributeKey.TYPE) {
+            value = this.type;
+        } else if (key == AttributeKey.TIME) {
+            value = getTime();
+        } else if (key == AttributeKey.DATACONTENTTYPE) {
+            value = this.datacontenttype;
+        } else if (key == AttributeKey.SUBJECT) {
+            value = this.subject;
+        } else if (key == AttributeKey.DATASCHEMA || key == AttributeKey.SCHEMAURL) {
+            value = getDataSchema();
+        } else if (key == AttributeKey.SPECVERSION) {
+            value = this.specVersion;
+        } else {
+            // datacontentencoding is not saved in the event
+            value = null;
+        }
+        return (T) value;
+    }
+
+    /**
+     * Read the context attributes and extensions, writing the attributes which were not accessed yet in their raw form.
+     *
+     * @param writer context writer
+     * @throws CloudEventRWException if something went wrong during the read.
+     */
+    @Override
+    public void readContext(CloudEventContextWriter writer) throws CloudEventRWException {
+        if (this.id != null) {
+            writer.withContextAttribute("id", this.id);
+        }
+        if (this.source != null) {
+            writer.withContextAttribute("source", this.source);
+        } else if (this.rawSource != null) {
+            writer.withContextAttribute("source", this.rawSource);
+        }
+        if (this.type != null) {
+            writer.withContextAttribute("type", this.type);
+        }
+        if (this.datacontenttype != null) {
+            writer.withContextAttribute("datacontenttype", this.datacontenttype);
+        }
+        if (this.dataschema != null) {
+            writer.withContextAttribute(dataSchemaAttributeName(), this.dataschema);
+        } else if (this.rawDataSchema != null) {
+            writer.withContextAttribute(dataSchemaAttributeName(), this.rawDataSchema);
+        }
+        if (this.subject != null) {
+            writer.withContextAttribute("subject", this.subject);
+        }
+        if (this.time != null) {
+            writer.withContextAttribute("time", this.time);
+        } else if (this.rawTime != null) {
+            writer.withContextAttribute("time", this.rawTime);
+        }
+        this.readExtensions(writer);
+    }
+
+    private String dataSchemaAttributeName() {
+        return specVersion == SpecVersion.V03 ? "schemaurl" : "dataschema";
+    }
+
+    private static URI parseUri(String attributeName, String value) {
+        return AttributeValueCache.getDefault().parseUri(attributeName, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LazyCloudEvent that = (LazyCloudEvent) o;
+        return specVersion == that.specVersion &&
+            Objects.equals(getId(), that.getId()) &&
+            Objects.equals(getSource(), that.getSource()) &&
+            Objects.equals(getType(), that.getType()) &&
+            Objects.equals(datacontenttype, that.datacontenttype) &&
+            Objects.equals(getDataSchema(), that.getDataSchema()) &&
+            Objects.equals(getSubject(), that.getSubject()) &&
+            Objects.equals(getTime(), that.getTime()) &&
+            Objects.equals(getData(), that.getData()) &&
+            Objects.equals(this.extensions, that.extensions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(specVersion, getId(), getSource(), getType(), datacontenttype, getDataSchema(), getSubject(), getTime(), getData(), this.extensions);
+    }
+
+    @Override
+    public String toString() {
+        return "CloudEvent{" +
+            "specversion=" + specVersion +
+            ", id='" + id + '\'' +
+            ", source=" + (source != null ? source : rawSource) +
+            ", type='" + type + '\'' +
+            ((datacontenttype != null) ? ", datacontenttype='" + datacontenttype + '\'' : "") +
+            ((dataschema != null || rawDataSchema != null) ? ", " + dataSchemaAttributeName() + "=" + (dataschema != null ? dataschema : rawDataSchema) : "") +
+            ((subject != null) ? ", subject='" + subject + '\'' : "") +
+            ((time != null || rawTime != null) ? ", time=" + (time != null ? time : rawTime) : "") +
+            ((getData() != null) ? ", data=" + getData() : "") +
+            ", extensions=" + this.extensions +
+            '}';
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.AttributeValueCache;
+import io.cloudevents.core.provider.CloudEventValidatorProvider;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CloudEventWriter} creating a {@link LazyCloudEvent}.
+ * <p>
+ * Unlike the {@link io.cloudevents.core.builder.CloudEventBuilder} implementations, this writer doesn't parse
+ * {@code source}, {@code dataschema}/{@code schemaurl} and {@code time} when they're written as {@link String}.
+ * <p>
+ * This class can be used as {@link io.cloudevents.rw.CloudEventWriterFactory} with {@code LazyCloudEventWriter::new}.
+ * <p>
+ * Writers created with {@link #projection(SpecVersion)} create a view of a subset of the event attributes: the mandatory
+ * attributes are not required and the event is not validated.
+ */
+public final class LazyCloudEventWriter implements CloudEventWriter<CloudEvent> {
+
+    private final SpecVersion specVersion;
+    private final String dataSchemaAttributeName;
+    private final boolean projection;
+
+    private String id;
+    private String type;
+    private String datacontenttype;
+    private String subject;
+    private String rawSource;
+    private URI source;
+    private String rawDataSchema;
+    private URI dataschema;
+    private String rawTime;
+    private OffsetDateTime time;
+    private final Map<String, Object> extensions = new HashMap<>();
+
+    public LazyCloudEventWriter(SpecVersion specVersion) {
+        this(specVersion, false);
+    }
+
+    private LazyCloudEventWriter(SpecVersion specVersion, boolean projection) {
+        this.specVersion = specVersion;
+        this.dataSchemaAttributeName = specVersion == SpecVersion.V03 ? "schemaurl" : "dataschema";
+        this.projection = projection;
+    }
+
+    /**
+     * Create a writer for a view of a subset of the event attributes, like the ones needed to route the event.
+     * The created {@link LazyCloudEvent} returns null for the attributes which were not written, including the mandatory ones.
+     *
+     * @param specVersion the spec version of the event
+     * @return a new writer creating a partial {@link LazyCloudEvent}
+     */
+    public static LazyCloudEventWriter projection(SpecVersion specVersion) {
+        return new LazyCloudEventWriter(specVersion, true);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+        switch (name) {
+            case "specversion":
+                throw new IllegalArgumentException("You should not set the specversion attribute through withContextAttribute methods");
+            case "id":
+                this.id = value;
+                return this;
+            case "source":
+                this.rawSource = value;
+                this.source = null;
+                return this;
+            case "type":
+                this.type = AttributeValueCache.getDefault().intern(value);
+                return this;
+            case "datacontenttype":
+                this.datacontenttype = value;
+                return this;
+            case "subject":
+                this.subject = value;
+                return this;
+            case "time":
+                this.rawTime = value;
+                this.time = null;
+                return this;
+            case "datacontentencoding":
+                if (specVersion == SpecVersion.V03) {
+                    // No-op, this information is not saved in the event because it's useful only for parsing
+                    return this;
+                }
+                break;
+        }
+        if (name.equals(dataSchemaAttributeName)) {
+            this.rawDataSchema = value;
+            this.dataschema = null;
+            return this;
+        }
+        return withExtension(name, value);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, URI value) throws CloudEventRWException {
+        if (name.equals("source")) {
+            this.source = value;
+            this.rawSource = null;
+            return this;
+        }
+        if (name.equals(dataSchemaAttributeName)) {
+            this.dataschema = value;
+            this.rawDataSchema = null;
+            return this;
+        }
+        return withExtension(name, value, URI.class);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, OffsetDateTime value) throws CloudEventRWException {
+        if (name.equals("time")) {
+            this.time = value;
+            this.rawTime = null;
+            return this;
+        }
+        return withExtension(name, value, OffsetDateTime.class);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Number value) throws CloudEventRWException {
+        return withExtension(name, value, Number.class);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Integer value) throws CloudEventRWException {
+        return withExtension(name, value, Integer.class);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
+        return withExtension(name, value, Boolean.class);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        return withExtension(name, value, byte[].class);
+    }
+
+    @Override
+    public CloudEvent end(CloudEventData data) throws CloudEventRWException {
+        if (!projection) {
+            if (id == null) {
+                throw BaseCloudEventBuilder.createMissingAttributeException("id");
+            }
+            if (source == null && rawSource == null) {
+                throw BaseCloudEventBuilder.createMissingAttributeException("source");
+            }
+            if (type == null) {
+                throw BaseCloudEventBuilder.createMissingAttributeException("type");
+            }
+        }
+        if (subject != null && subject.isEmpty()) {
+            throw BaseCloudEventBuilder.createEmptyAttributeException("subject");
+        }
+
+        LazyCloudEvent event = new LazyCloudEvent(
+            specVersion, id, type, datacontenttype, subject,
+            rawSource, source,
+            rawDataSchema, dataschema,
+            rawTime, time,
+            data, extensions
+        );
+        if (!projection) {
+            CloudEventValidatorProvider.getInstance().validate(event);
+        }
+        return event;
+    }
+
+    @Override
+    public CloudEvent end() throws CloudEventRWException {
+        try {
+            return end(null);
+        } catch (IllegalStateException e) {
+            throw CloudEventRWException.newOther(e);
+        }
+    }
+
+    private CloudEventContextWriter withExtension(String name, Object value, Class<?> type) throws CloudEventRWException {
+        if (name.equals("specversion")) {
+            throw new IllegalArgumentException("You should not set the specversion attribute through withContextAttribute methods");
+        }
+        if (specVersion.getAllAttributes().contains(name)) {
+            throw CloudEventRWException.newInvalidAttributeType(name, type);
+        }
+        return withExtension(name, value);
+    }
+
+    private CloudEventContextWriter withExtension(String name, Object value) throws CloudEventRWException {
+        if (!BaseCloudEventBuilder.isValidExtensionName(name)) {
+            throw CloudEventRWException.newInvalidExtensionName(name);
+        }
+        this.extensions.put(name, value);
+        return this;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.message;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Decoder of batches of events, reporting failures as {@link DecodeResult} rather than throwing them.
+ * <p>
+ * The SDK exceptions raised while decoding are created without stack trace
+ * (see {@link CloudEventRWException#withoutStackTraces(Supplier)}), and every failure is counted per
+ * {@link DecodeResult.ErrorKind}, so consumers can skip invalid records at full speed.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class BulkDecoder {
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder[] errors;
+
+    public BulkDecoder() {
+        this.errors = new LongAdder[DecodeResult.ErrorKind.values().length];
+        for (int i = 0; i < this.errors.length; i++) {
+            this.errors[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Decode an event with the provided {@link EventFormat}.
+     *
+     * @param position the position of the event in the batch, e.g. the record offset
+     * @param format   the format of the serialized event
+     * @param bytes    the serialized event
+     * @return the decode result
+     */
+    public DecodeResult decode(long position, EventFormat format, byte[] bytes) {
+        return decode(position, () -> format.deserialize(bytes));
+    }
+
+    /**
+     * Decode an event with the provided {@link EventFormat}, mapping the data with the provided {@code mapper}.
+     *
+     * @param position the position of the event in the batch, e.g. the record offset
+     * @param format   the format of the serialized event
+     * @param bytes    the serialized event
+     * @param mapper   the mapper to use to map the data
+     * @return the decode result
+     */
+    public DecodeResult decode(long position, EventFormat format, byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) {
+        return decode(position, () -> format.deserialize(bytes, mapper));
+    }
+
+    /**
+     * Decode an event from the provided {@link MessageReader}.
+     *
+     * @param position the position of the event in the batch, e.g. the record offset
+     * @param reader   the message to decode
+     * @return the decode result
+     */
+    public DecodeResult decode(long position, MessageReader reader) {
+        return decode(position, reader::toEvent);
+    }
+
+    /**
+     * Decode an event from the provided {@link MessageReader}, mapping the data with the provided {@code mapper}.
+     *
+     * @param position the position of the event in the batch, e.g. the record offset
+     * @param reader   the message to decode
+     * @param mapper   the mapper to use to map the data
+     * @return the decode result
+     */
+    public DecodeResult decode(long position, MessageReader reader, CloudEventDataMapper<? extends CloudEventData> mapper) {
+        return decode(position, () -> reader.toEvent(mapper));
+    }
+
+    /**
+     * Decode an event using the provided decoder, which can also include the creation of the {@link MessageReader}.
+     *
+     * @param position the position of the event in the batch, e.g. the record offset
+     * @param decoder  the decoder
+     * @return the decode result
+     */
+    public DecodeResult decode(long position, Supplier<CloudEvent> decoder) {
+        try {
+            CloudEvent event = CloudEventRWException.withoutStackTraces(decoder);
+            successes.increment();
+            return DecodeResult.success(position, event);
+        } catch (RuntimeException e) {
+            DecodeResult.ErrorKind kind = DecodeResult.ErrorKind.of(e);
+            errors[kind.ordinal()].increment();
+            return DecodeResult.failure(position, kind, e);
+        }
+    }
+
+    /**
+     * @return the number of decoded events
+     */
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    /**
+     * @param kind the error kind
+     * @return the number of failures of the provided kind
+     */
+    public long getErrorCount(DecodeResult.ErrorKind kind) {
+        return errors[kind.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of failures of every kind, omitting the kinds without failures
+     */
+    public Map<DecodeResult.ErrorKind, Long> getErrorCounts() {
+        Map<DecodeResult.ErrorKind, Long> counts = new EnumMap<>(DecodeResult.ErrorKind.class);
+        for (DecodeResult.ErrorKind kind : DecodeResult.ErrorKind.values()) {
+            long count = errors[kind.ordinal()].sum();
+            if (count > 0) {
+                counts.put(kind, count);
+            }
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Reset all the counters.
+     */
+    public void reset() {
+        successes.reset();
+        for (LongAdder error : errors) {
+            error.reset();
+        }
+    }
+}
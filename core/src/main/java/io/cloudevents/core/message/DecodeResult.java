@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.message;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.lang.Nullable;
+import io.cloudevents.rw.CloudEventRWException;
+
+/**
+ * Result of decoding a single event with a {@link BulkDecoder}: either the decoded event, or the kind of the error
+ * which prevented decoding it.
+ */
+public final class DecodeResult {
+
+    /**
+     * The kind of error which prevented decoding an event.
+     */
+    public enum ErrorKind {
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#INVALID_SPEC_VERSION
+         */
+        INVALID_SPEC_VERSION,
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#INVALID_ATTRIBUTE_NAME
+         */
+        INVALID_ATTRIBUTE_NAME,
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#INVALID_EXTENSION_NAME
+         */
+        INVALID_EXTENSION_NAME,
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#INVALID_ATTRIBUTE_TYPE
+         */
+        INVALID_ATTRIBUTE_TYPE,
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#INVALID_ATTRIBUTE_VALUE
+         */
+        INVALID_ATTRIBUTE_VALUE,
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#INVALID_DATA_TYPE
+         */
+        INVALID_DATA_TYPE,
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#DATA_CONVERSION
+         */
+        DATA_CONVERSION,
+        /**
+         * @see CloudEventRWException.CloudEventRWExceptionKind#UNKNOWN_ENCODING
+         */
+        UNKNOWN_ENCODING,
+        /**
+         * The serialized event cannot be parsed by the {@link io.cloudevents.core.format.EventFormat}.
+         */
+        MALFORMED,
+        /**
+         * The event is missing mandatory attributes, or it was rejected by a {@link io.cloudevents.core.validator.CloudEventValidator}.
+         */
+        INVALID_EVENT,
+        /**
+         * Other error.
+         */
+        OTHER;
+
+        /**
+         * @param error the decoding error
+         * @return the most specific kind found walking the causes of {@code error}
+         */
+        public static ErrorKind of(Throwable error) {
+            ErrorKind fallback = OTHER;
+            for (Throwable t = error; t != null; t = t.getCause() != t ? t.getCause() : null) {
+                if (t instanceof CloudEventRWException) {
+                    ErrorKind kind = of(((CloudEventRWException) t).getKind());
+                    if (kind != OTHER) {
+                        return kind;
+                    }
+                } else if (t instanceof IllegalStateException || t instanceof IllegalArgumentException) {
+                    return INVALID_EVENT;
+                } else if (t instanceof EventDeserializationException) {
+                    fallback = MALFORMED;
+                }
+            }
+            return fallback;
+        }
+
+        private static ErrorKind of(CloudEventRWException.CloudEventRWExceptionKind kind) {
+            switch (kind) {
+                case INVALID_SPEC_VERSION:
+                    return INVALID_SPEC_VERSION;
+                case INVALID_ATTRIBUTE_NAME:
+                    return INVALID_ATTRIBUTE_NAME;
+                case INVALID_EXTENSION_NAME:
+                    return INVALID_EXTENSION_NAME;
+                case INVALID_ATTRIBUTE_TYPE:
+                    return INVALID_ATTRIBUTE_TYPE;
+                case INVALID_ATTRIBUTE_VALUE:
+                    return INVALID_ATTRIBUTE_VALUE;
+                case INVALID_DATA_TYPE:
+                    return INVALID_DATA_TYPE;
+                case DATA_CONVERSION:
+                    return DATA_CONVERSION;
+                case UNKNOWN_ENCODING:
+                    return UNKNOWN_ENCODING;
+                default:
+                    // Kinds added after this enum fall back to OTHER
+                    return OTHER;
+            }
+        }
+    }
+
+    private final long position;
+    private final CloudEvent event;
+    private final ErrorKind errorKind;
+    private final RuntimeException error;
+
+    private DecodeResult(long position, CloudEvent event, ErrorKind errorKind, RuntimeException error) {
+        this.position = position;
+        this.event = event;
+        this.errorKind = errorKind;
+        this.error = error;
+    }
+
+    static DecodeResult success(long position, CloudEvent event) {
+        return new DecodeResult(position, event, null, null);
+    }
+
+    static DecodeResult failure(long position, ErrorKind errorKind, RuntimeException error) {
+        return new DecodeResult(position, null, errorKind, error);
+    }
+
+    /**
+     * @return the position of the event in the decoded batch, as provided to the {@link BulkDecoder}
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * @return true if the event was decoded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return the decoded event, or null if decoding failed
+     */
+    @Nullable
+    public CloudEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * @return the kind of the decoding error, or null if the event was decoded
+     */
+    @Nullable
+    public ErrorKind getErrorKind() {
+        return errorKind;
+    }
+
+    /**
+     * @return the decoding error, created without stack trace, or null if the event was decoded
+     */
+    @Nullable
+    public RuntimeException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        if (isSuccess()) {
+            return "DecodeResult{position=" + position + ", event=" + event + '}';
+        }
+        return "DecodeResult{position=" + position + ", errorKind=" + errorKind + ", error=" + error + '}';
+    }
+}
@@ -21,9 +21,18 @@ import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.impl.LazyCloudEventWriter;
+import io.cloudevents.core.message.impl.AttributesCollector;
+import io.cloudevents.core.provider.CloudEventValidatorProvider;
+import io.cloudevents.lang.Nullable;
 import io.cloudevents.rw.*;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents a <a href="https://github.com/cloudevents/spec/blob/v1.0/spec.md#message">CloudEvent message</a> reader.
@@ -69,6 +78,45 @@ public interface MessageReader extends StructuredMessageReader, CloudEventReader
      */
     Encoding getEncoding();
 
+    /**
+     * Like {@link #peekAttributes(Set)}, but for a single context attribute or extension.
+     *
+     * @param name the name of the context attribute or extension
+     * @return the value in its {@link String} encoding, or null if the message doesn't have it
+     * @throws CloudEventRWException if something went wrong during the read.
+     * @throws IllegalStateException if the message has an unknown encoding.
+     */
+    @Nullable
+    default String peekAttribute(String name) throws CloudEventRWException, IllegalStateException {
+        return peekAttributes(Collections.singleton(name)).get(name);
+    }
+
+    /**
+     * Read the provided context attributes and extensions, without reading the whole event. This is useful to route
+     * messages, for example looking only at their {@code type} and {@code source}.
+     * <p>
+     * The values are returned in their {@link String} encoding, as they would be written in binary mode.
+     * Binary messages answer straight from their headers, without touching the payload, while structured messages
+     * rely on {@link EventFormat#peekAttributes(byte[], Set)}.
+     *
+     * @param names the names of the context attributes and extensions to read
+     * @return the values of the attributes found in the message, keyed by their name
+     * @throws CloudEventRWException if something went wrong during the read.
+     * @throws IllegalStateException if the message has an unknown encoding.
+     */
+    default Map<String, String> peekAttributes(Set<String> names) throws CloudEventRWException, IllegalStateException {
+        switch (getEncoding()) {
+            case BINARY:
+                return this.read(new AttributesCollector(names));
+            case STRUCTURED:
+                return this.read((format, value) -> format.peekAttributes(value, names));
+            default:
+                throw new IllegalStateException(
+                    "The provided Encoding doesn't exist. Please make sure your io.cloudevents deps versions are aligned."
+                );
+        }
+    }
+
     /**
      * Read the content of this object using a {@link MessageWriter}. This method allows to transcode an event from one transport to another without
      * converting it to {@link CloudEvent}. The resulting encoding will be the same as the original encoding.
@@ -93,6 +141,78 @@ public interface MessageReader extends StructuredMessageReader, CloudEventReader
         }
     }
 
+    /**
+     * Read the content of this message as binary, no matter its encoding, without converting it to {@link CloudEvent}.
+     * <p>
+     * Binary messages are read as in {@link #read(CloudEventWriterFactory)}, while structured messages are parsed
+     * with {@link EventFormat#read(byte[], CloudEventWriterFactory, CloudEventDataMapper)}, which writes the attributes
+     * and the data to the writer while parsing them.
+     *
+     * @param <W>           the {@link CloudEventWriter} type
+     * @param <R>           the return type of the {@link CloudEventWriter}
+     * @param writerFactory a factory that generates a reader starting from the {@link SpecVersion} of the event
+     * @return the return value of the {@link CloudEventWriter}
+     * @throws CloudEventRWException if something went wrong during the visit.
+     * @throws IllegalStateException if the message has an unknown encoding.
+     */
+    default <W extends CloudEventWriter<R>, R> R transcodeToBinary(CloudEventWriterFactory<W, R> writerFactory) throws CloudEventRWException, IllegalStateException {
+        switch (getEncoding()) {
+            case BINARY:
+                return this.read(writerFactory);
+            case STRUCTURED:
+                return this.read((format, value) -> format.read(value, writerFactory, CloudEventDataMapper.identity()));
+            default:
+                throw new IllegalStateException(
+                    "The provided Encoding doesn't exist. Please make sure your io.cloudevents deps versions are aligned."
+                );
+        }
+    }
+
+    /**
+     * Read the content of this message as structured, using the provided {@link EventFormat}, no matter its encoding.
+     * <p>
+     * Structured messages already serialized with the same format, meaning the same instance or an instance equal to it,
+     * are handed over to the {@code writer} as they are. Otherwise they are deserialized and serialized again with {@code format}.
+     * Binary messages are read into a {@link io.cloudevents.core.impl.LazyCloudEvent}, which doesn't parse the
+     * attributes values, and then serialized with {@link MessageWriter#writeStructured(CloudEvent, EventFormat)}.
+     *
+     * @param <BW>   the {@link CloudEventWriter} type
+     * @param <R>    the return type of both {@link CloudEventWriter} and {@link StructuredMessageWriter}
+     * @param writer the {@link MessageWriter} accepting this Message
+     * @param format the {@link EventFormat} to use to serialize the event
+     * @return the return value of the {@link MessageWriter}
+     * @throws CloudEventRWException if something went wrong during the visit.
+     * @throws IllegalStateException if the message has an unknown encoding.
+     */
+    default <BW extends CloudEventWriter<R>, R> R transcodeToStructured(MessageWriter<BW, R> writer, EventFormat format) throws CloudEventRWException, IllegalStateException {
+        switch (getEncoding()) {
+            case BINARY:
+                return writer.writeStructured(this.read(LazyCloudEventWriter::new), format);
+            case STRUCTURED:
+                return this.read(new StructuredMessageWriter<R>() {
+                    @Override
+                    public R setEvent(EventFormat sourceFormat, byte[] value) {
+                        if (isSameFormat(sourceFormat, format)) {
+                            return writer.setEvent(format, value);
+                        }
+                        return writer.writeStructured(sourceFormat.deserialize(value), format);
+                    }
+
+                    @Override
+                    public R setEvent(EventFormat sourceFormat, ByteBuffer value) {
+                        if (isSameFormat(sourceFormat, format)) {
+                            return writer.setEvent(format, value);
+                        }
+                        return writer.writeStructured(sourceFormat.deserialize(value), format);
+                    }
+                });
+            default:
+                throw new IllegalStateException(
+                    "The provided Encoding doesn't exist. Please make sure your io.cloudevents deps versions are aligned."
+                );
+        }
+    }
+
     /**
      * Like {@link #toEvent(CloudEventDataMapper)}, but with the identity {@link CloudEventDataMapper}.
      *
@@ -111,11 +231,34 @@ public interface MessageReader extends StructuredMessageReader, CloudEventReader
      * @throws IllegalStateException if the message has an unknown encoding.
      */
     default CloudEvent toEvent(CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+        CloudEventValidatorProvider validatorProvider = CloudEventValidatorProvider.getInstance();
+        if (validatorProvider.isTrustedDecode()) {
+            return validatorProvider.runTrusted(() -> decodeEvent(mapper));
+        }
+        return decodeEvent(mapper);
+    }
+
+    private static boolean isSameFormat(EventFormat left, EventFormat right) {
+        // Formats with the same content type may still serialize differently, depending on their configuration
+        return left == right || left.equals(right);
+    }
+
+    private CloudEvent decodeEvent(CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
         switch (getEncoding()) {
             case BINARY:
                 return CloudEventUtils.toEvent(this, mapper);
             case STRUCTURED:
-                return this.read((format, value) -> format.deserialize(value, mapper));
+                return this.read(new StructuredMessageWriter<CloudEvent>() {
+                    @Override
+                    public CloudEvent setEvent(EventFormat format, byte[] value) {
+                        return format.deserialize(value, mapper);
+                    }
+
+                    @Override
+                    public CloudEvent setEvent(EventFormat format, ByteBuffer value) {
+                        return format.deserialize(value, mapper);
+                    }
+                });
             default:
                 throw new IllegalStateException(
                     "The provided Encoding doesn't exist. Please make sure your io.cloudevents deps versions are aligned."
@@ -21,6 +21,7 @@ import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.rw.CloudEventRWException;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.ByteBuffer;
 
 /**
  * Interface to write the {@link MessageReader} content (CloudEvents attributes, extensions and payload) to a new representation structured representation.
@@ -36,4 +37,16 @@ public interface StructuredMessageWriter<R> {
      */
     R setEvent(EventFormat format, byte[] value) throws CloudEventRWException;
 
+    /**
+     * Write an event using the provided {@link EventFormat}, reading it from the remaining bytes of a {@link ByteBuffer}.
+     * <p>
+     * The default implementation copies the remaining bytes and invokes {@link #setEvent(EventFormat, byte[])}:
+     * writers able to consume a {@link ByteBuffer} should override it to avoid the copy.
+     */
+    default R setEvent(EventFormat format, ByteBuffer value) throws CloudEventRWException {
+        byte[] bytes = new byte[value.remaining()];
+        value.get(bytes);
+        return setEvent(format, bytes);
+    }
+
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.message.impl;
+
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link CloudEventWriter} collecting a set of context attributes and extensions in their {@link String} encoding,
+ * ignoring the others and the data.
+ * <p>
+ * This is used to implement {@link io.cloudevents.core.message.MessageReader#peekAttributes(Set)}: it can be used
+ * as {@link CloudEventWriterFactory} to read a binary message, or directly as {@link CloudEventContextWriter}
+ * after invoking {@link #create(SpecVersion)}.
+ */
+public final class AttributesCollector implements CloudEventWriterFactory<AttributesCollector, Map<String, String>>, CloudEventWriter<Map<String, String>> {
+
+    private final Set<String> names;
+    private final Map<String, String> attributes;
+
+    /**
+     * @param names the names of the context attributes and extensions to collect
+     */
+    public AttributesCollector(Set<String> names) {
+        this.names = names;
+        this.attributes = new HashMap<>(Math.max(4, names.size() * 2));
+    }
+
+    @Override
+    public AttributesCollector create(SpecVersion version) {
+        if (names.contains("specversion")) {
+            attributes.put("specversion", version.toString());
+        }
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+        if (value != null && names.contains(name)) {
+            attributes.put(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, OffsetDateTime value) throws CloudEventRWException {
+        // Skip the encoding of the attributes which are not collected
+        if (names.contains(name)) {
+            CloudEventWriter.super.withContextAttribute(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        if (names.contains(name)) {
+            CloudEventWriter.super.withContextAttribute(name, value);
+        }
+        return this;
+    }
+
+    @Override
+    public Map<String, String> end(CloudEventData data) {
+        return attributes;
+    }
+
+    @Override
+    public Map<String, String> end() {
+        return attributes;
+    }
+
+    /**
+     * @return the collected attributes, keyed by their name
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+}
@@ -17,15 +17,23 @@
 
 package io.cloudevents.core.message.impl;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.impl.LazyCloudEvent;
+import io.cloudevents.core.impl.LazyCloudEventWriter;
+import io.cloudevents.core.provider.CloudEventValidatorProvider;
 import io.cloudevents.core.v1.CloudEventV1;
 import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
 import io.cloudevents.rw.CloudEventWriterFactory;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 /**
@@ -33,12 +41,23 @@ import java.util.function.BiConsumer;
  * providing common logic to most protocol bindings which supports both Binary and Structured mode.
  * <p>
  * Content-type is handled separately using a key not prefixed with CloudEvents header prefix.
+ * <p>
+ * When the system property {@value #LAZY_EVENT_PROPERTY} is {@code true}, {@link #toEvent(CloudEventDataMapper)}
+ * returns a {@link LazyCloudEvent}, which parses the {@code source}, {@code dataschema} and {@code time} headers
+ * only when they're accessed.
  *
  * @param <HK> Header key type
  * @param <HV> Header value type
  */
 public abstract class BaseGenericBinaryMessageReaderImpl<HK, HV> extends BaseBinaryMessageReader {
 
+    /**
+     * System property enabling the creation of {@link LazyCloudEvent} in {@link #toEvent(CloudEventDataMapper)}.
+     */
+    public static final String LAZY_EVENT_PROPERTY = "io.cloudevents.message.lazyEvent";
+
+    private static final boolean LAZY_EVENT = Boolean.getBoolean(LAZY_EVENT_PROPERTY);
+
     private final SpecVersion version;
     private final CloudEventData body;
 
@@ -78,6 +97,50 @@ public abstract class BaseGenericBinaryMessageReaderImpl<HK, HV> extends BaseBin
         return visitor.end();
     }
 
+    /**
+     * Read the provided attributes straight from the headers, without touching the body.
+     */
+    @Override
+    public Map<String, String> peekAttributes(Set<String> names) throws CloudEventRWException {
+        Map<String, String> attributes = new HashMap<>(Math.max(4, names.size() * 2));
+        if (names.contains(CloudEventV1.SPECVERSION)) {
+            attributes.put(CloudEventV1.SPECVERSION, this.version.toString());
+        }
+        this.forEachHeader((key, value) -> {
+            if (value == null) {
+                return;
+            }
+            String name;
+            if (isContentTypeHeader(key)) {
+                name = CloudEventV1.DATACONTENTTYPE;
+            } else if (isCloudEventsHeader(key)) {
+                name = toCloudEventsKey(key);
+            } else {
+                return;
+            }
+            if (names.contains(name) && !name.equals(CloudEventV1.SPECVERSION)) {
+                attributes.put(name, toCloudEventsValue(value));
+            }
+        });
+        return attributes;
+    }
+
+    @Override
+    public CloudEvent toEvent(CloudEventDataMapper<? extends CloudEventData> mapper) throws CloudEventRWException, IllegalStateException {
+        CloudEventValidatorProvider validatorProvider = CloudEventValidatorProvider.getInstance();
+        if (validatorProvider.isTrustedDecode()) {
+            return validatorProvider.runTrusted(() -> decodeEvent(mapper));
+        }
+        return decodeEvent(mapper);
+    }
+
+    private CloudEvent decodeEvent(CloudEventDataMapper<? extends CloudEventData> mapper) {
+        if (LAZY_EVENT) {
+            return this.read(LazyCloudEventWriter::new, mapper);
+        }
+        return CloudEventUtils.toEvent(this, mapper);
+    }
+
     /**
      * @param key header key
      * @return true if this header is the content type header, false otherwise
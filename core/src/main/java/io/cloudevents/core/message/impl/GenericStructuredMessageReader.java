@@ -24,6 +24,8 @@ import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.lang.Nullable;
 import io.cloudevents.rw.CloudEventRWException;
 
+import java.nio.ByteBuffer;
+
 /**
  * Generic implementation of a structured message.
  */
@@ -31,14 +33,32 @@ public class GenericStructuredMessageReader extends BaseStructuredMessageReader
 
     private final EventFormat format;
     private final byte[] payload;
+    private final ByteBuffer payloadBuffer;
 
     public GenericStructuredMessageReader(EventFormat format, byte[] payload) {
         this.format = format;
         this.payload = payload;
+        this.payloadBuffer = null;
+    }
+
+    /**
+     * Create a structured message reading the remaining bytes of {@code payload}, without copying them.
+     * The buffer position is not changed by the reads.
+     *
+     * @param format  the format of the serialized event
+     * @param payload serialized event
+     */
+    public GenericStructuredMessageReader(EventFormat format, ByteBuffer payload) {
+        this.format = format;
+        this.payload = null;
+        this.payloadBuffer = payload;
     }
 
     @Override
     public <T> T read(StructuredMessageWriter<T> writer) throws CloudEventRWException, IllegalStateException {
+        if (payloadBuffer != null) {
+            return writer.setEvent(format, payloadBuffer.duplicate());
+        }
         return writer.setEvent(format, payload);
     }
 
@@ -17,15 +17,21 @@
 
 package io.cloudevents.core.message.impl;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.Encoding;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.core.provider.ParsedContentType;
+import io.cloudevents.core.v1.CloudEventV1;
+import io.cloudevents.rw.CloudEventContextWriter;
 import io.cloudevents.rw.CloudEventRWException;
 
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,7 +62,8 @@ public class MessageUtils {
         // Let's try structured mode
         String ct = contentTypeHeaderReader.get();
         if (ct != null) {
-            EventFormat format = EventFormatProvider.getInstance().resolveFormat(ct);
+            ParsedContentType contentType = EventFormatProvider.getInstance().parseContentType(ct);
+            EventFormat format = contentType.getFormat();
             if (format != null) {
                 return structuredMessageFactory.apply(format);
             } else {
@@ -65,7 +72,7 @@ public class MessageUtils {
                  * CloudEvent family it indicates it's a structured
                  * representation that we can't interpret.
                  */
-                if (ct.startsWith("application/cloudevents")) {
+                if (contentType.isCloudEventsMediaType()) {
                     throw newUnknownEncodingException();
                 }
             }
@@ -96,6 +103,61 @@ public class MessageUtils {
             .collect(Collectors.toMap(Function.identity(), headerNameMapping));
     }
 
+    /**
+     * Estimate the size of the headers written by a binary mode {@link io.cloudevents.core.message.MessageWriter},
+     * for bindings writing every attribute and extension as a header with a UTF-8 {@link String} value.
+     * The spec version header is included. The size of the data is not included.
+     *
+     * @param event              the event to estimate
+     * @param headerNameMapping  mapper from attribute and extension names to header names
+     * @param perHeaderOverhead  the number of bytes added by the binding to every header, like separators and length prefixes
+     * @return the estimated size of the headers, in bytes
+     */
+    public static int estimateBinaryHeadersSize(CloudEvent event, Function<String, String> headerNameMapping, int perHeaderOverhead) {
+        return estimateBinaryHeadersSize(event, headerNameMapping, (keyLength, valueLength) -> keyLength + valueLength + perHeaderOverhead);
+    }
+
+    /**
+     * Like {@link #estimateBinaryHeadersSize(CloudEvent, Function, int)}, for bindings whose per header overhead depends
+     * on the length of the header, like the ones encoding the lengths as varints.
+     *
+     * @param event             the event to estimate
+     * @param headerNameMapping mapper from attribute and extension names to header names
+     * @param headerSize        function computing the size of a header from the UTF-8 lengths of its name and value
+     * @return the estimated size of the headers, in bytes
+     */
+    public static int estimateBinaryHeadersSize(CloudEvent event, Function<String, String> headerNameMapping, IntBinaryOperator headerSize) {
+        HeadersSizeEstimator estimator = new HeadersSizeEstimator(headerNameMapping, headerSize);
+        estimator.withContextAttribute(CloudEventV1.SPECVERSION, event.getSpecVersion().toString());
+        CloudEventUtils.toContextReader(event).readContext(estimator);
+        return estimator.size;
+    }
+
+    /**
+     * @param value the string to measure
+     * @return the number of bytes of {@code value} encoded in UTF-8 as {@link java.nio.charset.StandardCharsets#UTF_8} does,
+     * which replaces every lone surrogate with a single {@code ?} byte
+     */
+    public static int utf8Length(CharSequence value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800) {
+                if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // Surrogate pairs are 4 bytes in total
+                    bytes += 2;
+                    i++;
+                }
+            } else if (c >= 0x80) {
+                bytes += 1;
+            }
+        }
+        return bytes;
+    }
+
     /**
      * @param expected the expected encoding
      * @param actual   the actual encoding
@@ -105,4 +167,22 @@ public class MessageUtils {
         return new IllegalStateException("Cannot visit message as " + expected + " because the actual encoding is " + actual);
     }
 
+    private static final class HeadersSizeEstimator implements CloudEventContextWriter {
+
+        private final Function<String, String> headerNameMapping;
+        private final IntBinaryOperator headerSize;
+        private int size;
+
+        private HeadersSizeEstimator(Function<String, String> headerNameMapping, IntBinaryOperator headerSize) {
+            this.headerNameMapping = headerNameMapping;
+            this.headerSize = headerSize;
+        }
+
+        @Override
+        public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+            size += headerSize.applyAsInt(utf8Length(headerNameMapping.apply(name)), utf8Length(value));
+            return this;
+        }
+    }
+
 }
@@ -17,26 +17,72 @@
 package io.cloudevents.core.provider;
 
 import io.cloudevents.CloudEvent;
+import io.cloudevents.core.impl.LazyCloudEvent;
 import io.cloudevents.core.validator.CloudEventValidator;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.ServiceLoader;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * CloudEventValidatorProvider is a singleton class which loads and access CE Validator service providers on behalf of service clients.
+ * <p>
+ * When loading the validators, this provider compiles a dispatch table from the types declared by {@link CloudEventValidator#getTypes()},
+ * and the sources declared by {@link CloudEventValidator#getSources()}, so every event is passed only to the validators
+ * applying to its type and source. Sources are matched in their string form, and the source of an event is read only
+ * when a validator declares sources for its type.
+ * <p>
+ * Validation can be skipped when decoding events from trusted sources, either for a single decode with
+ * {@link #runTrusted(Supplier)}, or for every {@link io.cloudevents.core.message.MessageReader#toEvent()} invocation
+ * setting the system property {@value #TRUSTED_DECODE_PROPERTY} to {@code true}.
+ * <p>
+ * The time spent in every validator is measured only if the system property {@value #TIMING_PROPERTY} is {@code true}.
  */
 public class CloudEventValidatorProvider {
 
-    private static final CloudEventValidatorProvider cloudEventValidatorProvider = new CloudEventValidatorProvider();
+    /**
+     * System property disabling the validation of the events decoded by {@link io.cloudevents.core.message.MessageReader#toEvent()}.
+     */
+    public static final String TRUSTED_DECODE_PROPERTY = "io.cloudevents.validator.trustedDecode";
+
+    /**
+     * System property enabling the measurement of the time spent in every validator, see {@link ValidatorStatistics#getTotalTimeNanos()}.
+     */
+    public static final String TIMING_PROPERTY = "io.cloudevents.validator.timing";
+
+    private static final CloudEventValidatorProvider cloudEventValidatorProvider = new CloudEventValidatorProvider(
+        ServiceLoader.load(CloudEventValidator.class),
+        Boolean.getBoolean(TIMING_PROPERTY)
+    );
 
-    private final Collection<CloudEventValidator> validators;
+    private static final ThreadLocal<int[]> TRUSTED_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
-    private CloudEventValidatorProvider() {
-        final ServiceLoader<CloudEventValidator> loader = ServiceLoader.load(CloudEventValidator.class);
-        this.validators = new ArrayList<>(2);
-        for (CloudEventValidator cloudEventValidator : loader) {
-            validators.add(cloudEventValidator);
+    private final boolean trustedDecode = Boolean.getBoolean(TRUSTED_DECODE_PROPERTY);
+    private final List<ValidatorStatistics> statistics;
+    private final Dispatch anyType;
+    private final Map<String, Dispatch> byType;
+
+    CloudEventValidatorProvider(Iterable<CloudEventValidator> validators, boolean timing) {
+        List<ValidatorStatistics> statistics = new ArrayList<>(2);
+        for (CloudEventValidator validator : validators) {
+            statistics.add(new ValidatorStatistics(validator, timing));
+        }
+        this.statistics = Collections.unmodifiableList(statistics);
+
+        // Every type gets the validators applying to all the types, plus its own ones, in loading order
+        Set<String> types = new HashSet<>();
+        for (ValidatorStatistics entry : statistics) {
+            types.addAll(entry.types);
+        }
+        this.anyType = new Dispatch(statistics.stream()
+            .filter(entry -> entry.types.isEmpty())
+            .toArray(ValidatorStatistics[]::new));
+        this.byType = new HashMap<>();
+        for (String type : types) {
+            this.byType.put(type, new Dispatch(statistics.stream()
+                .filter(entry -> entry.types.isEmpty() || entry.types.contains(type))
+                .toArray(ValidatorStatistics[]::new)));
         }
     }
 
@@ -50,8 +96,149 @@ public class CloudEventValidatorProvider {
      * @param cloudEvent event to validate.
      */
     public void validate(CloudEvent cloudEvent) {
-        for (final CloudEventValidator validator : validators) {
+        if (statistics.isEmpty() || TRUSTED_DEPTH.get()[0] > 0) {
+            return;
+        }
+        Dispatch dispatch = byType.isEmpty() ? anyType : byType.getOrDefault(cloudEvent.getType(), anyType);
+        ValidatorStatistics[] validators = dispatch.bySource.isEmpty()
+            ? dispatch.anySource
+            : dispatch.bySource.getOrDefault(sourceOf(cloudEvent), dispatch.anySource);
+        for (final ValidatorStatistics validator : validators) {
             validator.validate(cloudEvent);
         }
     }
+
+    private static String sourceOf(CloudEvent cloudEvent) {
+        if (cloudEvent instanceof LazyCloudEvent) {
+            // Don't parse the source just to select the validators
+            return ((LazyCloudEvent) cloudEvent).getRawSource();
+        }
+        URI source = cloudEvent.getSource();
+        return source != null ? source.toString() : null;
+    }
+
+    /**
+     * Run the provided action skipping the validation of the events built in the current thread.
+     *
+     * @param action the action to run, usually decoding an event
+     * @param <T>    the action result type
+     * @return the action result
+     */
+    public <T> T runTrusted(Supplier<T> action) {
+        int[] depth = TRUSTED_DEPTH.get();
+        depth[0]++;
+        try {
+            return action.get();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    /**
+     * @return true if the system property {@value #TRUSTED_DECODE_PROPERTY} is {@code true}
+     */
+    public boolean isTrustedDecode() {
+        return trustedDecode;
+    }
+
+    /**
+     * @return the statistics of every loaded validator, in loading order
+     */
+    public List<ValidatorStatistics> getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Validators applying to a type, with the ones declaring sources compiled per source.
+     */
+    private static final class Dispatch {
+
+        private final ValidatorStatistics[] anySource;
+        private final Map<String, ValidatorStatistics[]> bySource;
+
+        private Dispatch(ValidatorStatistics[] validators) {
+            // Every source gets the validators applying to all the sources, plus its own ones, in loading order
+            Set<String> sources = new HashSet<>();
+            for (ValidatorStatistics entry : validators) {
+                sources.addAll(entry.sources);
+            }
+            this.anySource = Arrays.stream(validators)
+                .filter(entry -> entry.sources.isEmpty())
+                .toArray(ValidatorStatistics[]::new);
+            this.bySource = new HashMap<>();
+            for (String source : sources) {
+                this.bySource.put(source, Arrays.stream(validators)
+                    .filter(entry -> entry.sources.isEmpty() || entry.sources.contains(source))
+                    .toArray(ValidatorStatistics[]::new));
+            }
+        }
+    }
+
+    /**
+     * Timing and rejection counters of a loaded {@link CloudEventValidator}.
+     */
+    public static final class ValidatorStatistics {
+
+        private final CloudEventValidator validator;
+        private final Set<String> types;
+        private final Set<String> sources;
+        private final boolean timing;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+
+        private ValidatorStatistics(CloudEventValidator validator, boolean timing) {
+            this.validator = validator;
+            this.types = new HashSet<>(validator.getTypes());
+            this.sources = new HashSet<>();
+            for (URI source : validator.getSources()) {
+                this.sources.add(source.toString());
+            }
+            this.timing = timing;
+        }
+
+        private void validate(CloudEvent cloudEvent) {
+            long start = timing ? System.nanoTime() : 0;
+            try {
+                validator.validate(cloudEvent);
+            } catch (RuntimeException e) {
+                rejections.increment();
+                throw e;
+            } finally {
+                invocations.increment();
+                if (timing) {
+                    totalTimeNanos.add(System.nanoTime() - start);
+                }
+            }
+        }
+
+        /**
+         * @return the validator
+         */
+        public CloudEventValidator getValidator() {
+            return validator;
+        }
+
+        /**
+         * @return the number of events passed to the validator
+         */
+        public long getInvocations() {
+            return invocations.sum();
+        }
+
+        /**
+         * @return the number of events rejected by the validator
+         */
+        public long getRejections() {
+            return rejections.sum();
+        }
+
+        /**
+         * @return the total time spent in the validator, in nanoseconds, or 0 if the system property
+         * {@value CloudEventValidatorProvider#TIMING_PROPERTY} is not {@code true}
+         */
+        public long getTotalTimeNanos() {
+            return totalTimeNanos.sum();
+        }
+    }
 }
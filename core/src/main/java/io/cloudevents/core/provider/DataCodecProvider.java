@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.provider;
+
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.data.DataCodec;
+import io.cloudevents.lang.Nullable;
+import io.cloudevents.rw.CloudEventRWException;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Singleton holding the discovered {@link DataCodec} implementations through {@link ServiceLoader}.
+ * <p>
+ * You can resolve a codec using {@code DataCodecProvider.getInstance().resolveCodec(type, contentType)}.
+ * The codec with the most specific {@link DataCodec#getJavaType()} wins, and among codecs with the same Java type
+ * the last registered one wins. A {@link String} codec producing {@code text/plain} in UTF-8 is always available.
+ * <p>
+ * The resolution is cached per Java type and media type, so resolving the codec of a class already seen
+ * costs only a map lookup. The cache holds the Java types weakly through a {@link ClassValue}, and caches at most
+ * {@value #MAX_CACHED_MEDIA_TYPES} media types per Java type, because content types can come from the outside.
+ * Registering a new codec with {@link #registerCodec(DataCodec)} publishes a new set of codecs with an empty cache.
+ */
+@ParametersAreNonnullByDefault
+public final class DataCodecProvider {
+
+    private static class SingletonContainer {
+        private final static DataCodecProvider INSTANCE = new DataCodecProvider();
+    }
+
+    /**
+     * @return instance of {@link DataCodecProvider}
+     */
+    public static DataCodecProvider getInstance() {
+        return SingletonContainer.INSTANCE;
+    }
+
+    private static final String ANY_CONTENT_TYPE = "";
+    private static final int MAX_CACHED_MEDIA_TYPES = 32;
+
+    private volatile Registry registry;
+
+    DataCodecProvider() {
+        this.registry = new Registry(List.of(TextDataCodec.INSTANCE));
+        ServiceLoader.load(DataCodec.class).forEach(this::registerCodec);
+    }
+
+    /**
+     * Register a new {@link DataCodec} programmatically.
+     *
+     * @param codec the new codec to register
+     */
+    public synchronized void registerCodec(DataCodec<?> codec) {
+        List<DataCodec<?>> codecs = new ArrayList<>(this.registry.codecs.size() + 1);
+        codecs.add(codec);
+        codecs.addAll(this.registry.codecs);
+        // Resolutions still running on the previous registry populate its cache, which is not read anymore
+        this.registry = new Registry(Collections.unmodifiableList(codecs));
+    }
+
+    /**
+     * @return the registered codecs, sorted by priority
+     */
+    public List<DataCodec<?>> getCodecs() {
+        return this.registry.codecs;
+    }
+
+    /**
+     * Resolve the codec able to encode objects of type {@code type} to {@code contentType}.
+     *
+     * @param type        the type of the objects to encode
+     * @param contentType the content type of the encoded data, or null to use the content type of the resolved codec
+     * @param <T>         the type of the objects to encode
+     * @return null if no codec was found
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> DataCodec<? super T> resolveCodec(Class<T> type, @Nullable String contentType) {
+        Registry registry = this.registry;
+        Map<String, Optional<DataCodec<?>>> byMediaType = registry.resolved.get(type);
+        String key = contentType == null ? ANY_CONTENT_TYPE : toMediaType(contentType);
+        Optional<DataCodec<?>> codec = byMediaType.get(key);
+        if (codec == null) {
+            codec = Optional.ofNullable(registry.lookup(type, contentType == null ? null : key));
+            if (byMediaType.size() < MAX_CACHED_MEDIA_TYPES) {
+                byMediaType.put(key, codec);
+            }
+        }
+        return (DataCodec<? super T>) codec.orElse(null);
+    }
+
+    /**
+     * Like {@link #resolveCodec(Class, String)}, but fails if no codec was found.
+     *
+     * @param type        the type of the objects to encode
+     * @param contentType the content type of the encoded data, or null to use the content type of the resolved codec
+     * @param <T>         the type of the objects to encode
+     * @return the resolved codec
+     * @throws CloudEventRWException if no codec can encode objects of type {@code type}
+     */
+    public <T> DataCodec<? super T> requireCodec(Class<T> type, @Nullable String contentType) throws CloudEventRWException {
+        DataCodec<? super T> codec = resolveCodec(type, contentType);
+        if (codec == null) {
+            throw CloudEventRWException.newInvalidDataType(
+                type.getName() + (contentType != null ? " as " + contentType : ""),
+                byte[].class.getName(), CloudEventData.class.getName()
+            );
+        }
+        return codec;
+    }
+
+    private static String toMediaType(String contentType) {
+        // Codecs ignore the content type parameters, see DataCodec#supportsContentType(String)
+        int i = contentType.indexOf(';');
+        return (i == -1 ? contentType : contentType.substring(0, i)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable set of codecs, sorted by priority with the last registered first, together with its resolution cache.
+     */
+    private static final class Registry {
+
+        private final List<DataCodec<?>> codecs;
+        private final ClassValue<Map<String, Optional<DataCodec<?>>>> resolved = new ClassValue<>() {
+            @Override
+            protected Map<String, Optional<DataCodec<?>>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        private Registry(List<DataCodec<?>> codecs) {
+            this.codecs = codecs;
+        }
+
+        private DataCodec<?> lookup(Class<?> type, @Nullable String contentType) {
+            DataCodec<?> best = null;
+            for (DataCodec<?> codec : this.codecs) {
+                if (!codec.getJavaType().isAssignableFrom(type)) {
+                    continue;
+                }
+                if (contentType != null && !codec.supportsContentType(contentType)) {
+                    continue;
+                }
+                if (best == null || (best.getJavaType() != codec.getJavaType() && best.getJavaType().isAssignableFrom(codec.getJavaType()))) {
+                    best = codec;
+                }
+            }
+            return best;
+        }
+    }
+
+    private static final class TextDataCodec implements DataCodec<String> {
+
+        private static final TextDataCodec INSTANCE = new TextDataCodec();
+
+        @Override
+        public Class<String> getJavaType() {
+            return String.class;
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/plain";
+        }
+
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
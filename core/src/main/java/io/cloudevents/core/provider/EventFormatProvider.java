@@ -17,10 +17,14 @@
 
 package io.cloudevents.core.provider;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.StreamSupport;
 
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -38,10 +42,19 @@ import io.cloudevents.lang.Nullable;
  * <p>
  * You can programmatically add a new {@link EventFormat} implementation using
  * {@link #registerFormat(EventFormat)}.
+ * <p>
+ * The registered formats are kept in a copy-on-write registry, so formats can be registered
+ * at runtime while other threads resolve content types. Parsed content type header values are
+ * kept in a bounded cache, which is reset on every registration.
  */
 @ParametersAreNonnullByDefault
 public final class EventFormatProvider {
 
+	/**
+	 * Maximum number of distinct content type header values cached by {@link #parseContentType(String)}.
+	 */
+	static final int MAX_CACHED_CONTENT_TYPES = 256;
+
 	private static class SingletonContainer {
 		private final static EventFormatProvider INSTANCE = new EventFormatProvider();
 	}
@@ -53,10 +66,10 @@ public final class EventFormatProvider {
 		return EventFormatProvider.SingletonContainer.INSTANCE;
 	}
 
-	private final HashMap<String, EventFormat> formats;
+	private volatile Registry registry;
 
 	private EventFormatProvider() {
-		this.formats = new HashMap<>();
+		this.registry = new Registry(Collections.emptyMap());
 
 		StreamSupport.stream(ServiceLoader.load(EventFormat.class).spliterator(), false)
 				.forEach(this::registerFormat);
@@ -64,13 +77,18 @@ public final class EventFormatProvider {
 
 	/**
 	 * Register a new {@link EventFormat} programmatically.
+	 * <p>
+	 * This method is thread-safe, and the new format is visible to the threads resolving
+	 * content types as soon as this method returns.
 	 *
 	 * @param format the new format to register
 	 */
-	public void registerFormat(EventFormat format) {
+	public synchronized void registerFormat(EventFormat format) {
+		Map<String, EventFormat> formats = new HashMap<>(this.registry.formats);
 		for (String k : format.deserializableContentTypes()) {
-			this.formats.put(k, format);
+			formats.put(k.toLowerCase(Locale.ROOT), format);
 		}
+		this.registry = new Registry(Collections.unmodifiableMap(formats));
 	}
 
 	/**
@@ -79,24 +97,20 @@ public final class EventFormatProvider {
 	 * @return an alphabetically sorted list of content types
 	 */
 	public Set<String> getContentTypes() {
-		Set<String> types = new TreeSet<>();
-		types.addAll(this.formats.keySet());
-		return types;
+		return new TreeSet<>(this.registry.formats.keySet());
 	}
 
 	/**
 	 * Resolve an event format starting from the content type.
+	 * <p>
+	 * The media type is matched ignoring case and surrounding whitespaces, and the parameters are ignored.
 	 *
 	 * @param contentType the content type to resolve the event format
 	 * @return null if no format was found for the provided content type
 	 */
 	@Nullable
 	public EventFormat resolveFormat(String contentType) {
-		int i = contentType.indexOf(';');
-		if (i != -1) {
-			contentType = contentType.substring(0, i);
-		}
-		return this.formats.get(contentType);
+		return parseContentType(contentType).getFormat();
 	}
 
 	/**
@@ -107,6 +121,54 @@ public final class EventFormatProvider {
 	 */
 	@Nullable
 	public EventFormat resolveFormat(ContentType contentType) {
-		return this.formats.get(contentType.value());
+		return this.registry.formats.get(contentType.value());
+	}
+
+	/**
+	 * Parse a content type header value, like {@code application/cloudevents+json; charset=utf-8}, resolving
+	 * the event format of its media type.
+	 * <p>
+	 * The result is cached per raw header value, so the parsing cost is paid once per distinct value.
+	 *
+	 * @param contentType the content type header value
+	 * @return the parsed content type, whose {@link ParsedContentType#getFormat()} is null if no format was found
+	 */
+	public ParsedContentType parseContentType(String contentType) {
+		return this.registry.parse(contentType);
+	}
+
+	/**
+	 * @return the number of cached content types
+	 */
+	int cachedContentTypes() {
+		return this.registry.cache.size();
+	}
+
+	/**
+	 * Immutable snapshot of the registered formats, together with the content types parsed against them.
+	 */
+	private static final class Registry {
+
+		private final Map<String, EventFormat> formats;
+		private final ConcurrentHashMap<String, ParsedContentType> cache = new ConcurrentHashMap<>();
+
+		private Registry(Map<String, EventFormat> formats) {
+			this.formats = formats;
+		}
+
+		private ParsedContentType parse(String contentType) {
+			ParsedContentType parsed = this.cache.get(contentType);
+			if (parsed != null) {
+				return parsed;
+			}
+			parsed = ParsedContentType.parse(contentType, this.formats);
+			if (this.cache.size() >= MAX_CACHED_CONTENT_TYPES) {
+				// Header values are usually few, so when the cache is full someone is sending random values:
+				// start over rather than tracking the least recently used entries
+				this.cache.clear();
+			}
+			ParsedContentType existing = this.cache.putIfAbsent(contentType, parsed);
+			return existing != null ? existing : parsed;
+		}
 	}
 }
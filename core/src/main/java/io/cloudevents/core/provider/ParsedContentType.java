@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.provider;
+
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.lang.Nullable;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A content type header value, split in its normalized media type and parameters, together with the {@link EventFormat}
+ * registered for the media type, if any.
+ * <p>
+ * The media type and the parameter names are lower-cased and stripped of the surrounding whitespaces,
+ * while quoted parameter values are unquoted. For example, {@code Application/CloudEvents+JSON ; Charset="UTF-8"}
+ * has media type {@code application/cloudevents+json} and parameter {@code charset} with value {@code UTF-8}.
+ * <p>
+ * Instances are created and cached by {@link EventFormatProvider#parseContentType(String)}.
+ */
+public final class ParsedContentType {
+
+    private final String mediaType;
+    private final Map<String, String> parameters;
+    private final Charset charset;
+    private final EventFormat format;
+
+    private ParsedContentType(String mediaType, Map<String, String> parameters, @Nullable Charset charset, @Nullable EventFormat format) {
+        this.mediaType = mediaType;
+        this.parameters = parameters;
+        this.charset = charset;
+        this.format = format;
+    }
+
+    /**
+     * @return the lower-cased media type, without parameters
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return the parameters, keyed by their lower-cased name
+     */
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @param name the parameter name
+     * @return the parameter value, or null if the parameter is missing
+     */
+    @Nullable
+    public String getParameter(String name) {
+        return parameters.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the charset of the {@code charset} parameter, or null if the parameter is missing or the charset is not supported
+     */
+    @Nullable
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * @return the {@link EventFormat} registered for the media type, or null if there is none
+     */
+    @Nullable
+    public EventFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return true if the media type belongs to the CloudEvents structured content types, like {@code application/cloudevents+json}
+     */
+    public boolean isCloudEventsMediaType() {
+        return mediaType.startsWith("application/cloudevents");
+    }
+
+    /**
+     * Parse the provided content type in a single pass over its characters.
+     */
+    static ParsedContentType parse(String contentType, Map<String, EventFormat> formats) {
+        int length = contentType.length();
+        int i = contentType.indexOf(';');
+        int end = i == -1 ? length : i;
+        String mediaType = contentType.substring(0, end).trim().toLowerCase(Locale.ROOT);
+
+        Map<String, String> parameters = Collections.emptyMap();
+        while (end < length) {
+            // Skip the ';'
+            int nameStart = end + 1;
+            int equals = -1;
+            int valueEnd = nameStart;
+            boolean quoted = false;
+            StringBuilder value = null;
+            for (; valueEnd < length; valueEnd++) {
+                char c = contentType.charAt(valueEnd);
+                if (quoted) {
+                    if (c == '\\' && valueEnd + 1 < length) {
+                        value.append(contentType.charAt(++valueEnd));
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == ';') {
+                    break;
+                } else if (equals == -1) {
+                    if (c == '=') {
+                        equals = valueEnd;
+                        value = new StringBuilder();
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else {
+                    value.append(c);
+                }
+            }
+            if (equals != -1) {
+                String name = contentType.substring(nameStart, equals).trim().toLowerCase(Locale.ROOT);
+                if (!name.isEmpty()) {
+                    if (parameters.isEmpty()) {
+                        parameters = new HashMap<>(4);
+                    }
+                    parameters.put(name, value.toString().trim());
+                }
+            }
+            end = valueEnd;
+        }
+
+        return new ParsedContentType(
+            mediaType,
+            parameters.isEmpty() ? parameters : Collections.unmodifiableMap(parameters),
+            parseCharset(parameters.get("charset")),
+            formats.get(mediaType)
+        );
+    }
+
+    @Nullable
+    private static Charset parseCharset(@Nullable String name) {
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+        try {
+            return Charset.forName(name);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ParsedContentType that = (ParsedContentType) o;
+        return Objects.equals(mediaType, that.mediaType) &&
+            Objects.equals(parameters, that.parameters) &&
+            Objects.equals(format, that.format);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mediaType, parameters, format);
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedContentType{" +
+            "mediaType='" + mediaType + '\'' +
+            ", parameters=" + parameters +
+            ", format=" + (format != null ? format.getClass().getName() : null) +
+            '}';
+    }
+}
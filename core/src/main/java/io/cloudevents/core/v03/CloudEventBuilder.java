@@ -19,6 +19,7 @@ package io.cloudevents.core.v03;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.builder.AttributeValueCache;
 import io.cloudevents.core.impl.BaseCloudEventBuilder;
 import io.cloudevents.core.provider.CloudEventValidatorProvider;
 import io.cloudevents.core.v1.CloudEventV1;
@@ -28,7 +29,6 @@ import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.types.Time;
 
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.time.OffsetDateTime;
 
 import static io.cloudevents.core.v03.CloudEventV03.*;
@@ -49,6 +49,14 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
     private String datacontenttype;
     private String subject;
 
+    private String templateId;
+    private URI templateSource;
+    private String templateType;
+    private OffsetDateTime templateTime;
+    private URI templateSchemaUrl;
+    private String templateDataContentType;
+    private String templateSubject;
+
     public CloudEventBuilder() {
         super();
     }
@@ -147,9 +155,38 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
         newBuilder.subject = this.subject;
         newBuilder.data = this.data;
         newBuilder.extensions.putAll(this.extensions);
+        newBuilder.attributeValueCache = this.attributeValueCache;
+        newBuilder.idGenerator = this.idGenerator;
+        newBuilder.clock = this.clock;
         return newBuilder;
     }
 
+    @Override
+    protected void saveTemplateAttributes() {
+        this.templateId = this.id;
+        this.templateSource = this.source;
+        this.templateType = this.type;
+        this.templateTime = this.time;
+        this.templateSchemaUrl = this.schemaurl;
+        this.templateDataContentType = this.datacontenttype;
+        this.templateSubject = this.subject;
+    }
+
+    @Override
+    protected void restoreTemplateAttributes() {
+        this.id = this.templateId;
+        this.source = this.templateSource;
+        this.type = this.templateType;
+        this.time = this.templateTime;
+        this.schemaurl = this.templateSchemaUrl;
+        this.datacontenttype = this.templateDataContentType;
+        this.subject = this.templateSubject;
+    }
+
+    AttributeValueCache getAttributeValueCache() {
+        return attributeValueCache;
+    }
+
     // Message impl
     @Override
     public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
@@ -159,14 +196,10 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
                 withId(value);
                 return this;
             case SOURCE:
-                try {
-                    withSource(new URI(value));
-                } catch (URISyntaxException e) {
-                    throw CloudEventRWException.newInvalidAttributeValue(SOURCE, value, e);
-                }
+                withSource(attributeValueCache.parseUri(SOURCE, value));
                 return this;
             case TYPE:
-                withType(value);
+                withType(attributeValueCache.intern(value));
                 return this;
             case DATACONTENTTYPE:
                 withDataContentType(value);
@@ -175,11 +208,7 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
                 // No-op, this information is not saved in the event because it's useful only for parsing
                 return this;
             case SCHEMAURL:
-                try {
-                    withSchemaUrl(new URI(value));
-                } catch (URISyntaxException e) {
-                    throw CloudEventRWException.newInvalidAttributeValue(SCHEMAURL, value, e);
-                }
+                withSchemaUrl(attributeValueCache.parseUri(SCHEMAURL, value));
                 return this;
             case SUBJECT:
                 withSubject(value);
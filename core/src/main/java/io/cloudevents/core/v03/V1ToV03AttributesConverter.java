@@ -22,7 +22,6 @@ import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.types.Time;
 
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.time.OffsetDateTime;
 
 import static io.cloudevents.core.v1.CloudEventV1.*;
@@ -42,24 +41,16 @@ class V1ToV03AttributesConverter implements CloudEventContextWriter {
                 builder.withId(value);
                 return this;
             case SOURCE:
-                try {
-                    builder.withSource(new URI(value));
-                } catch (URISyntaxException e) {
-                    throw CloudEventRWException.newInvalidAttributeValue(SOURCE, value, e);
-                }
+                builder.withSource(builder.getAttributeValueCache().parseUri(SOURCE, value));
                 return this;
             case TYPE:
-                builder.withType(value);
+                builder.withType(builder.getAttributeValueCache().intern(value));
                 return this;
             case DATACONTENTTYPE:
                 builder.withDataContentType(value);
                 return this;
             case DATASCHEMA:
-                try {
-                    builder.withSchemaUrl(new URI(value));
-                } catch (URISyntaxException e) {
-                    throw CloudEventRWException.newInvalidAttributeValue(DATASCHEMA, value, e);
-                }
+                builder.withSchemaUrl(builder.getAttributeValueCache().parseUri(DATASCHEMA, value));
                 return this;
             case SUBJECT:
                 builder.withSubject(value);
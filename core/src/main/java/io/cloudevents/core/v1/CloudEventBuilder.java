@@ -20,6 +20,7 @@ package io.cloudevents.core.v1;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.builder.AttributeValueCache;
 import io.cloudevents.core.impl.BaseCloudEventBuilder;
 import io.cloudevents.core.provider.CloudEventValidatorProvider;
 import io.cloudevents.core.validator.CloudEventValidator;
@@ -29,7 +30,6 @@ import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.types.Time;
 
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.time.OffsetDateTime;
 
 import static io.cloudevents.core.v1.CloudEventV1.*;
@@ -50,6 +50,14 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
     private String subject;
     private OffsetDateTime time;
 
+    private String templateId;
+    private URI templateSource;
+    private String templateType;
+    private String templateDataContentType;
+    private URI templateDataSchema;
+    private String templateSubject;
+    private OffsetDateTime templateTime;
+
     public CloudEventBuilder() {
         super();
     }
@@ -144,9 +152,38 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
         newBuilder.subject = this.subject;
         newBuilder.data = this.data;
         newBuilder.extensions.putAll(this.extensions);
+        newBuilder.attributeValueCache = this.attributeValueCache;
+        newBuilder.idGenerator = this.idGenerator;
+        newBuilder.clock = this.clock;
         return newBuilder;
     }
 
+    @Override
+    protected void saveTemplateAttributes() {
+        this.templateId = this.id;
+        this.templateSource = this.source;
+        this.templateType = this.type;
+        this.templateDataContentType = this.datacontenttype;
+        this.templateDataSchema = this.dataschema;
+        this.templateSubject = this.subject;
+        this.templateTime = this.time;
+    }
+
+    @Override
+    protected void restoreTemplateAttributes() {
+        this.id = this.templateId;
+        this.source = this.templateSource;
+        this.type = this.templateType;
+        this.datacontenttype = this.templateDataContentType;
+        this.dataschema = this.templateDataSchema;
+        this.subject = this.templateSubject;
+        this.time = this.templateTime;
+    }
+
+    AttributeValueCache getAttributeValueCache() {
+        return attributeValueCache;
+    }
+
     // Message impl
 
     @Override
@@ -157,24 +194,16 @@ public final class CloudEventBuilder extends BaseCloudEventBuilder<CloudEventBui
                 withId(value);
                 return this;
             case SOURCE:
-                try {
-                    withSource(new URI(value));
-                } catch (URISyntaxException e) {
-                    throw CloudEventRWException.newInvalidAttributeValue(SOURCE, value, e);
-                }
+                withSource(attributeValueCache.parseUri(SOURCE, value));
                 return this;
             case TYPE:
-                withType(value);
+                withType(attributeValueCache.intern(value));
                 return this;
             case DATACONTENTTYPE:
                 withDataContentType(value);
                 return this;
             case DATASCHEMA:
-                try {
-                    withDataSchema(new URI(value));
-                } catch (URISyntaxException e) {
-                    throw CloudEventRWException.newInvalidAttributeValue(DATASCHEMA, value, e);
-                }
+                withDataSchema(attributeValueCache.parseUri(DATASCHEMA, value));
                 return this;
             case SUBJECT:
                 withSubject(value);
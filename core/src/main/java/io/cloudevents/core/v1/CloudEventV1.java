@@ -16,12 +16,15 @@
  */
 package io.cloudevents.core.v1;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.impl.BaseCloudEvent;
+import io.cloudevents.core.provider.CloudEventValidatorProvider;
 import io.cloudevents.rw.CloudEventContextWriter;
 import io.cloudevents.rw.CloudEventRWException;
 
+import javax.annotation.Nonnull;
 import java.net.URI;
 import java.time.OffsetDateTime;
 import java.util.Map;
@@ -155,6 +158,38 @@ public final class CloudEventV1 extends BaseCloudEvent {
         throw new IllegalArgumentException("Spec version v1 doesn't have attribute named " + attributeName);
     }
 
+    /**
+     * Read a context attribute or extension through its handle, reading the attribute fields without looking them up by name.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(AttributeKey<T> key) {
+        Object value;
+        if (!key.isSpecAttribute()) {
+            value = this.extensions.get(key.getName());
+        } else if (key == AttributeKey.ID) {
+            value = this.id;
+        } else if (key == AttributeKey.SOURCE) {
+            value = this.source;
+        } else if (key == AttributeKey.TYPE) {
+            value = this.type;
+        } else if (key == AttributeKey.TIME) {
+            value = this.time;
+        } else if (key == AttributeKey.DATACONTENTTYPE) {
+            value = this.datacontenttype;
+        } else if (key == AttributeKey.SUBJECT) {
+            value = this.subject;
+        } else if (key == AttributeKey.DATASCHEMA) {
+            value = this.dataschema;
+        } else if (key == AttributeKey.SPECVERSION) {
+            value = getSpecVersion();
+        } else {
+            // Attribute of another spec version
+            value = null;
+        }
+        return (T) value;
+    }
+
     @Override
     public void readContext(CloudEventContextWriter writer) throws CloudEventRWException {
         writer.withContextAttribute(
@@ -196,6 +231,93 @@ public final class CloudEventV1 extends BaseCloudEvent {
         this.readExtensions(writer);
     }
 
+    /**
+     * Create a copy of this event with the provided extension, sharing all the other attributes, data and extensions.
+     *
+     * @param key   the extension name
+     * @param value the extension value
+     * @return the derived event
+     * @throws CloudEventRWException if the extension name is not valid
+     */
+    public CloudEventV1 withExtension(@Nonnull String key, @Nonnull String value) {
+        return derive(this.datacontenttype, getData(), extensionsWith(key, value));
+    }
+
+    /**
+     * @see #withExtension(String, String)
+     */
+    public CloudEventV1 withExtension(@Nonnull String key, @Nonnull Number value) {
+        return derive(this.datacontenttype, getData(), extensionsWith(key, value));
+    }
+
+    /**
+     * @see #withExtension(String, String)
+     */
+    public CloudEventV1 withExtension(@Nonnull String key, @Nonnull Boolean value) {
+        return derive(this.datacontenttype, getData(), extensionsWith(key, value));
+    }
+
+    /**
+     * @see #withExtension(String, String)
+     */
+    public CloudEventV1 withExtension(@Nonnull String key, @Nonnull URI value) {
+        return derive(this.datacontenttype, getData(), extensionsWith(key, value));
+    }
+
+    /**
+     * @see #withExtension(String, String)
+     */
+    public CloudEventV1 withExtension(@Nonnull String key, @Nonnull OffsetDateTime value) {
+        return derive(this.datacontenttype, getData(), extensionsWith(key, value));
+    }
+
+    /**
+     * @see #withExtension(String, String)
+     */
+    public CloudEventV1 withExtension(@Nonnull String key, @Nonnull byte[] value) {
+        return derive(this.datacontenttype, getData(), extensionsWith(key, value));
+    }
+
+    /**
+     * Create a copy of this event without the provided extension, sharing all the other attributes, data and extensions.
+     *
+     * @param key the extension name
+     * @return the derived event, or this event if it doesn't have the extension
+     */
+    public CloudEventV1 withoutExtension(@Nonnull String key) {
+        if (!this.extensions.containsKey(key)) {
+            return this;
+        }
+        return derive(this.datacontenttype, getData(), extensionsWithout(key));
+    }
+
+    /**
+     * Create a copy of this event with the provided data, sharing all the attributes and extensions.
+     *
+     * @param data the data of the derived event, could be null
+     * @return the derived event
+     */
+    public CloudEventV1 withData(CloudEventData data) {
+        return derive(this.datacontenttype, data, this.extensions);
+    }
+
+    /**
+     * Create a copy of this event with the provided data and content type, sharing all the other attributes and extensions.
+     *
+     * @param dataContentType the content type of the data of the derived event, could be null
+     * @param data            the data of the derived event, could be null
+     * @return the derived event
+     */
+    public CloudEventV1 withData(String dataContentType, CloudEventData data) {
+        return derive(dataContentType, data, this.extensions);
+    }
+
+    private CloudEventV1 derive(String datacontenttype, CloudEventData data, Map<String, Object> extensions) {
+        CloudEventV1 event = new CloudEventV1(this.id, this.source, this.type, datacontenttype, this.dataschema, this.subject, this.time, data, extensions);
+        CloudEventValidatorProvider.getInstance().validate(event);
+        return event;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
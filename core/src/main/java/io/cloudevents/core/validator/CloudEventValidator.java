@@ -18,6 +18,10 @@ package io.cloudevents.core.validator;
 
 import io.cloudevents.CloudEvent;
 
+import java.net.URI;
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * @author Vinay Bhat
  * Interface which defines validation for CloudEvents attributes and extensions.
@@ -30,4 +34,22 @@ public interface CloudEventValidator {
      * @param cloudEvent the CloudEvent to validate
      */
     void validate(CloudEvent cloudEvent);
+
+    /**
+     * Declare the event types this validator applies to. The events with other types are not passed to {@link #validate(CloudEvent)}.
+     *
+     * @return the event types this validator applies to, or an empty set if it applies to all the event types
+     */
+    default Set<String> getTypes() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Declare the event sources this validator applies to. The events with other sources are not passed to {@link #validate(CloudEvent)}.
+     *
+     * @return the event sources this validator applies to, or an empty set if it applies to all the event sources
+     */
+    default Set<URI> getSources() {
+        return Collections.emptySet();
+    }
 }
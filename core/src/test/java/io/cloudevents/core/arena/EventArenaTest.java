@@ -0,0 +1,250 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.arena;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.PojoCloudEventData;
+import io.cloudevents.core.test.Data;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EventArenaTest {
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void readStoredEvent(CloudEvent event) {
+        try (EventArena arena = EventArena.builder().build()) {
+            ArenaCloudEvent view = arena.allocate(event);
+
+            assertThat(view.getSpecVersion()).isEqualTo(event.getSpecVersion());
+            assertThat(view.getId()).isEqualTo(event.getId());
+            assertThat(view.getType()).isEqualTo(event.getType());
+            assertThat(view.getSource()).isEqualTo(event.getSource());
+            assertThat(view.getDataContentType()).isEqualTo(event.getDataContentType());
+            assertThat(view.getDataSchema()).isEqualTo(event.getDataSchema());
+            assertThat(view.getSubject()).isEqualTo(event.getSubject());
+            assertThat(view.getTime()).isEqualTo(event.getTime());
+            assertThat(view.getAttributeNames()).isEqualTo(event.getAttributeNames());
+            assertThat(view.getExtensionNames()).isEqualTo(event.getExtensionNames());
+            for (String name : event.getExtensionNames()) {
+                assertThat(view.getExtension(name)).isEqualTo(event.getExtension(name));
+            }
+            if (event.getData() != null) {
+                assertThat(view.getData().toBytes()).isEqualTo(event.getData().toBytes());
+                assertThat(view.getData().toByteBuffer().isDirect()).isTrue();
+            } else {
+                assertThat(view.getData()).isNull();
+            }
+            assertThat(view.toHeapEvent()).isEqualTo(event);
+        }
+    }
+
+    @Test
+    void extensionTypes() {
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN)
+            .withExtension("integer", 42)
+            .withExtension("long", 4200L)
+            .withExtension("decimal", 42.42)
+            .withExtension("boolean", false)
+            .withExtension("binary", BINARY_VALUE)
+            .withExtension("uri", SOURCE)
+            .withExtension("timestamp", TIME)
+            .withExtension("schemaurl", "not an attribute in v1")
+            .withExtension("string", "hèllo 😀")
+            .build();
+
+        try (EventArena arena = EventArena.builder().build()) {
+            ArenaCloudEvent view = arena.allocate(event);
+
+            assertThat(view.getExtension("integer")).isEqualTo(42);
+            assertThat(view.getExtension("long")).isEqualTo(4200L);
+            assertThat(view.getExtension("decimal")).isEqualTo("42.42");
+            assertThat(view.getExtension("boolean")).isEqualTo(false);
+            assertThat(view.getExtension("binary")).isEqualTo(BINARY_VALUE);
+            assertThat(view.getExtension("uri")).isEqualTo(SOURCE);
+            assertThat(view.getExtension("timestamp")).isEqualTo(TIME);
+            assertThat(view.getExtension("schemaurl")).isEqualTo("not an attribute in v1");
+            assertThat(view.getExtension("string")).isEqualTo("hèllo 😀");
+            assertThat(view.getExtension("missing")).isNull();
+        }
+    }
+
+    @Test
+    void unpairedSurrogates() {
+        String subject = "lone \uD83D high, lone \uDE00 low, trailing \uD83D";
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN)
+            .withSubject(subject)
+            .build();
+
+        try (EventArena arena = EventArena.builder().build()) {
+            ArenaCloudEvent view = arena.allocate(event);
+
+            // Replaced like String.getBytes(UTF_8) does
+            assertThat(view.getSubject())
+                .isEqualTo(new String(subject.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void releasedViewCannotBeAccessed() {
+        try (EventArena arena = EventArena.builder().build()) {
+            ArenaCloudEvent first = arena.allocate(V1_WITH_JSON_DATA);
+            ArenaCloudEvent second = arena.allocate(V1_WITH_TEXT_DATA);
+
+            first.release();
+
+            assertThat(first.isReleased()).isTrue();
+            assertThat(second.isReleased()).isFalse();
+            assertThat(second.getId()).isEqualTo(ID);
+            assertThatThrownBy(first::getId)
+                .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(first::release)
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(arena.getLiveEvents()).isEqualTo(1);
+            assertThat(arena.getUsedBytes()).isEqualTo(second.getStoredSize());
+        }
+    }
+
+    @Test
+    void releaseFromAnotherArena() {
+        try (EventArena arena = EventArena.builder().build(); EventArena other = EventArena.builder().build()) {
+            ArenaCloudEvent view = arena.allocate(V1_MIN);
+
+            assertThatThrownBy(() -> other.release(view))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void segmentsAreRecycled() {
+        try (EventArena arena = EventArena.builder().segmentSize(1024).build()) {
+            Deque<ArenaCloudEvent> queue = new ArrayDeque<>();
+            for (int i = 0; i < 100; i++) {
+                queue.add(arena.allocate(V1_WITH_JSON_DATA_WITH_EXT));
+            }
+            long allocatedBytes = arena.getAllocatedBytes();
+            assertThat(arena.getSegmentCount()).isGreaterThan(1);
+
+            // Use the arena as a FIFO queue
+            for (int i = 0; i < 10_000; i++) {
+                queue.poll().release();
+                queue.add(arena.allocate(V1_WITH_JSON_DATA_WITH_EXT));
+            }
+
+            assertThat(arena.getAllocatedBytes()).isLessThanOrEqualTo(allocatedBytes + 1024);
+            assertThat(arena.getLiveEvents()).isEqualTo(100);
+            for (ArenaCloudEvent view : queue) {
+                assertThat(view.toHeapEvent()).isEqualTo(V1_WITH_JSON_DATA_WITH_EXT);
+            }
+        }
+    }
+
+    @Test
+    void releaseAll() {
+        try (EventArena arena = EventArena.builder().segmentSize(256).build()) {
+            List<ArenaCloudEvent> views = new ArrayList<>();
+            Data.allEvents().forEach(event -> views.add(arena.allocate(event)));
+            long allocatedBytes = arena.getAllocatedBytes();
+
+            arena.releaseAll();
+
+            assertThat(views).allMatch(ArenaCloudEvent::isReleased);
+            assertThat(arena.getLiveEvents()).isZero();
+            assertThat(arena.getUsedBytes()).isZero();
+
+            Data.allEvents().forEach(arena::allocate);
+            assertThat(arena.getAllocatedBytes()).isEqualTo(allocatedBytes);
+        }
+    }
+
+    @Test
+    void dataEquality() {
+        try (EventArena arena = EventArena.builder().build()) {
+            CloudEventData first = arena.allocate(V1_WITH_JSON_DATA).getData();
+            CloudEventData second = arena.allocate(V1_WITH_JSON_DATA).getData();
+            CloudEventData bytes = V1_WITH_JSON_DATA.getData();
+
+            CloudEventData other = arena.allocate(V1_WITH_TEXT_DATA).getData();
+
+            assertThat(first)
+                .isEqualTo(second)
+                .hasSameHashCodeAs(second)
+                .isEqualTo(bytes)
+                .hasSameHashCodeAs(bytes)
+                .isNotEqualTo(other);
+            assertThat(bytes)
+                .isEqualTo(first)
+                .isNotEqualTo(other);
+            assertThat(first)
+                .isNotEqualTo(PojoCloudEventData.wrap(bytes.toBytes(), value -> value));
+        }
+    }
+
+    @Test
+    void oversizedEvent() {
+        byte[] data = "x".repeat(4096).getBytes(StandardCharsets.UTF_8);
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN).withData("text/plain", data).build();
+
+        try (EventArena arena = EventArena.builder().segmentSize(1024).build()) {
+            ArenaCloudEvent view = arena.allocate(event);
+            assertThat(view.getData().toBytes()).isEqualTo(data);
+            assertThat(arena.getAllocatedBytes()).isEqualTo(view.getStoredSize());
+
+            view.release();
+
+            assertThat(arena.getAllocatedBytes()).isZero();
+            assertThat(arena.getSegmentCount()).isZero();
+        }
+    }
+
+    @Test
+    void maxSize() {
+        try (EventArena arena = EventArena.builder().segmentSize(200).maxSize(400).build()) {
+            arena.allocate(V1_WITH_JSON_DATA);
+            arena.allocate(V1_WITH_JSON_DATA);
+
+            assertThatThrownBy(() -> arena.allocate(V1_WITH_JSON_DATA))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void closedArena() {
+        EventArena arena = EventArena.builder().build();
+        ArenaCloudEvent view = arena.allocate(V1_MIN);
+
+        arena.close();
+
+        assertThat(view.isReleased()).isTrue();
+        assertThatThrownBy(() -> arena.allocate(V1_MIN))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
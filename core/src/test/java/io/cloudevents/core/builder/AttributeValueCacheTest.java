@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.builder;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AttributeValueCacheTest {
+
+    @Test
+    void sharesParsedValues() {
+        AttributeValueCache cache = new AttributeValueCache(16);
+
+        CloudEvent first = readEvent(cache, SpecVersion.V1);
+        CloudEvent second = readEvent(cache, SpecVersion.V1);
+        CloudEvent third = readEvent(cache, SpecVersion.V03);
+
+        assertThat(second.getSource())
+            .isEqualTo(SOURCE)
+            .isSameAs(first.getSource())
+            .isSameAs(third.getSource());
+        assertThat(second.getDataSchema())
+            .isEqualTo(DATASCHEMA)
+            .isSameAs(first.getDataSchema())
+            .isSameAs(third.getDataSchema());
+        assertThat(second.getType())
+            .isSameAs(first.getType())
+            .isSameAs(third.getType());
+        assertThat(cache.getMissCount())
+            .isEqualTo(3);
+        assertThat(cache.getHitCount())
+            .isEqualTo(6);
+        assertThat(cache.size())
+            .isEqualTo(3);
+
+        cache.clear();
+        assertThat(cache.size())
+            .isZero();
+        assertThat(cache.getHitCount())
+            .isZero();
+    }
+
+    @Test
+    void boundedSize() {
+        AttributeValueCache cache = new AttributeValueCache(20);
+        for (int i = 0; i < 1000; i++) {
+            cache.parseUri("source", "/source/" + i);
+            cache.intern("type" + i);
+        }
+
+        assertThat(cache.size())
+            .isLessThanOrEqualTo(40);
+        assertThat(cache.getMissCount())
+            .isEqualTo(2000);
+    }
+
+    @Test
+    void invalidValueIsNotCached() {
+        AttributeValueCache cache = new AttributeValueCache(16);
+
+        assertThatThrownBy(() -> cache.parseUri("source", "%%invalid"))
+            .isInstanceOf(CloudEventRWException.class)
+            .extracting(t -> ((CloudEventRWException) t).getKind())
+            .isEqualTo(CloudEventRWException.CloudEventRWExceptionKind.INVALID_ATTRIBUTE_VALUE);
+        assertThat(cache.size())
+            .isZero();
+    }
+
+    @Test
+    void disabled() {
+        AttributeValueCache cache = AttributeValueCache.disabled();
+
+        URI first = cache.parseUri("source", SOURCE.toString());
+        URI second = cache.parseUri("source", SOURCE.toString());
+
+        assertThat(first)
+            .isEqualTo(second)
+            .isNotSameAs(second);
+        assertThat(cache.isEnabled())
+            .isFalse();
+        assertThat(cache.getHitCount() + cache.getMissCount())
+            .isZero();
+    }
+
+    @Test
+    void negativeMaxSize() {
+        assertThatThrownBy(() -> new AttributeValueCache(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CloudEvent readEvent(AttributeValueCache cache, SpecVersion specVersion) {
+        CloudEventWriter<CloudEvent> writer = specVersion == SpecVersion.V1 ?
+            new io.cloudevents.core.v1.CloudEventBuilder().withAttributeValueCache(cache) :
+            new io.cloudevents.core.v03.CloudEventBuilder().withAttributeValueCache(cache);
+        // Use new String instances, like the ones read from a message
+        writer.withContextAttribute("id", ID);
+        writer.withContextAttribute("type", new String(TYPE));
+        writer.withContextAttribute("source", new String(SOURCE.toString()));
+        writer.withContextAttribute(specVersion == SpecVersion.V1 ? "dataschema" : "schemaurl", new String(DATASCHEMA.toString()));
+        return writer.end();
+    }
+}
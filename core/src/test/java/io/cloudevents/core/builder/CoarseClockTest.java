@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CoarseClockTest {
+
+    @Test
+    void cachesTimeForTheResolutionWindow() {
+        CoarseClock clock = new CoarseClock(ZoneOffset.ofHours(2), Duration.ofHours(1));
+
+        OffsetDateTime now = clock.now();
+
+        assertThat(clock.now())
+            .isSameAs(now);
+        assertThat(now.getOffset())
+            .isEqualTo(ZoneOffset.ofHours(2));
+        assertThat(now.getMinute())
+            .isZero();
+        assertThat(clock.instant())
+            .isEqualTo(now.toInstant());
+    }
+
+    @Test
+    void systemUTC() {
+        long before = System.currentTimeMillis();
+        OffsetDateTime now = CoarseClock.systemUTC().now();
+        long after = System.currentTimeMillis();
+
+        assertThat(now.getOffset())
+            .isEqualTo(ZoneOffset.UTC);
+        assertThat(now.toInstant().toEpochMilli())
+            .isBetween(before, after);
+        assertThat(CoarseClock.systemUTC().withZone(ZoneOffset.UTC))
+            .isSameAs(CoarseClock.systemUTC());
+    }
+
+    @Test
+    void invalidResolution() {
+        assertThatThrownBy(() -> new CoarseClock(ZoneOffset.UTC, Duration.ofNanos(10)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.builder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdGeneratorTest {
+
+    @Test
+    void uuidV7Layout() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UUID.fromString(IdGenerator.uuidV7().generateId());
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version())
+            .isEqualTo(7);
+        assertThat(uuid.variant())
+            .isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16)
+            .isBetween(before, after + 1);
+    }
+
+    @Test
+    void uuidV7MonotonicPerThread() {
+        UUID previous = UuidV7Generator.INSTANCE.nextUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7Generator.INSTANCE.nextUuid();
+            // Compare the time and counter bits, as unsigned
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    void uuidV7UniqueAcrossThreads() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(IdGenerator.uuidV7().generateId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids)
+            .hasSize(40_000);
+    }
+}
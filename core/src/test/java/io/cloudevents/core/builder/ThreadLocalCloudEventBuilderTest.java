@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.builder;
+
+import io.cloudevents.CloudEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThreadLocalCloudEventBuilderTest {
+
+    @Test
+    void builderPerThread() throws Exception {
+        ThreadLocalCloudEventBuilder<io.cloudevents.core.v1.CloudEventBuilder> builders = ThreadLocalCloudEventBuilder.of(
+            () -> CloudEventBuilder.v1().withSource(SOURCE).withType(TYPE)
+        );
+
+        io.cloudevents.core.v1.CloudEventBuilder builder = builders.get();
+        CloudEvent event = builder.withId("1").build();
+
+        assertThat(builders.get())
+            .isSameAs(builder);
+        assertThat(CompletableFuture.supplyAsync(builders::get).get())
+            .isNotSameAs(builder);
+        assertThat(event.getSource())
+            .isEqualTo(SOURCE);
+        assertThat(event.getType())
+            .isEqualTo(TYPE);
+    }
+
+    @Test
+    void resetToTemplate() {
+        ThreadLocalCloudEventBuilder<io.cloudevents.core.v03.CloudEventBuilder> builders = ThreadLocalCloudEventBuilder.of(
+            () -> CloudEventBuilder.v03().withSource(SOURCE).withType(TYPE).withExtension("astring", "aaa")
+        );
+
+        CloudEvent first = builders.get()
+            .withId("1")
+            .withTime(TIME)
+            .withExtension("another", "bbb")
+            .build();
+        CloudEvent second = builders.get()
+            .withId("2")
+            .build();
+
+        assertThat(first.getExtensionNames())
+            .containsExactlyInAnyOrder("astring", "another");
+        assertThat(second.getTime())
+            .isNull();
+        assertThat(second.getExtensionNames())
+            .containsExactly("astring");
+    }
+}
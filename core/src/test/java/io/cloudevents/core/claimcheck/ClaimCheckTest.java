@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.claimcheck;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.extensions.DatarefExtension;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.mock.MockBinaryMessageWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ClaimCheckTest {
+
+    private static final byte[] LARGE_PAYLOAD = "a payload longer than the threshold".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SMALL_PAYLOAD = "small".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private FileSystemBlobStore store;
+    private ClaimCheck claimCheck;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new FileSystemBlobStore(directory.resolve("blobs"));
+        claimCheck = ClaimCheck.create(store, 16);
+    }
+
+    @Test
+    void fileSystemStoreRoundTrip() throws IOException {
+        URI ref = store.store(BytesCloudEventData.wrap(LARGE_PAYLOAD));
+
+        assertThat(ref.getScheme())
+            .isEqualTo("file");
+        assertThat(store.accepts(ref))
+            .isTrue();
+        assertThat(store.fetch(ref))
+            .isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    void fileSystemStoreRejectsForeignReferences() throws IOException {
+        Path outside = Files.write(directory.resolve("outside"), SMALL_PAYLOAD);
+
+        assertThat(store.accepts(URI.create("http://example.com/blob")))
+            .isFalse();
+        assertThat(store.accepts(outside.toUri()))
+            .isFalse();
+        assertThat(store.accepts(store.getDirectory().resolve("../outside").toUri()))
+            .isFalse();
+        assertThatThrownBy(() -> store.fetch(outside.toUri()))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void offloadLargePayload() {
+        CloudEvent event = eventWithData(LARGE_PAYLOAD);
+
+        CloudEvent offloaded = claimCheck.offload(event);
+
+        assertThat(offloaded.getData())
+            .isNull();
+        assertThat(offloaded.getDataContentType())
+            .isEqualTo(DATACONTENTTYPE_JSON);
+        assertThat(offloaded.getExtension(DatarefExtension.DATAREF))
+            .isInstanceOf(URI.class);
+
+        CloudEvent resolved = claimCheck.resolve(offloaded);
+
+        assertThat(resolved.getExtension(DatarefExtension.DATAREF))
+            .isNull();
+        assertThat(resolved.getData())
+            .isInstanceOf(DatarefCloudEventData.class);
+        assertThat(resolved.getData().toBytes())
+            .isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    void keepSmallPayload() {
+        CloudEvent event = eventWithData(SMALL_PAYLOAD);
+
+        assertThat(claimCheck.offload(event))
+            .isSameAs(event);
+        assertThat(claimCheck.resolve(event))
+            .isSameAs(event);
+    }
+
+    @Test
+    void resolveIgnoresForeignDataref() {
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN)
+            .withExtension(DatarefExtension.DATAREF, URI.create("http://example.com/blob"))
+            .build();
+
+        assertThat(claimCheck.resolve(event))
+            .isSameAs(event);
+    }
+
+    @Test
+    void offloadingWriter() {
+        CloudEvent event = eventWithData(LARGE_PAYLOAD);
+
+        MockBinaryMessageWriter message = claimCheck.offloading(mockWriter()).writeBinary(event);
+
+        assertThat(message.toEvent().getData())
+            .isNull();
+        assertThat(message.toEvent().getExtension(DatarefExtension.DATAREF))
+            .isNotNull();
+
+        // Transcoding goes through the writer factory
+        MockBinaryMessageWriter transcoded = new MockBinaryMessageWriter(event).read(claimCheck.offloading(mockWriter()));
+
+        assertThat(transcoded.toEvent().getData())
+            .isNull();
+        assertThat(transcoded.toEvent().getExtension(DatarefExtension.DATAREF))
+            .isNotNull();
+    }
+
+    @Test
+    void resolvingReader() {
+        CloudEvent event = eventWithData(LARGE_PAYLOAD);
+        MockBinaryMessageWriter message = claimCheck.offloading(mockWriter()).writeBinary(event);
+
+        CloudEvent resolved = claimCheck.resolving(message).toEvent();
+
+        assertThat(resolved.getData())
+            .isInstanceOfSatisfying(DatarefCloudEventData.class, data -> assertThat(data.isFetched()).isFalse());
+        assertThat(resolved.getData().toBytes())
+            .isEqualTo(LARGE_PAYLOAD);
+        assertThat(CloudEventBuilder.from(resolved).withData(BytesCloudEventData.wrap(LARGE_PAYLOAD)).build())
+            .isEqualTo(event);
+
+        CloudEvent read = claimCheck.resolving(message).read(CloudEventBuilder::fromSpecVersion);
+
+        assertThat(read.getExtension(DatarefExtension.DATAREF))
+            .isNull();
+        assertThat(read.getData().toBytes())
+            .isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    void forwardResolvedEvent() {
+        CloudEvent event = eventWithData(LARGE_PAYLOAD);
+        MockBinaryMessageWriter message = claimCheck.offloading(mockWriter()).writeBinary(event);
+        Object ref = message.toEvent().getExtension(DatarefExtension.DATAREF);
+        CloudEvent resolved = claimCheck.resolving(message).toEvent();
+
+        MockBinaryMessageWriter forwarded = claimCheck.offloading(mockWriter()).writeBinary(resolved);
+
+        assertThat(forwarded.toEvent().getData())
+            .isNull();
+        assertThat(forwarded.toEvent().getExtension(DatarefExtension.DATAREF))
+            .isEqualTo(ref);
+
+        // Transcoding goes through the writer factory
+        MockBinaryMessageWriter transcoded = new MockBinaryMessageWriter(resolved).read(claimCheck.offloading(mockWriter()));
+
+        assertThat(transcoded.toEvent().getData())
+            .isNull();
+        assertThat(transcoded.toEvent().getExtension(DatarefExtension.DATAREF))
+            .isEqualTo(ref);
+
+        assertThat(((DatarefCloudEventData) resolved.getData()).isFetched())
+            .isFalse();
+        assertThat(claimCheck.resolving(forwarded).toEvent().getData().toBytes())
+            .isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    void resolvingReaderKeepsForeignDataref() {
+        MockBinaryMessageWriter message = new MockBinaryMessageWriter(SpecVersion.V1, Map.of(
+            "id", ID,
+            "type", TYPE,
+            "source", SOURCE.toString(),
+            DatarefExtension.DATAREF, "http://example.com/blob"
+        ), (CloudEventData) null);
+
+        CloudEvent read = claimCheck.resolving(message).read(CloudEventBuilder::fromSpecVersion);
+
+        assertThat(read.getData())
+            .isNull();
+        assertThat(read.getExtension(DatarefExtension.DATAREF))
+            .isEqualTo("http://example.com/blob");
+    }
+
+    @Test
+    void fetchFailure() throws IOException {
+        CloudEvent offloaded = claimCheck.offload(eventWithData(LARGE_PAYLOAD));
+        Files.delete(Path.of((URI) offloaded.getExtension(DatarefExtension.DATAREF)));
+
+        CloudEvent resolved = claimCheck.resolve(offloaded);
+
+        assertThatThrownBy(() -> resolved.getData().toBytes())
+            .isInstanceOf(CloudEventRWException.class);
+    }
+
+    private static CloudEvent eventWithData(byte[] data) {
+        return CloudEventBuilder.v1(V1_MIN)
+            .withData(DATACONTENTTYPE_JSON, data)
+            .build();
+    }
+
+    private static MessageWriter<MockBinaryMessageWriter, MockBinaryMessageWriter> mockWriter() {
+        return new MessageWriter<>() {
+            @Override
+            public MockBinaryMessageWriter create(SpecVersion version) {
+                return new MockBinaryMessageWriter().create(version);
+            }
+
+            @Override
+            public MockBinaryMessageWriter setEvent(EventFormat format, byte[] value) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package io.cloudevents.core.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BytesCloudEventDataTest {
+
+    @Test
+    void testWrapWholeArray() {
+        byte[] value = "hello".getBytes(StandardCharsets.UTF_8);
+        BytesCloudEventData data = BytesCloudEventData.wrap(value);
+
+        assertThat(data.toBytes())
+            .isSameAs(value);
+        assertThat(data.length())
+            .isEqualTo(5);
+        assertThat(data.toByteBuffer().isReadOnly())
+            .isTrue();
+    }
+
+    @Test
+    void testWrapRange() throws IOException {
+        byte[] value = "xxhelloyy".getBytes(StandardCharsets.UTF_8);
+        BytesCloudEventData data = BytesCloudEventData.wrap(value, 2, 5);
+
+        assertThat(data.toBytes())
+            .isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+        assertThat(data.length())
+            .isEqualTo(5);
+
+        ByteBuffer buffer = data.toByteBuffer();
+        assertThat(buffer.position())
+            .isZero();
+        assertThat(buffer.remaining())
+            .isEqualTo(5);
+        assertThat(StandardCharsets.UTF_8.decode(buffer).toString())
+            .isEqualTo("hello");
+
+        assertThat(data.toInputStream().readAllBytes())
+            .isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        data.writeTo(out);
+        assertThat(out.toByteArray())
+            .isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(data)
+            .isEqualTo(BytesCloudEventData.wrap("hello".getBytes(StandardCharsets.UTF_8)))
+            .hasSameHashCodeAs(BytesCloudEventData.wrap("hello".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testWrapInvalidRange() {
+        assertThatThrownBy(() -> BytesCloudEventData.wrap(new byte[3], 2, 5))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testWrapByteBuffer() {
+        byte[] value = "xxhelloyy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(value, 2, 5);
+        assertThat(BytesCloudEventData.wrap(heap).toBytes())
+            .isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+        assertThat(heap.position())
+            .isEqualTo(2);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(5);
+        direct.put("hello".getBytes(StandardCharsets.UTF_8)).flip();
+        assertThat(BytesCloudEventData.wrap(direct).toBytes())
+            .isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+        assertThat(direct.position())
+            .isZero();
+    }
+}
@@ -1,6 +1,13 @@
 package io.cloudevents.core.data;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,4 +42,41 @@ class PojoCloudEventDataTest {
         assertThat(data.toBytes())
             .isSameAs(serialized);
     }
+
+    @Test
+    void testConcurrentMemoization() throws Exception {
+        AtomicInteger conversions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        PojoCloudEventData<Integer> data = PojoCloudEventData.wrap(10, i -> {
+            conversions.incrementAndGet();
+            return i.toString().getBytes(StandardCharsets.UTF_8);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return data.toBytes();
+                }, executor));
+            }
+            start.countDown();
+
+            byte[] first = results.get(0).get();
+            for (CompletableFuture<byte[]> result : results) {
+                assertThat(result.get())
+                    .isSameAs(first);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(conversions)
+            .hasValue(1);
+    }
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.dedup;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.dedup.DeduplicationFilter.Result;
+import io.cloudevents.core.mock.CSVFormat;
+import io.cloudevents.core.mock.MockBinaryMessageWriter;
+import io.cloudevents.core.mock.MockStructuredMessageReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeduplicationFilterTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void detectDuplicates(boolean offHeap) {
+        DeduplicationFilter filter = DeduplicationFilter.builder()
+            .offHeap(offHeap)
+            .build();
+
+        assertThat(filter.contains("/source", "1"))
+            .isEqualTo(Result.NEW);
+        filter.markProcessed("/source", "1");
+        filter.markProcessed("/source", "2");
+        assertThat(filter.contains("/other", "1"))
+            .isEqualTo(Result.NEW);
+        filter.markProcessed("/other", "1");
+        assertThat(filter.contains("/source", "1"))
+            .isEqualTo(Result.DUPLICATE);
+
+        assertThat(filter.getChecks())
+            .isEqualTo(3);
+        assertThat(filter.getDuplicates())
+            .isEqualTo(1);
+        assertThat(filter.getExactSize())
+            .isEqualTo(3);
+        assertThat(filter.getOccupancy())
+            .isGreaterThan(0);
+    }
+
+    @Test
+    void containsDoesNotRemember() {
+        DeduplicationFilter filter = DeduplicationFilter.builder().build();
+
+        assertThat(filter.contains("/source", "1"))
+            .isEqualTo(Result.NEW);
+        assertThat(filter.contains("/source", "1"))
+            .isEqualTo(Result.NEW);
+        assertThat(filter.getExactSize())
+            .isZero();
+    }
+
+    @Test
+    void probableDuplicateWhenEvictedFromExactCache() {
+        DeduplicationFilter filter = DeduplicationFilter.builder()
+            .exactCapacity(1)
+            .build();
+
+        filter.markProcessed("/source", "1");
+        filter.markProcessed("/source", "2");
+
+        assertThat(filter.contains("/source", "1"))
+            .isEqualTo(Result.PROBABLE_DUPLICATE);
+        assertThat(filter.getProbableDuplicates())
+            .isEqualTo(1);
+
+        CloudEvent evicted = CloudEventBuilder.v1(V1_MIN).withSource(URI.create("/source")).withId("1").build();
+        assertThat(filter.test(evicted))
+            .isTrue();
+
+        DeduplicationFilter dropping = DeduplicationFilter.builder()
+            .exactCapacity(1)
+            .dropProbableDuplicates(true)
+            .build();
+        dropping.markProcessed(evicted);
+        dropping.markProcessed("/source", "2");
+        assertThat(dropping.test(evicted))
+            .isFalse();
+    }
+
+    @Test
+    void forgetAfterTwoWindows() {
+        MutableClock clock = new MutableClock();
+        DeduplicationFilter filter = DeduplicationFilter.builder()
+            .window(Duration.ofMinutes(1))
+            .clock(clock)
+            .build();
+
+        filter.markProcessed("/source", "1");
+
+        clock.advance(Duration.ofSeconds(90));
+        assertThat(filter.contains("/source", "1"))
+            .isEqualTo(Result.DUPLICATE);
+        assertThat(filter.getRotations())
+            .isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(3));
+        assertThat(filter.contains("/source", "1"))
+            .isEqualTo(Result.NEW);
+    }
+
+    @Test
+    void rotateWhenFull() {
+        DeduplicationFilter filter = DeduplicationFilter.builder()
+            .expectedInsertions(100)
+            .exactCapacity(0)
+            .build();
+
+        for (int i = 0; i < 250; i++) {
+            filter.markProcessed("/source", Integer.toString(i));
+        }
+
+        assertThat(filter.getRotations())
+            .isEqualTo(2);
+        assertThat(filter.contains("/source", "249"))
+            .isEqualTo(Result.PROBABLE_DUPLICATE);
+        assertThat(filter.contains("/source", "0"))
+            .isEqualTo(Result.NEW);
+    }
+
+    @Test
+    void falsePositiveRateWithinBounds() {
+        DeduplicationFilter filter = DeduplicationFilter.builder()
+            .expectedInsertions(10_000)
+            .falsePositiveRate(0.01)
+            .exactCapacity(0)
+            .build();
+
+        for (int i = 0; i < 9_999; i++) {
+            filter.markProcessed("/source", "inserted-" + i);
+        }
+        assertThat(filter.getEstimatedFalsePositiveRate())
+            .isBetween(0.005, 0.02);
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.contains("/other", "probe-" + i) != Result.NEW) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives)
+            .isLessThan(300);
+    }
+
+    @Test
+    void filterStream() {
+        DeduplicationFilter filter = DeduplicationFilter.builder().build();
+
+        assertThat(Stream.of(V1_MIN, V1_WITH_JSON_DATA, V03_MIN).filter(filter).peek(filter::markProcessed))
+            .containsExactly(V1_MIN);
+    }
+
+    @Test
+    void filterMessages() {
+        DeduplicationFilter filter = DeduplicationFilter.builder().build();
+        CloudEvent other = CloudEventBuilder.v1(V1_MIN).withId("other").build();
+
+        assertThat(filter.filter(new MockBinaryMessageWriter(V1_WITH_JSON_DATA)))
+            .isEqualTo(V1_WITH_JSON_DATA);
+        // Not processed yet, so a redelivery is not dropped
+        assertThat(filter.filter(new MockBinaryMessageWriter(V1_WITH_JSON_DATA)))
+            .isEqualTo(V1_WITH_JSON_DATA);
+        filter.markProcessed(V1_WITH_JSON_DATA);
+        assertThat(filter.filter(new MockBinaryMessageWriter(V1_WITH_JSON_DATA)))
+            .isNull();
+        assertThat(filter.filter(new MockStructuredMessageReader(V1_WITH_JSON_DATA, CSVFormat.INSTANCE)))
+            .isNull();
+        assertThat(filter.filter(new MockStructuredMessageReader(other, CSVFormat.INSTANCE)))
+            .isEqualTo(other);
+    }
+
+    @Test
+    void concurrentUpdates() throws Exception {
+        DeduplicationFilter filter = DeduplicationFilter.builder()
+            .exactCapacity(1_000)
+            .build();
+        int threads = 4;
+        int eventsPerThread = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String source = "/source/" + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        filter.contains(source, Integer.toString(i));
+                        filter.markProcessed(source, Integer.toString(i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(filter.getChecks())
+            .isEqualTo(threads * eventsPerThread);
+        assertThat(filter.getExactSize())
+            .isEqualTo(1_000);
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < eventsPerThread; i++) {
+                assertThat(filter.contains("/source/" + t, Integer.toString(i)))
+                    .isNotEqualTo(Result.NEW);
+            }
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2020-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
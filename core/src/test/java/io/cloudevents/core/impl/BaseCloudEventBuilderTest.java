@@ -139,4 +139,40 @@ public class BaseCloudEventBuilderTest {
         );
 
     }
+
+    @Test
+    public void resetSharesTemplateExtensions() {
+        io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.v1()
+            .withSource(SOURCE)
+            .withType(TYPE)
+            .withExtension("astring", "aaa")
+            .markTemplate();
+
+        CloudEvent first = builder.reset().withId("1").build();
+        CloudEvent second = builder.reset().withId("2").withTime(TIME).build();
+        CloudEvent third = builder.reset().withId("3").withoutExtension("astring").build();
+
+        assertThat(first.getExtensionNames())
+            .isSameAs(second.getExtensionNames())
+            .containsExactly("astring");
+        assertThat(first.getTime())
+            .isNull();
+        assertThat(second.getTime())
+            .isEqualTo(TIME);
+        assertThat(third.getExtensionNames())
+            .isEmpty();
+        assertThat(builder.reset().withId("4").build().getExtensionNames())
+            .containsExactly("astring");
+    }
+
+    @Test
+    public void resetWithoutTemplate() {
+        io.cloudevents.core.v03.CloudEventBuilder builder = CloudEventBuilder.v03(Data.V03_WITH_JSON_DATA_WITH_EXT);
+
+        builder.reset();
+
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThat(builder.withId(ID).withSource(SOURCE).withType(TYPE).build())
+            .isEqualTo(CloudEventBuilder.v03().withId(ID).withSource(SOURCE).withType(TYPE).build());
+    }
 }
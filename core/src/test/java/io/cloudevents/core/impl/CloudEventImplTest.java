@@ -17,15 +17,64 @@
 
 package io.cloudevents.core.impl;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.mock.MockBinaryMessageWriter;
+import io.cloudevents.core.v03.CloudEventV03;
+import io.cloudevents.core.v1.CloudEventV1;
+import io.cloudevents.rw.CloudEventRWException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import static io.cloudevents.core.test.Data.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class CloudEventImplTest {
 
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    public void testGetWithAttributeKey(CloudEvent event) {
+        for (String name : event.getSpecVersion().getAllAttributes()) {
+            assertThat(event.get(AttributeKey.of(name)))
+                .isEqualTo(event.getAttribute(name));
+        }
+        for (String name : event.getExtensionNames()) {
+            assertThat(event.get(AttributeKey.extension(name)))
+                .isEqualTo(event.getExtension(name));
+        }
+        assertThat(event.get(AttributeKey.SOURCE))
+            .isSameAs(event.getSource());
+        assertThat(event.get(AttributeKey.of("nonexistent")))
+            .isNull();
+    }
+
+    @Test
+    public void testGetAttributeOfOtherSpecVersion() {
+        CloudEvent v1 = CloudEventBuilder.v1(V1_MIN)
+            .withExtension("schemaurl", "an extension in v1")
+            .build();
+        CloudEvent v03 = CloudEventBuilder.v03(V03_MIN)
+            .withDataSchema(DATASCHEMA)
+            .build();
+
+        assertThat(v1.get(AttributeKey.SCHEMAURL))
+            .isNull();
+        assertThat(v1.get(AttributeKey.extension("schemaurl")))
+            .isEqualTo("an extension in v1");
+        assertThat(v1.get(AttributeKey.DATACONTENTENCODING))
+            .isNull();
+        assertThat(v03.get(AttributeKey.SCHEMAURL))
+            .isEqualTo(DATASCHEMA);
+        assertThat(v03.get(AttributeKey.DATASCHEMA))
+            .isNull();
+        assertThat(v03.get(AttributeKey.DATACONTENTENCODING))
+            .isNull();
+    }
+
     @Test
     public void testEqualityV03() {
         CloudEvent event1 = CloudEventBuilder.v03()
@@ -115,4 +164,48 @@ public class CloudEventImplTest {
             .doesNotContain("time");
     }
 
+    @Test
+    public void testDerivedEventV1() {
+        CloudEventV1 parent = (CloudEventV1) CloudEventBuilder.v1(V1_WITH_JSON_DATA_WITH_EXT).build();
+
+        CloudEventV1 withExtension = parent.withExtension("another", "bbb");
+        CloudEventV1 withData = parent.withData(DATACONTENTTYPE_XML, BytesCloudEventData.wrap(DATA_XML_SERIALIZED));
+
+        assertThat(withExtension)
+            .isEqualTo(CloudEventBuilder.v1(parent).withExtension("another", "bbb").build())
+            .hasSameHashCodeAs(CloudEventBuilder.v1(parent).withExtension("another", "bbb").build());
+        assertThat(withExtension.getSource())
+            .isSameAs(parent.getSource());
+        assertThat(withExtension.withoutExtension("another"))
+            .isEqualTo(parent);
+        assertThat(parent.getExtensionNames())
+            .doesNotContain("another");
+
+        assertThat(withData)
+            .isEqualTo(CloudEventBuilder.v1(parent).withData(DATACONTENTTYPE_XML, DATA_XML_SERIALIZED).build());
+        assertThat(withData.getExtensionNames())
+            .isSameAs(parent.getExtensionNames());
+        assertThat(new MockBinaryMessageWriter(withData).toEvent())
+            .isEqualTo(withData);
+    }
+
+    @Test
+    public void testDerivedEventV03() {
+        CloudEventV03 parent = (CloudEventV03) CloudEventBuilder.v03(V03_WITH_JSON_DATA_WITH_EXT).build();
+
+        CloudEventV03 withExtension = parent.withExtension("astring", "bbb");
+
+        assertThat(withExtension)
+            .isEqualTo(CloudEventBuilder.v03(parent).withExtension("astring", "bbb").build());
+        assertThat(withExtension.getExtension("astring"))
+            .isEqualTo("bbb");
+        assertThat(parent.getExtension("astring"))
+            .isNotEqualTo("bbb");
+        assertThat(parent.withoutExtension("missing"))
+            .isSameAs(parent);
+        assertThat(parent.withData(null).getData())
+            .isNull();
+        assertThatThrownBy(() -> parent.withExtension("Invalid", "bbb"))
+            .isInstanceOf(CloudEventRWException.class);
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.mock.MockBinaryMessageWriter;
+import io.cloudevents.core.test.Data;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompactExtensionsTest {
+
+    @Test
+    void behavesLikeTheCopiedMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("astring", "aaa");
+        map.put("aboolean", true);
+        map.put("anumber", 10);
+        map.put("auri", URI.create("http://localhost"));
+        map.put("atime", OffsetDateTime.MIN);
+        map.put("abytes", new byte[]{1, 2});
+
+        CompactExtensions extensions = CompactExtensions.copyOf(map);
+
+        assertThat(extensions)
+            .isEqualTo(map)
+            .hasSameHashCodeAs(map)
+            .containsExactlyEntriesOf(map);
+        assertThat(extensions.keySet())
+            .containsExactlyElementsOf(map.keySet());
+        assertThat(extensions.get("anumber"))
+            .isEqualTo(10);
+        assertThat(extensions.get("missing"))
+            .isNull();
+        assertThat(CompactExtensions.copyOf(extensions))
+            .isSameAs(extensions);
+        assertThat(CompactExtensions.copyOf(new LinkedHashMap<>()))
+            .isSameAs(CompactExtensions.EMPTY);
+    }
+
+    @Test
+    void immutable() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("astring", "aaa");
+        CompactExtensions extensions = CompactExtensions.copyOf(map);
+
+        assertThatThrownBy(() -> extensions.put("another", "bbb"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> extensions.keySet().remove("astring"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> extensions.entrySet().iterator().next().setValue("bbb"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void eventNotModifiedByBuilder() {
+        io.cloudevents.core.v1.CloudEventBuilder builder = CloudEventBuilder.v1(Data.V1_MIN)
+            .withExtension("astring", "aaa");
+        CloudEvent event = builder.build();
+
+        builder.withExtension("another", "bbb");
+
+        assertThat(event.getExtensionNames())
+            .containsExactly("astring");
+    }
+
+    @Test
+    void readExtensions() {
+        CloudEvent event = CloudEventBuilder.v1(Data.V1_WITH_JSON_DATA_WITH_EXT).build();
+
+        assertThat(new MockBinaryMessageWriter(event).toEvent())
+            .isEqualTo(event);
+    }
+}
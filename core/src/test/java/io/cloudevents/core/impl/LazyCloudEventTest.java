@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.impl;
+
+import io.cloudevents.AttributeKey;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.mock.MockBinaryMessageWriter;
+import io.cloudevents.core.test.Data;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LazyCloudEventTest {
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithStringExtensions")
+    void readFromRawAttributes(CloudEvent event) {
+        Map<String, Object> headers = new HashMap<>();
+        CloudEventUtils.toContextReader(event).readContext(new CloudEventContextWriter() {
+            @Override
+            public CloudEventContextWriter withContextAttribute(String name, String value) {
+                headers.put(name, value);
+                return this;
+            }
+        });
+
+        CloudEvent lazy = new MockBinaryMessageWriter(event.getSpecVersion(), headers, event.getData())
+            .read(LazyCloudEventWriter::new);
+
+        assertThat(lazy)
+            .isInstanceOf(LazyCloudEvent.class);
+        assertThat(lazy.getId()).isEqualTo(event.getId());
+        assertThat(lazy.getType()).isEqualTo(event.getType());
+        assertThat(lazy.getSource()).isEqualTo(event.getSource());
+        assertThat(lazy.getDataSchema()).isEqualTo(event.getDataSchema());
+        assertThat(lazy.getTime()).isEqualTo(event.getTime());
+        assertThat(lazy.getAttributeNames()).isEqualTo(event.getAttributeNames());
+        assertThat(lazy.getExtensionNames()).isEqualTo(event.getExtensionNames());
+        assertThat(CloudEventBuilder.from(lazy).build())
+            .isEqualTo(event);
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithStringExtensions")
+    void getWithAttributeKey(CloudEvent event) {
+        Map<String, Object> headers = new HashMap<>();
+        CloudEventUtils.toContextReader(event).readContext(new CloudEventContextWriter() {
+            @Override
+            public CloudEventContextWriter withContextAttribute(String name, String value) {
+                headers.put(name, value);
+                return this;
+            }
+        });
+
+        CloudEvent lazy = new MockBinaryMessageWriter(event.getSpecVersion(), headers, event.getData())
+            .read(LazyCloudEventWriter::new);
+
+        for (String name : event.getSpecVersion().getAllAttributes()) {
+            assertThat(lazy.get(AttributeKey.of(name)))
+                .isEqualTo(event.getAttribute(name));
+        }
+        for (String name : event.getExtensionNames()) {
+            assertThat(lazy.get(AttributeKey.extension(name)))
+                .isEqualTo(event.getExtension(name));
+        }
+    }
+
+    @Test
+    void parseOnAccess() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("id", ID);
+        headers.put("type", TYPE);
+        headers.put("source", "%%invalid");
+        headers.put("time", "not a time");
+
+        CloudEvent lazy = new MockBinaryMessageWriter(SpecVersion.V1, headers, Data.DATA_JSON_SERIALIZED)
+            .read(LazyCloudEventWriter::new);
+
+        assertThat(lazy.getType())
+            .isEqualTo(TYPE);
+        assertThatThrownBy(lazy::getSource)
+            .isInstanceOf(CloudEventRWException.class)
+            .extracting(t -> ((CloudEventRWException) t).getKind())
+            .isEqualTo(CloudEventRWException.CloudEventRWExceptionKind.INVALID_ATTRIBUTE_VALUE);
+        assertThatThrownBy(lazy::getTime)
+            .isInstanceOf(CloudEventRWException.class);
+    }
+
+    @Test
+    void cachesParsedAttributes() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("id", ID);
+        headers.put("type", TYPE);
+        headers.put("source", SOURCE.toString());
+        headers.put("schemaurl", DATASCHEMA.toString());
+
+        CloudEvent lazy = new MockBinaryMessageWriter(SpecVersion.V03, headers, Data.DATA_JSON_SERIALIZED)
+            .read(LazyCloudEventWriter::new);
+
+        assertThat(lazy.getSource())
+            .isSameAs(lazy.getSource());
+        assertThat(lazy.getAttribute("schemaurl"))
+            .isEqualTo(DATASCHEMA)
+            .isSameAs(lazy.getDataSchema());
+        assertThatCode(() -> lazy.getAttribute("datacontentencoding"))
+            .doesNotThrowAnyException();
+        assertThatThrownBy(() -> lazy.getAttribute("dataschema"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void projection() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("type", TYPE);
+        headers.put("time", TIME.toString());
+
+        CloudEvent projected = new MockBinaryMessageWriter(SpecVersion.V1, headers, (CloudEventData) null)
+            .read(LazyCloudEventWriter::projection);
+
+        assertThat(projected.getType())
+            .isEqualTo(TYPE);
+        assertThat(projected.getTime())
+            .isEqualTo(TIME);
+        assertThat(projected.getId())
+            .isNull();
+        assertThat(projected.getSource())
+            .isNull();
+        assertThat(projected.getAttributeNames())
+            .containsExactlyInAnyOrder("specversion", "type", "time");
+    }
+
+    @Test
+    void missingMandatoryAttribute() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("id", ID);
+        headers.put("type", TYPE);
+
+        assertThatThrownBy(() -> new MockBinaryMessageWriter(SpecVersion.V1, headers, Data.DATA_JSON_SERIALIZED).read(LazyCloudEventWriter::new))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.core.message;
+
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.mock.CSVFormat;
+import io.cloudevents.core.mock.MockBinaryMessageWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkDecoderTest {
+
+    @Test
+    void decodeEventFormat() {
+        BulkDecoder decoder = new BulkDecoder();
+
+        DecodeResult success = decoder.decode(0, CSVFormat.INSTANCE, CSVFormat.INSTANCE.serialize(V1_WITH_JSON_DATA));
+        DecodeResult invalidSpecVersion = decoder.decode(1, CSVFormat.INSTANCE, "9000.1,id".getBytes(StandardCharsets.UTF_8));
+        DecodeResult malformed = decoder.decode(2, CSVFormat.INSTANCE, "1.0,id".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(success.isSuccess())
+            .isTrue();
+        assertThat(success.getEvent())
+            .isEqualTo(V1_WITH_JSON_DATA);
+        assertThat(success.getPosition())
+            .isZero();
+
+        assertThat(invalidSpecVersion.isSuccess())
+            .isFalse();
+        assertThat(invalidSpecVersion.getEvent())
+            .isNull();
+        assertThat(invalidSpecVersion.getPosition())
+            .isEqualTo(1);
+        assertThat(invalidSpecVersion.getErrorKind())
+            .isEqualTo(DecodeResult.ErrorKind.INVALID_SPEC_VERSION);
+        assertThat(invalidSpecVersion.getError().getStackTrace())
+            .isEmpty();
+
+        assertThat(malformed.getErrorKind())
+            .isEqualTo(DecodeResult.ErrorKind.OTHER);
+
+        assertThat(decoder.getSuccessCount())
+            .isEqualTo(1);
+        assertThat(decoder.getErrorCounts())
+            .containsOnlyKeys(DecodeResult.ErrorKind.INVALID_SPEC_VERSION, DecodeResult.ErrorKind.OTHER);
+
+        decoder.reset();
+        assertThat(decoder.getSuccessCount())
+            .isZero();
+        assertThat(decoder.getErrorCounts())
+            .isEmpty();
+    }
+
+    @Test
+    void decodeMessageReader() {
+        BulkDecoder decoder = new BulkDecoder();
+
+        Map<String, Object> missingSource = new HashMap<>();
+        missingSource.put("id", ID);
+        missingSource.put("type", TYPE);
+        Map<String, Object> invalidSource = new HashMap<>(missingSource);
+        invalidSource.put("source", "%%invalid");
+
+        DecodeResult missing = decoder.decode(10, new MockBinaryMessageWriter(SpecVersion.V1, missingSource, DATA_JSON_SERIALIZED));
+        DecodeResult invalid = decoder.decode(11, new MockBinaryMessageWriter(SpecVersion.V1, invalidSource, DATA_JSON_SERIALIZED));
+        DecodeResult success = decoder.decode(12, new MockBinaryMessageWriter(V1_MIN));
+
+        assertThat(missing.getErrorKind())
+            .isEqualTo(DecodeResult.ErrorKind.INVALID_EVENT);
+        assertThat(invalid.getErrorKind())
+            .isEqualTo(DecodeResult.ErrorKind.INVALID_ATTRIBUTE_VALUE);
+        assertThat(invalid.getError())
+            .isInstanceOf(CloudEventRWException.class);
+        assertThat(invalid.getError().getStackTrace())
+            .isEmpty();
+        assertThat(success.getEvent())
+            .isEqualTo(V1_MIN);
+        assertThat(decoder.getErrorCount(DecodeResult.ErrorKind.INVALID_EVENT))
+            .isEqualTo(1);
+        assertThat(decoder.getErrorCount(DecodeResult.ErrorKind.INVALID_ATTRIBUTE_VALUE))
+            .isEqualTo(1);
+    }
+
+    @Test
+    void stackTracesOutsideBulkDecoding() {
+        assertThat(CloudEventRWException.newOther("error").getStackTrace())
+            .isNotEmpty();
+        assertThat(CloudEventRWException.withoutStackTraces(() -> CloudEventRWException.newOther("error")).getStackTrace())
+            .isEmpty();
+    }
+}
@@ -18,14 +18,27 @@
 package io.cloudevents.core.message;
 
 import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.core.message.impl.AttributesCollector;
 import io.cloudevents.core.message.impl.GenericStructuredMessageReader;
 import io.cloudevents.core.mock.CSVFormat;
 import io.cloudevents.core.mock.MockBinaryMessageWriter;
 import io.cloudevents.core.mock.MockStructuredMessageReader;
+import io.cloudevents.rw.CloudEventWriter;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class EventMessageRoundtripTest {
 
@@ -53,6 +66,121 @@ public class EventMessageRoundtripTest {
             .isEqualTo(input);
     }
 
+    /**
+     * This test doesn't test extensions in event because the CSVFormat doesn't support it
+     *
+     * @param input
+     */
+    @ParameterizedTest()
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
+    void structuredByteBufferToEvent(CloudEvent input) {
+        byte[] serialized = CSVFormat.INSTANCE.serialize(input);
+        ByteBuffer direct = ByteBuffer.allocateDirect(serialized.length);
+        direct.put(serialized).flip();
+
+        GenericStructuredMessageReader message = new GenericStructuredMessageReader(CSVFormat.INSTANCE, direct);
+        assertThat(message.toEvent())
+            .isEqualTo(input);
+        // The payload can be read more than once
+        assertThat(message.toEvent())
+            .isEqualTo(input);
+    }
+
+    /**
+     * This test doesn't test extensions in event because the CSVFormat doesn't support it
+     *
+     * @param input
+     */
+    @ParameterizedTest()
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
+    void structuredStreamRoundtrip(CloudEvent input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CSVFormat.INSTANCE.serialize(input, out);
+        assertThat(CSVFormat.INSTANCE.deserialize(new ByteArrayInputStream(out.toByteArray())))
+            .isEqualTo(input);
+
+        ByteBuffer buffer = ByteBuffer.allocate(out.size() + 1);
+        buffer.put((byte) 0);
+        assertThat(CSVFormat.INSTANCE.serialize(input, buffer))
+            .isEqualTo(out.size());
+        buffer.flip().position(1);
+        assertThat(CSVFormat.INSTANCE.deserialize(buffer))
+            .isEqualTo(input);
+        assertThat(buffer.hasRemaining())
+            .isFalse();
+
+        ByteBuffer small = ByteBuffer.allocate(out.size() - 1);
+        assertThatThrownBy(() -> CSVFormat.INSTANCE.serialize(input, small))
+            .isInstanceOf(EventSerializationException.class);
+        assertThat(small.position())
+            .isZero();
+    }
+
+    @ParameterizedTest()
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
+    void peekAttributes(CloudEvent input) {
+        Set<String> names = new HashSet<>(input.getAttributeNames());
+        names.add("missing");
+        AttributesCollector expected = new AttributesCollector(names).create(input.getSpecVersion());
+        CloudEventUtils.toContextReader(input).readContext(expected);
+
+        assertThat(new MockBinaryMessageWriter(input).peekAttributes(names))
+            .isEqualTo(expected.getAttributes());
+        assertThat(GenericStructuredMessageReader.from(input, CSVFormat.INSTANCE).peekAttributes(names))
+            .isEqualTo(expected.getAttributes());
+        assertThat(GenericStructuredMessageReader.from(input, CSVFormat.INSTANCE).peekAttribute("id"))
+            .isEqualTo(input.getId());
+    }
+
+    /**
+     * This test doesn't test extensions in event because the CSVFormat doesn't support it
+     *
+     * @param input
+     */
+    @ParameterizedTest()
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
+    void transcodeToBinary(CloudEvent input) {
+        MockBinaryMessageWriter fromStructured = GenericStructuredMessageReader.from(input, CSVFormat.INSTANCE)
+            .transcodeToBinary(new MockBinaryMessageWriter());
+        assertThat(fromStructured.getEncoding())
+            .isEqualTo(Encoding.BINARY);
+        assertThat(fromStructured.toEvent())
+            .isEqualTo(input);
+
+        assertThat(new MockBinaryMessageWriter(input).transcodeToBinary(new MockBinaryMessageWriter()).toEvent())
+            .isEqualTo(input);
+    }
+
+    /**
+     * This test doesn't test extensions in event because the CSVFormat doesn't support it
+     *
+     * @param input
+     */
+    @ParameterizedTest()
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
+    void transcodeToStructured(CloudEvent input) {
+        MessageWriter<CloudEventWriter<byte[]>, byte[]> writer = new MessageWriter<CloudEventWriter<byte[]>, byte[]>() {
+            @Override
+            public CloudEventWriter<byte[]> create(SpecVersion version) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public byte[] setEvent(EventFormat format, byte[] value) {
+                return value;
+            }
+        };
+
+        MockStructuredMessageReader structured = new MockStructuredMessageReader(input, CSVFormat.INSTANCE);
+        byte[] serialized = structured.read((format, value) -> value);
+        // The payload is handed over as is
+        assertThat(structured.transcodeToStructured(writer, CSVFormat.INSTANCE))
+            .isSameAs(serialized);
+
+        assertThat(CSVFormat.INSTANCE.deserialize(new MockBinaryMessageWriter(input).transcodeToStructured(writer, CSVFormat.INSTANCE)))
+            .isEqualTo(input);
+    }
+
     @ParameterizedTest()
     @MethodSource("io.cloudevents.core.test.Data#allEvents")
     void binaryToMockBinaryMessageToEvent(CloudEvent input) {
@@ -7,7 +7,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 import static io.cloudevents.SpecVersion.V03;
@@ -66,6 +68,23 @@ class MessageUtilsTest {
             });
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "ascii",
+        "\u00e8\u00e9",
+        "\u20ac uro",
+        "\ud83d\ude00 emoji",
+        "lone \ud83d high",
+        "lone \ude00 low",
+        "reversed \ude00\ud83d pair",
+        "trailing \ud83d"
+    })
+    void utf8Length(String value) {
+        assertThat(MessageUtils.utf8Length(value))
+            .isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
     private static Stream<Arguments> testParseStructuredOrBinaryMessage_BinaryMode() {
         return Stream.of(
             Arguments.of("0.3", V03),
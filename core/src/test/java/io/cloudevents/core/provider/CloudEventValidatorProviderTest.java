@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.provider;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.impl.LazyCloudEventWriter;
+import io.cloudevents.core.mock.MockBinaryMessageWriter;
+import io.cloudevents.core.test.CloudEventCustomValidator;
+import io.cloudevents.core.validator.CloudEventValidator;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CloudEventValidatorProviderTest {
+
+    @Test
+    void dispatchByTypeAndSource() {
+        List<String> invoked = new ArrayList<>();
+        CloudEventValidatorProvider provider = new CloudEventValidatorProvider(Arrays.asList(
+            new RecordingValidator("any", invoked, Collections.emptySet(), Collections.emptySet()),
+            new RecordingValidator("type", invoked, Collections.singleton(TYPE), Collections.emptySet()),
+            new RecordingValidator("other", invoked, Collections.singleton("other.type"), Collections.emptySet()),
+            new RecordingValidator("source", invoked, Collections.emptySet(), Collections.singleton(URI.create("/other")))
+        ), false);
+
+        provider.validate(V1_MIN);
+        assertThat(invoked)
+            .containsExactly("any", "type");
+
+        invoked.clear();
+        provider.validate(CloudEventBuilder.v1(V1_MIN).withType("other.type").withSource(URI.create("/other")).build());
+        assertThat(invoked)
+            .containsExactly("any", "other", "source");
+
+        invoked.clear();
+        provider.validate(CloudEventBuilder.v1(V1_MIN).withType("unknown.type").build());
+        assertThat(invoked)
+            .containsExactly("any");
+    }
+
+    @Test
+    void statistics() {
+        CloudEventValidatorProvider provider = new CloudEventValidatorProvider(Collections.singletonList(new CloudEventCustomValidator()), true);
+        CloudEvent invalid = invalidEvent();
+
+        provider.validate(V1_MIN);
+        assertThatThrownBy(() -> provider.validate(invalid))
+            .isInstanceOf(IllegalStateException.class);
+
+        CloudEventValidatorProvider.ValidatorStatistics statistics = provider.getStatistics().get(0);
+        assertThat(statistics.getValidator())
+            .isInstanceOf(CloudEventCustomValidator.class);
+        assertThat(statistics.getInvocations())
+            .isEqualTo(2);
+        assertThat(statistics.getRejections())
+            .isEqualTo(1);
+        assertThat(statistics.getTotalTimeNanos())
+            .isPositive();
+    }
+
+    @Test
+    void timingIsOptIn() {
+        CloudEventValidatorProvider provider = new CloudEventValidatorProvider(Collections.singletonList(new CloudEventCustomValidator()), false);
+
+        provider.validate(V1_MIN);
+
+        CloudEventValidatorProvider.ValidatorStatistics statistics = provider.getStatistics().get(0);
+        assertThat(statistics.getInvocations())
+            .isEqualTo(1);
+        assertThat(statistics.getTotalTimeNanos())
+            .isZero();
+    }
+
+    @Test
+    void dispatchLazyEventWithoutParsingSource() {
+        List<String> invoked = new ArrayList<>();
+        CloudEventValidatorProvider provider = new CloudEventValidatorProvider(Arrays.asList(
+            new RecordingValidator("any", invoked, Collections.emptySet(), Collections.emptySet()),
+            new RecordingValidator("source", invoked, Collections.emptySet(), Collections.singleton(URI.create("/other")))
+        ), false);
+        Map<String, Object> context = new HashMap<>();
+        context.put("id", ID);
+        context.put("type", TYPE);
+        context.put("source", "not a valid uri");
+        CloudEvent lazy = CloudEventValidatorProvider.getInstance().runTrusted(
+            () -> new MockBinaryMessageWriter(SpecVersion.V1, context, (CloudEventData) null).read(LazyCloudEventWriter::new)
+        );
+
+        provider.validate(lazy);
+        assertThat(invoked)
+            .containsExactly("any");
+
+        invoked.clear();
+        context.put("source", "/other");
+        provider.validate(new MockBinaryMessageWriter(SpecVersion.V1, context, (CloudEventData) null).read(LazyCloudEventWriter::new));
+        assertThat(invoked)
+            .containsExactly("any", "source");
+    }
+
+    @Test
+    void runTrusted() {
+        MockBinaryMessageWriter message = new MockBinaryMessageWriter(invalidEvent());
+
+        assertThatThrownBy(message::toEvent)
+            .hasStackTraceContaining("Expecting sales in namespace extension");
+        assertThatCode(() -> CloudEventValidatorProvider.getInstance().runTrusted(message::toEvent))
+            .doesNotThrowAnyException();
+        assertThatThrownBy(message::toEvent)
+            .hasStackTraceContaining("Expecting sales in namespace extension");
+    }
+
+    private static CloudEvent invalidEvent() {
+        // Rejected by CloudEventCustomValidator, registered as service in the tests
+        return CloudEventValidatorProvider.getInstance().runTrusted(
+            () -> CloudEventBuilder.v1(V1_MIN).withExtension("namespace", "marketing").build()
+        );
+    }
+
+    private static class RecordingValidator implements CloudEventValidator {
+
+        private final String name;
+        private final List<String> invoked;
+        private final Set<String> types;
+        private final Set<URI> sources;
+
+        private RecordingValidator(String name, List<String> invoked, Set<String> types, Set<URI> sources) {
+            this.name = name;
+            this.invoked = invoked;
+            this.types = types;
+            this.sources = sources;
+        }
+
+        @Override
+        public void validate(CloudEvent cloudEvent) {
+            invoked.add(name);
+        }
+
+        @Override
+        public Set<String> getTypes() {
+            return types;
+        }
+
+        @Override
+        public Set<URI> getSources() {
+            return sources;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.core.provider;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.DataCodec;
+import io.cloudevents.core.data.PojoCloudEventData;
+import io.cloudevents.rw.CloudEventRWException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.cloudevents.core.test.Data.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DataCodecProviderTest {
+
+    @Test
+    void resolveMostSpecificCodec() {
+        DataCodecProvider provider = new DataCodecProvider();
+        DataCodec<Number> numberCodec = new ToStringCodec<>(Number.class, "text/number");
+        DataCodec<Integer> integerCodec = new ToStringCodec<>(Integer.class, "text/integer");
+        provider.registerCodec(integerCodec);
+        provider.registerCodec(numberCodec);
+
+        assertThat(provider.resolveCodec(Integer.class, null))
+            .isSameAs(integerCodec);
+        assertThat(provider.resolveCodec(Long.class, null))
+            .isSameAs(numberCodec);
+        assertThat(provider.resolveCodec(Integer.class, "text/number; charset=utf-8"))
+            .isSameAs(numberCodec);
+        assertThat(provider.resolveCodec(Integer.class, "application/json"))
+            .isNull();
+        assertThat(provider.resolveCodec(String.class, null).getContentType())
+            .isEqualTo("text/plain");
+    }
+
+    @Test
+    void lastRegisteredWins() {
+        DataCodecProvider provider = new DataCodecProvider();
+        DataCodec<Integer> first = new ToStringCodec<>(Integer.class, "text/plain");
+        DataCodec<Integer> second = new ToStringCodec<>(Integer.class, "text/plain");
+
+        provider.registerCodec(first);
+        assertThat(provider.resolveCodec(Integer.class, null))
+            .isSameAs(first);
+
+        provider.registerCodec(second);
+        assertThat(provider.resolveCodec(Integer.class, null))
+            .isSameAs(second);
+    }
+
+    @Test
+    void resolveIgnoresContentTypeParameters() {
+        DataCodecProvider provider = new DataCodecProvider();
+        DataCodec<Integer> codec = new ToStringCodec<>(Integer.class, "text/integer");
+        provider.registerCodec(codec);
+
+        assertThat(provider.resolveCodec(Integer.class, "text/integer"))
+            .isSameAs(codec);
+        assertThat(provider.resolveCodec(Integer.class, "Text/Integer; charset=utf-8"))
+            .isSameAs(codec);
+        for (int i = 0; i < 100; i++) {
+            assertThat(provider.resolveCodec(Integer.class, "text/unknown-" + i))
+                .isNull();
+        }
+        assertThat(provider.resolveCodec(Integer.class, "text/integer; v=2"))
+            .isSameAs(codec);
+    }
+
+    @Test
+    void requireMissingCodec() {
+        DataCodecProvider provider = new DataCodecProvider();
+
+        assertThatThrownBy(() -> provider.requireCodec(Object.class, null))
+            .isInstanceOf(CloudEventRWException.class)
+            .extracting(t -> ((CloudEventRWException) t).getKind())
+            .isEqualTo(CloudEventRWException.CloudEventRWExceptionKind.INVALID_DATA_TYPE);
+    }
+
+    @Test
+    void builderWithObjectData() {
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN)
+            .withData("hello")
+            .build();
+
+        assertThat(event.getDataContentType())
+            .isEqualTo("text/plain");
+        assertThat(event.getData())
+            .isInstanceOf(PojoCloudEventData.class);
+        assertThat(event.getData().toBytes())
+            .isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+
+        CloudEvent withContentType = CloudEventBuilder.v1(V1_MIN)
+            .withData("text/plain; charset=utf-8", (Object) "hello")
+            .build();
+
+        assertThat(withContentType.getDataContentType())
+            .isEqualTo("text/plain; charset=utf-8");
+        assertThat(withContentType.getData().toBytes())
+            .isEqualTo("hello".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CloudEventBuilder.v1(V1_MIN).withData(new Object()))
+            .isInstanceOf(CloudEventRWException.class);
+    }
+
+    @Test
+    void builderWithRawData() {
+        byte[] bytes = DATA_JSON_SERIALIZED;
+
+        CloudEvent event = CloudEventBuilder.v1(V1_MIN)
+            .withDataContentType(DATACONTENTTYPE_JSON)
+            .withData((Object) bytes)
+            .build();
+
+        assertThat(event.getDataContentType())
+            .isEqualTo(DATACONTENTTYPE_JSON);
+        assertThat(event.getData().toBytes())
+            .isEqualTo(bytes);
+    }
+
+    private static final class ToStringCodec<T> implements DataCodec<T> {
+
+        private final Class<T> type;
+        private final String contentType;
+
+        private ToStringCodec(Class<T> type, String contentType) {
+            this.type = type;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public Class<T> getJavaType() {
+            return type;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public byte[] encode(T value) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
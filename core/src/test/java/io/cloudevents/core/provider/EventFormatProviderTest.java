@@ -20,7 +20,15 @@ package io.cloudevents.core.provider;
 import io.cloudevents.core.mock.CSVFormat;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 public class EventFormatProviderTest {
 
@@ -36,6 +44,87 @@ public class EventFormatProviderTest {
             .isInstanceOf(CSVFormat.class);
     }
 
+    @Test
+    void resolveCSVIgnoringCaseAndWhitespaces() {
+        assertThat(EventFormatProvider.getInstance().resolveFormat("  " + CSVFormat.INSTANCE.serializedContentType().toUpperCase() + " ;charset=utf8"))
+            .isInstanceOf(CSVFormat.class);
+        assertThat(EventFormatProvider.getInstance().resolveFormat("application/json"))
+            .isNull();
+    }
+
+    @Test
+    void parseContentType() {
+        ParsedContentType parsed = EventFormatProvider.getInstance()
+            .parseContentType("Application/CloudEvents+CSV ; Charset=\"UTF-8\"; boundary = \"a;b\\\"c\" ;; invalid");
+
+        assertThat(parsed.getMediaType())
+            .isEqualTo("application/cloudevents+csv");
+        assertThat(parsed.getFormat())
+            .isInstanceOf(CSVFormat.class);
+        assertThat(parsed.getCharset())
+            .isEqualTo(StandardCharsets.UTF_8);
+        assertThat(parsed.getParameters())
+            .containsOnly(entry("charset", "UTF-8"), entry("boundary", "a;b\"c"));
+        assertThat(parsed.getParameter("CHARSET"))
+            .isEqualTo("UTF-8");
+        assertThat(parsed.isCloudEventsMediaType())
+            .isTrue();
+        assertThat(EventFormatProvider.getInstance().parseContentType("Application/CloudEvents+CSV ; Charset=\"UTF-8\"; boundary = \"a;b\\\"c\" ;; invalid"))
+            .isSameAs(parsed);
+    }
+
+    @Test
+    void parseContentTypeWithoutFormat() {
+        ParsedContentType parsed = EventFormatProvider.getInstance()
+            .parseContentType("application/cloudevents+unknown;charset=not-a-charset");
+
+        assertThat(parsed.getFormat())
+            .isNull();
+        assertThat(parsed.getCharset())
+            .isNull();
+        assertThat(parsed.getParameter("charset"))
+            .isEqualTo("not-a-charset");
+        assertThat(parsed.isCloudEventsMediaType())
+            .isTrue();
+    }
+
+    @Test
+    void boundedCache() {
+        for (int i = 0; i < EventFormatProvider.MAX_CACHED_CONTENT_TYPES * 4; i++) {
+            EventFormatProvider.getInstance().parseContentType("application/x-" + i);
+        }
+        assertThat(EventFormatProvider.getInstance().cachedContentTypes())
+            .isLessThanOrEqualTo(EventFormatProvider.MAX_CACHED_CONTENT_TYPES);
+    }
+
+    @Test
+    void registerWhileResolving() throws Exception {
+        String contentType = CSVFormat.INSTANCE.serializedContentType() + "; charset=utf-8";
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        if (!(EventFormatProvider.getInstance().resolveFormat(contentType) instanceof CSVFormat)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (int i = 0; i < 100; i++) {
+                EventFormatProvider.getInstance().registerFormat(CSVFormat.INSTANCE);
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get())
+                    .isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void listTypes() {
         assertThat(EventFormatProvider.getInstance().getContentTypes()).hasSize(1);
@@ -24,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.net.URI;
+import java.time.Clock;
 
 import static io.cloudevents.core.test.Data.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -177,4 +178,27 @@ public class CloudEventBuilderTest {
             .build()
         ).hasMessageContaining("Attribute 'subject' cannot be empty");
     }
+
+    @Test
+    void testGeneratedIdAndCurrentTime() {
+        Clock clock = Clock.fixed(TIME.toInstant(), TIME.getOffset());
+
+        CloudEvent event = CloudEventBuilder.v1()
+            .withIdGenerator(() -> "generated")
+            .withClock(clock)
+            .withSource(SOURCE)
+            .withType(TYPE)
+            .withGeneratedId()
+            .withCurrentTime()
+            .build();
+
+        assertThat(event.getId())
+            .isEqualTo("generated");
+        assertThat(event.getTime())
+            .isEqualTo(TIME);
+        assertThat(CloudEventBuilder.v1(event).withGeneratedId().build().getId())
+            .isNotEqualTo("generated");
+        assertThat(CloudEventBuilder.v1(event).withCurrentTime().build().getTime())
+            .isAfter(TIME);
+    }
 }
@@ -24,9 +24,12 @@ import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.core.format.EventDeserializationException;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.core.message.impl.MessageUtils;
 import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.v1.avro.compact.CloudEvent.Builder;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.time.Instant;
@@ -46,82 +49,90 @@ public class AvroCompactFormat implements EventFormat {
     @Override
     public byte[] serialize(CloudEvent from) throws EventSerializationException {
         try {
-            Builder to = io.cloudevents.v1.avro.compact.CloudEvent.newBuilder();
-
-            // extensions
-            Map<String, Object> extensions = new HashMap<>();
-            for (String name : from.getExtensionNames()) {
-                Object value = from.getExtension(name);
-                if (value instanceof byte[] bytes)
-                    value = ByteBuffer.wrap(bytes);
-                else if (value instanceof OffsetDateTime time)
-                    value = time.toInstant();
-                extensions.put(name,  value);
-            }
-
-            to.setSource(from.getSource().toString())
-                    .setType(from.getType())
-                    .setId(from.getId())
-                    .setSubject(from.getSubject())
-                    .setDatacontenttype(from.getDataContentType())
-                    .setExtensions(extensions);
-
-            if (from.getTime() != null)
-                to.setTime(from.getTime().toInstant());
-            if (from.getDataSchema() != null)
-                to.setDataschema(from.getDataSchema().toString());
-
-            CloudEventData data = from.getData();
-            if (data != null)
-                to.setData(ByteBuffer.wrap(data.toBytes()));
-            return to.build().toByteBuffer().array();
+            return toAvro(from).toByteBuffer().array();
         } catch (Exception e) {
             throw new EventSerializationException(e);
         }
     }
 
+    @Override
+    public void serialize(CloudEvent from, OutputStream out) throws EventSerializationException {
+        try {
+            io.cloudevents.v1.avro.compact.CloudEvent.getEncoder().encode(toAvro(from), out);
+        } catch (Exception e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Compute the size of the serialized event walking its attributes, without building the Avro record.
+     * The result is exact, including the single object encoding header.
+     */
+    @Override
+    public int estimateSerializedSize(CloudEvent from) throws EventSerializationException {
+        int size = SINGLE_OBJECT_HEADER_SIZE;
+        size += stringSize(from.getId());
+        size += stringSize(from.getSource().toString());
+        size += stringSize(from.getType());
+        size += nullableStringSize(from.getDataContentType());
+        size += nullableStringSize(from.getDataSchema() != null ? from.getDataSchema().toString() : null);
+        size += nullableStringSize(from.getSubject());
+        size += 1 + (from.getTime() != null ? longSize(toMicros(from.getTime())) : 0);
+
+        // extensions, written as a single block followed by the 0 terminator
+        int extensions = 0;
+        for (String name : from.getExtensionNames()) {
+            Object value = from.getExtension(name);
+            size += stringSize(name) + 1;
+            if (value instanceof Boolean)
+                size += 1;
+            else if (value instanceof Integer integer)
+                size += longSize(integer);
+            else if (value instanceof OffsetDateTime time)
+                size += longSize(toMicros(time));
+            else if (value instanceof byte[] bytes)
+                size += longSize(bytes.length) + bytes.length;
+            else if (value instanceof Number number)
+                size += longSize(number.longValue());
+            else
+                size += stringSize(value.toString());
+            extensions++;
+        }
+        if (extensions > 0)
+            size += longSize(extensions);
+        size += 1;
+
+        // union index, then the data: when missing, the schema default "null" is written as bytes
+        CloudEventData data = from.getData();
+        int dataLength = data != null ? data.length() : NULL_DATA_DEFAULT_LENGTH;
+        size += 1 + longSize(dataLength) + dataLength;
+        return size;
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
         try {
-            io.cloudevents.v1.avro.compact.CloudEvent from = io.cloudevents.v1.avro.compact.CloudEvent.fromByteBuffer(ByteBuffer.wrap(bytes));
-            CloudEventBuilder to = CloudEventBuilder.v1()
-                    .withSource(URI.create(from.getSource()))
-                    .withType(from.getType())
-                    .withId(from.getType())
-                    .withSubject(from.getSubject())
-                    .withDataContentType(from.getDatacontenttype());
-
-            if (from.getTime() != null)
-                to.withTime(from.getTime().atOffset(ZoneOffset.UTC));
-            if (from.getDataschema() != null)
-                to.withDataSchema(URI.create(from.getDataschema()));
-
-            // extensions
-            for (Map.Entry<String, Object> entry : from.getExtensions().entrySet()) {
-                String name = entry.getKey();
-                Object value = entry.getValue();
-                // Avro supports boolean, int, string, bytes
-                if (value instanceof Boolean boolean1)
-                    to.withExtension(name, boolean1);
-                else if (value instanceof Integer integer)
-                    to.withExtension(name, integer);
-                else if (value instanceof Instant instant)
-                    to.withExtension(name, instant.atOffset(ZoneOffset.UTC));
-                else if (value instanceof String string)
-                    to.withExtension(name, string);
-                else if (value instanceof ByteBuffer buffer)
-                    to.withExtension(name, buffer.array());
-                else
-                    // this cannot happen, if ever seen, must be bug in this library
-                    throw new AssertionError(String.format("invalid extension %s unsupported type %s", name, value.getClass()));
-            }
-
-            if (from.getData() == null)
-                return to.end();
-            else {
-                CloudEventData data = BytesCloudEventData.wrap(from.getData().array());
-                return to.end(mapper.map(data));
-            }
+            return fromAvro(io.cloudevents.v1.avro.compact.CloudEvent.fromByteBuffer(ByteBuffer.wrap(bytes)), mapper);
+        } catch (Exception e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    @Override
+    public CloudEvent deserialize(ByteBuffer buffer, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        try {
+            CloudEvent event = fromAvro(io.cloudevents.v1.avro.compact.CloudEvent.fromByteBuffer(buffer.duplicate()), mapper);
+            buffer.position(buffer.limit());
+            return event;
+        } catch (Exception e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    @Override
+    public CloudEvent deserialize(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        try {
+            return fromAvro(io.cloudevents.v1.avro.compact.CloudEvent.getDecoder().decode(in), mapper);
         } catch (Exception e) {
             throw new EventDeserializationException(e);
         }
@@ -131,4 +142,107 @@ public class AvroCompactFormat implements EventFormat {
     public String serializedContentType() {
         return AVRO_COMPACT_CONTENT_TYPE;
     }
+
+    private static io.cloudevents.v1.avro.compact.CloudEvent toAvro(CloudEvent from) {
+        Builder to = io.cloudevents.v1.avro.compact.CloudEvent.newBuilder();
+
+        // extensions
+        Map<String, Object> extensions = new HashMap<>();
+        for (String name : from.getExtensionNames()) {
+            Object value = from.getExtension(name);
+            if (value instanceof byte[] bytes)
+                value = ByteBuffer.wrap(bytes);
+            else if (value instanceof OffsetDateTime time)
+                value = time.toInstant();
+            extensions.put(name,  value);
+        }
+
+        to.setSource(from.getSource().toString())
+                .setType(from.getType())
+                .setId(from.getId())
+                .setSubject(from.getSubject())
+                .setDatacontenttype(from.getDataContentType())
+                .setExtensions(extensions);
+
+        if (from.getTime() != null)
+            to.setTime(from.getTime().toInstant());
+        if (from.getDataSchema() != null)
+            to.setDataschema(from.getDataSchema().toString());
+
+        CloudEventData data = from.getData();
+        if (data != null)
+            to.setData(ByteBuffer.wrap(data.toBytes()));
+        return to.build();
+    }
+
+    private static CloudEvent fromAvro(io.cloudevents.v1.avro.compact.CloudEvent from, CloudEventDataMapper<? extends CloudEventData> mapper) {
+        CloudEventBuilder to = CloudEventBuilder.v1()
+                .withSource(URI.create(from.getSource()))
+                .withType(from.getType())
+                .withId(from.getType())
+                .withSubject(from.getSubject())
+                .withDataContentType(from.getDatacontenttype());
+
+        if (from.getTime() != null)
+            to.withTime(from.getTime().atOffset(ZoneOffset.UTC));
+        if (from.getDataschema() != null)
+            to.withDataSchema(URI.create(from.getDataschema()));
+
+        // extensions
+        for (Map.Entry<String, Object> entry : from.getExtensions().entrySet()) {
+            String name = entry.getKey();
+            Object value = entry.getValue();
+            // Avro supports boolean, int, string, bytes
+            if (value instanceof Boolean boolean1)
+                to.withExtension(name, boolean1);
+            else if (value instanceof Integer integer)
+                to.withExtension(name, integer);
+            else if (value instanceof Instant instant)
+                to.withExtension(name, instant.atOffset(ZoneOffset.UTC));
+            else if (value instanceof String string)
+                to.withExtension(name, string);
+            else if (value instanceof ByteBuffer buffer)
+                to.withExtension(name, buffer.array());
+            else
+                // this cannot happen, if ever seen, must be bug in this library
+                throw new AssertionError(String.format("invalid extension %s unsupported type %s", name, value.getClass()));
+        }
+
+        if (from.getData() == null)
+            return to.end();
+        else {
+            CloudEventData data = BytesCloudEventData.wrap(from.getData().array());
+            return to.end(mapper.map(data));
+        }
+    }
+
+    // 2 bytes marker and 8 bytes schema fingerprint
+    private static final int SINGLE_OBJECT_HEADER_SIZE = 10;
+    private static final int NULL_DATA_DEFAULT_LENGTH = "null".length();
+
+    private static int nullableStringSize(String value) {
+        // union index, then the value
+        return 1 + (value != null ? stringSize(value) : 0);
+    }
+
+    private static int stringSize(String value) {
+        int length = MessageUtils.utf8Length(value);
+        return longSize(length) + length;
+    }
+
+    private static long toMicros(OffsetDateTime time) {
+        Instant instant = time.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static int longSize(long value) {
+        // zig-zag varint
+        long n = (value << 1) ^ (value >> 63);
+        int size = 1;
+        while ((n & ~0x7FL) != 0) {
+            n >>>= 7;
+            size++;
+        }
+        return size;
+    }
 }
@@ -20,10 +20,17 @@ import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.format.EventSerializationException;
 import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.core.test.Data;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.Collections;
@@ -31,6 +38,7 @@ import java.util.Collections;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AvroCompactFormatTest {
 
@@ -72,4 +80,44 @@ class AvroCompactFormatTest {
 
         assertArrayEquals(serialized, reserialized);
     }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void estimateSerializedSize(CloudEvent event) {
+        assertEquals(format.serialize(event).length, format.estimateSerializedSize(event));
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void streamingRoundTrip(CloudEvent input) {
+        byte[] serialized = format.serialize(input);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        format.serialize(input, out);
+        assertArrayEquals(serialized, out.toByteArray());
+
+        // Direct buffer, starting after a byte already written
+        ByteBuffer direct = ByteBuffer.allocateDirect(serialized.length + 2);
+        direct.put((byte) 0);
+        assertEquals(serialized.length, format.serialize(input, direct));
+        assertEquals(serialized.length + 1, direct.position());
+
+        CloudEvent expected = format.deserialize(serialized);
+        direct.flip().position(1);
+        assertEquals(expected, format.deserialize(direct));
+        assertEquals(0, direct.remaining());
+
+        byte[] padded = new byte[serialized.length + 2];
+        System.arraycopy(serialized, 0, padded, 1, serialized.length);
+        assertEquals(expected, format.deserialize(ByteBuffer.wrap(padded, 1, serialized.length)));
+        assertEquals(expected, format.deserialize(new ByteArrayInputStream(serialized)));
+    }
+
+    @Test
+    void serializeToSmallBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        buffer.position(2);
+        assertThrows(EventSerializationException.class, () -> format.serialize(Data.V1_WITH_JSON_DATA, buffer));
+        assertEquals(2, buffer.position());
+    }
 }
@@ -23,6 +23,7 @@ import io.cloudevents.SpecVersion;
 import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.data.BytesCloudEventData;
 import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.impl.BaseCloudEventBuilder;
 import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventReader;
@@ -33,7 +34,6 @@ import tools.jackson.core.JsonParser;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.deser.std.StdDeserializer;
-import tools.jackson.databind.exc.MismatchedInputException;
 import tools.jackson.databind.node.JsonNodeType;
 import tools.jackson.databind.node.NullNode;
 import tools.jackson.databind.node.ObjectNode;
@@ -143,7 +143,7 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
                         break;
                     case V1:
                         if (node.has("data_base64") && node.has("data")) {
-                            throw MismatchedInputException.from(p, CloudEvent.class, "CloudEvent cannot have both 'data' and 'data_base64' fields");
+                            throw StacklessMismatchedInputException.create(p, "CloudEvent cannot have both 'data' and 'data_base64' fields");
                         }
                         if (node.has("data_base64")) {
                             data = BytesCloudEventData.wrap(node.remove("data_base64").binaryValue());
@@ -206,17 +206,15 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
                     return writer.end(mapper.map(data));
                 }
                 return writer.end();
-            } catch (JacksonException e) {
-                throw new RuntimeException(e);
             } catch (IllegalArgumentException e) {
-                throw new RuntimeException(MismatchedInputException.from(this.p, CloudEvent.class, e.getMessage()));
+                throw StacklessMismatchedInputException.create(this.p, e.getMessage(), e);
             }
         }
 
         private String getStringNode(ObjectNode objNode, JsonParser p, String attributeName) throws JacksonException {
             String val = getOptionalStringNode(objNode, p, attributeName);
             if (val == null) {
-                throw MismatchedInputException.from(p, CloudEvent.class, "Missing mandatory " + attributeName + " attribute");
+                throw StacklessMismatchedInputException.missingAttribute(p, attributeName);
             }
             return val;
         }
@@ -232,9 +230,10 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
 
         private void assertNodeType(JsonNode node, JsonNodeType type, String attributeName, String desc) throws JacksonException {
             if (node.getNodeType() != type) {
-                throw MismatchedInputException.from(
+                throw StacklessMismatchedInputException.wrongType(
                     p,
-                    CloudEvent.class,
+                    attributeName,
+                    node.getClass(),
                     "Wrong type " + node.getNodeType() + " for attribute " + attributeName + ", expecting " + type + (desc != null ? ". " + desc : "")
                 );
             }
@@ -242,29 +241,28 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
 
         // ignore not valid extension name
         private boolean shouldSkipExtensionName(String extensionName) {
-            return this.forceIgnoreInvalidExtensionNameDeserialization && !this.isValidExtensionName(extensionName);
+            return this.forceIgnoreInvalidExtensionNameDeserialization && !BaseCloudEventBuilder.isValidExtensionName(extensionName);
         }
 
-        /**
-         * Validates the extension name as defined in  CloudEvents spec.
-         *
-         * @param name the extension name
-         * @return true if extension name is valid, false otherwise
-         * @see <a href="https://github.com/cloudevents/spec/blob/main/spec.md#attribute-naming-convention">attribute-naming-convention</a>
-         */
-        private boolean isValidExtensionName(String name) {
-            for (int i = 0; i < name.length(); i++) {
-                if (!isValidChar(name.charAt(i))) {
-                    return false;
-                }
-            }
-            return true;
-        }
-
-        private boolean isValidChar(char c) {
-            return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
-        }
+    }
 
+    /**
+     * Read an envelope already parsed by {@code p} straight into the writer created by {@code writerFactory}.
+     */
+    static <W extends CloudEventWriter<R>, R> R read(
+        JsonParser p,
+        ObjectNode node,
+        JsonFormatOptions options,
+        CloudEventWriterFactory<W, R> writerFactory,
+        CloudEventDataMapper<? extends CloudEventData> mapper
+    ) throws JacksonException {
+        return new JsonMessage(
+            p,
+            node,
+            options.isForceExtensionNameLowerCaseDeserialization(),
+            options.isForceIgnoreInvalidExtensionNameDeserialization(),
+            options.isDataContentTypeDefaultingDisabled()
+        ).read(writerFactory, mapper);
     }
 
     @Override
@@ -276,8 +274,11 @@ class CloudEventDeserializer extends StdDeserializer<CloudEvent> {
         try {
             return new JsonMessage(p, node, this.forceExtensionNameLowerCaseDeserialization, this.forceIgnoreInvalidExtensionNameDeserialization, this.disableDataContentTypeDefaulting)
                 .read(CloudEventBuilder::fromSpecVersion);
+        } catch (JacksonException e) {
+            // Already carries the parser location, don't wrap it again
+            throw e;
         } catch (RuntimeException e) {
-            throw MismatchedInputException.from(p, CloudEvent.class, e.getMessage());
+            throw StacklessMismatchedInputException.create(p, e.getMessage(), e);
         }
     }
 }
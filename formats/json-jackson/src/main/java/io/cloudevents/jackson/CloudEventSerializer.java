@@ -28,7 +28,6 @@ import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ser.std.StdSerializer;
 
-import java.nio.charset.StandardCharsets;
 
 /**
  * Jackson {@link tools.jackson.databind.ser.std.StdSerializer} for {@link CloudEvent}
@@ -115,7 +114,12 @@ class CloudEventSerializer extends StdSerializer<CloudEvent> {
         if (value.getData() != null) {
             CloudEventData data = value.getData();
             if (data instanceof JsonCloudEventData eventData) {
-                gen.writePOJOProperty("data", eventData.getNode());
+                if (eventData.getRaw() != null) {
+                    gen.writeName("data");
+                    gen.writeRawValue(eventData.getRaw());
+                } else {
+                    gen.writePOJOProperty("data", eventData.getNode());
+                }
             } else {
                 byte[] dataBytes = data.toBytes();
                 String contentType = value.getDataContentType();
@@ -132,10 +136,8 @@ class CloudEventSerializer extends StdSerializer<CloudEvent> {
                             throw new RuntimeException(value.getSpecVersion() + " not supported");
                     }
                 } else if (JsonFormat.dataIsJsonContentType(contentType)) {
-                    // TODO really bad b/c it allocates stuff, is there another solution out there?
-                    char[] dataAsString = new String(dataBytes, StandardCharsets.UTF_8).toCharArray();
                     gen.writeName("data");
-                    gen.writeRawValue(dataAsString, 0, dataAsString.length);
+                    gen.writeRawValue(new RawJsonValue(dataBytes, 0, dataBytes.length));
                 } else {
                     gen.writeName("data");
                     gen.writeUTF8String(dataBytes, 0, dataBytes.length);
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.impl.LazyCloudEvent;
+import io.cloudevents.core.impl.LazyCloudEventWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Scans the top level fields of a JSON event, collecting the requested attributes without parsing the data:
+ * nested values are skipped, and the scan stops as soon as all the requested attributes are found.
+ */
+final class JsonAttributeScanner {
+
+    private static final Set<String> CONTEXT_ATTRIBUTES = new HashSet<>();
+
+    static {
+        for (SpecVersion specVersion : SpecVersion.values()) {
+            CONTEXT_ATTRIBUTES.addAll(specVersion.getAllAttributes());
+        }
+    }
+
+    private JsonAttributeScanner() {
+    }
+
+    /**
+     * Collect the requested attributes in their {@link String} encoding.
+     */
+    static Map<String, String> scan(JsonParser p, Set<String> names, JsonFormatOptions options) {
+        return scan(p, names, options, JsonParser::getString);
+    }
+
+    /**
+     * Collect the requested attributes, plus {@code specversion}, in a partial {@link LazyCloudEvent}.
+     * Extensions keep their JSON type, while the other context attributes are parsed when accessed.
+     */
+    static CloudEvent project(JsonParser p, Set<String> names, JsonFormatOptions options) {
+        Set<String> wanted = names;
+        if (!names.contains("specversion")) {
+            wanted = new HashSet<>(names);
+            wanted.add("specversion");
+        }
+        Map<String, Object> attributes = scan(p, wanted, options, JsonAttributeScanner::readScalar);
+        Object specVersion = attributes.remove("specversion");
+        if (!(specVersion instanceof String)) {
+            throw new StreamReadException(p, "Missing mandatory specversion attribute");
+        }
+        CloudEventWriter<CloudEvent> writer = LazyCloudEventWriter.projection(SpecVersion.parse((String) specVersion));
+        attributes.forEach((name, value) -> {
+            if (value instanceof Boolean) {
+                writer.withContextAttribute(name, (Boolean) value);
+            } else if (value instanceof Integer) {
+                writer.withContextAttribute(name, (Integer) value);
+            } else if (value instanceof Number) {
+                // Only 'Int' values are supported by the specification
+                throw CloudEventRWException.newInvalidAttributeType(name, value);
+            } else {
+                writer.withContextAttribute(name, (String) value);
+            }
+        });
+        return writer.end();
+    }
+
+    private static Object readScalar(JsonParser p) {
+        switch (p.currentToken()) {
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return p.getNumberValue();
+            default:
+                return p.getString();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Map<String, V> scan(JsonParser p, Set<String> names, JsonFormatOptions options, Function<JsonParser, ? extends V> scalarReader) {
+        Map<String, V> attributes = new HashMap<>(Math.max(4, names.size() * 2));
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            throw new StreamReadException(p, "Expected a JSON object");
+        }
+        boolean hasData = false;
+        JsonToken token;
+        while ((token = p.nextToken()) == JsonToken.PROPERTY_NAME) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("data".equals(name) || "data_base64".equals(name)) {
+                hasData |= "data".equals(name);
+                p.skipChildren();
+                continue;
+            }
+            if (options.isForceExtensionNameLowerCaseDeserialization() && !CONTEXT_ATTRIBUTES.contains(name)) {
+                // Like the deserializer, lower case only the extension names
+                name = name.toLowerCase(Locale.ROOT);
+            }
+            if (!names.contains(name)) {
+                p.skipChildren();
+                continue;
+            }
+            if (value.isScalarValue()) {
+                if (value != JsonToken.VALUE_NULL) {
+                    attributes.put(name, scalarReader.apply(p));
+                }
+            } else {
+                // Same encoding as the extensions with a structured value
+                attributes.put(name, (V) p.readValueAsTree().toString());
+            }
+            if (attributes.size() == names.size()) {
+                return attributes;
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new StreamReadException(p, "Unexpected token " + token);
+        }
+        // Mimic the data content type defaulting of the deserializer
+        if (hasData && !options.isDataContentTypeDefaultingDisabled()
+            && names.contains("datacontenttype") && !attributes.containsKey("datacontenttype")) {
+            attributes.put("datacontenttype", (V) "application/json");
+        }
+        return attributes;
+    }
+}
@@ -18,16 +18,30 @@
 package io.cloudevents.jackson;
 
 import io.cloudevents.CloudEventData;
+import io.cloudevents.rw.CloudEventRWException;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /**
  * This class is a wrapper for Jackson {@link JsonNode} implementing {@link CloudEventData}.
+ * <p>
+ * Instances created with {@link #wrap(byte[], int, int)} keep the original UTF-8 encoded JSON instead: {@link #toBytes()}
+ * returns it verbatim, {@link JsonFormat} writes it as a raw value, and the {@link JsonNode} is parsed only on the
+ * first {@link #getNode()} invocation.
  */
 public class JsonCloudEventData implements CloudEventData {
-    private final JsonNode node;
+
+    private static final JsonMapper NODE_MAPPER = new JsonMapper();
+
+    private final RawJsonValue raw;
+    private volatile JsonNode node;
 
     /**
      * @param node the json node to wrap
@@ -36,18 +50,68 @@ public class JsonCloudEventData implements CloudEventData {
     public JsonCloudEventData(JsonNode node) {
         Objects.requireNonNull(node);
         this.node = node;
+        this.raw = null;
+    }
+
+    private JsonCloudEventData(RawJsonValue raw) {
+        this.raw = raw;
     }
 
     @Override
     public byte[] toBytes() {
-        return node.toString().getBytes(StandardCharsets.UTF_8);
+        if (raw == null) {
+            return node.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (raw.offset == 0 && raw.length == raw.bytes.length) {
+            return raw.bytes;
+        }
+        return raw.asUnquotedUTF8();
+    }
+
+    @Override
+    public int length() {
+        return raw != null ? raw.length : toBytes().length;
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        if (raw == null) {
+            return CloudEventData.super.toByteBuffer();
+        }
+        return ByteBuffer.wrap(raw.bytes, raw.offset, raw.length).slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        if (raw == null) {
+            CloudEventData.super.writeTo(out);
+        } else {
+            raw.writeUnquotedUTF8(out);
+        }
     }
 
     /**
-     * @return the wrapped {@link JsonNode}
+     * @return the wrapped {@link JsonNode}, parsing it if this instance holds the original JSON.
+     * @throws CloudEventRWException if the original JSON cannot be parsed.
      */
     public JsonNode getNode() {
-        return node;
+        JsonNode value = this.node;
+        if (value == null) {
+            try {
+                value = NODE_MAPPER.readTree(raw.bytes, raw.offset, raw.length);
+            } catch (JacksonException e) {
+                throw CloudEventRWException.newDataConversion(e, byte[].class.toString(), JsonNode.class.toString());
+            }
+            this.node = value;
+        }
+        return value;
+    }
+
+    /**
+     * @return the original JSON, or null if this instance wraps a {@link JsonNode}.
+     */
+    RawJsonValue getRaw() {
+        return raw;
     }
 
     @Override
@@ -66,7 +130,7 @@ public class JsonCloudEventData implements CloudEventData {
     @Override
     public String toString() {
         return "JsonCloudEventData{" +
-            "node=" + node +
+            (raw != null ? "raw=" + raw : "node=" + node) +
             '}';
     }
 
@@ -78,4 +142,29 @@ public class JsonCloudEventData implements CloudEventData {
         return new JsonCloudEventData(node);
     }
 
+    /**
+     * Like {@link #wrap(byte[], int, int)}, wrapping the whole array.
+     *
+     * @param json the UTF-8 encoded JSON value
+     * @return the JSON wrapped in a {@link JsonCloudEventData}
+     */
+    public static JsonCloudEventData wrap(byte[] json) {
+        return wrap(json, 0, json.length);
+    }
+
+    /**
+     * Wrap a span of UTF-8 encoded JSON, without parsing it. The array is not copied, so it must not be modified afterwards.
+     * The JSON is validated only when parsed by {@link #getNode()}.
+     *
+     * @param json   the array containing the UTF-8 encoded JSON value
+     * @param offset the offset of the value in {@code json}
+     * @param length the length of the value
+     * @return the JSON wrapped in a {@link JsonCloudEventData}
+     * @throws IndexOutOfBoundsException if the span is out of the bounds of {@code json}.
+     */
+    public static JsonCloudEventData wrap(byte[] json, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, json.length);
+        return new JsonCloudEventData(new RawJsonValue(json, offset, length));
+    }
+
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.core.data.DataCodec;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * {@link DataCodec} encoding any object to {@code application/json} with a Jackson {@link JsonMapper}.
+ * <p>
+ * It supports {@code application/json} and every content type with the {@code +json} suffix.
+ * This codec is registered with {@link java.util.ServiceLoader}, so
+ * {@link io.cloudevents.core.builder.CloudEventBuilder#withData(Object)} encodes POJOs to JSON
+ * when this module is on the classpath.
+ */
+public final class JsonDataCodec implements DataCodec<Object> {
+
+    private final JsonMapper mapper;
+
+    /**
+     * Create a new instance of this class using a default {@link JsonMapper}.
+     */
+    public JsonDataCodec() {
+        this(JsonMapper.builder().build());
+    }
+
+    /**
+     * Create a new instance of this class using the provided {@link JsonMapper}.
+     *
+     * @param mapper the mapper used to encode the objects
+     */
+    public JsonDataCodec(JsonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public Class<Object> getJavaType() {
+        return Object.class;
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    @Override
+    public boolean supportsContentType(String contentType) {
+        int i = contentType.indexOf(';');
+        String mediaType = (i == -1 ? contentType : contentType.substring(0, i)).trim().toLowerCase(Locale.ROOT);
+        return mediaType.equals("application/json") || mediaType.endsWith("+json");
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return mapper.writeValueAsBytes(value);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventDeserializationException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Incremental reader of a stream of JSON encoded events, created by {@link JsonFormat#newReader(InputStream, JsonStreamFraming)}.
+ * <p>
+ * The events are read one at a time with a single {@link JsonParser}, so the memory used doesn't depend on the
+ * size of the stream. Closing the reader doesn't close the underlying stream.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class JsonEventReader implements Iterator<CloudEvent>, Closeable {
+
+    private static final byte RECORD_SEPARATOR = 0x1E;
+
+    private final ObjectReader reader;
+    private final JsonParser parser;
+    private final JsonStreamFraming framing;
+
+    private boolean started;
+    private boolean finished;
+    // True when the parser is positioned on the start of the next event
+    private boolean ready;
+    // Line of the end of the last event, used to check that NDJSON events are on separate lines
+    private int lastLine;
+
+    JsonEventReader(ObjectReader reader, InputStream in, JsonStreamFraming framing) throws EventDeserializationException {
+        this.reader = reader;
+        this.framing = framing;
+        try {
+            this.parser = reader.createParser(framing == JsonStreamFraming.JSON_SEQ ? new RecordSeparatorInputStream(in) : in);
+        } catch (JacksonException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * @return true if the stream contains another event
+     * @throws EventDeserializationException if the stream is not valid JSON, or it doesn't follow the framing.
+     */
+    @Override
+    public boolean hasNext() throws EventDeserializationException {
+        if (this.ready) {
+            return true;
+        }
+        if (this.finished) {
+            return false;
+        }
+        try {
+            if (!this.started) {
+                this.started = true;
+                if (this.framing == JsonStreamFraming.BATCH) {
+                    JsonToken token = this.parser.nextToken();
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new EventDeserializationException(new IllegalStateException("Expected a JSON array, found " + token));
+                    }
+                }
+            }
+            JsonToken token = this.parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                if (this.framing == JsonStreamFraming.NDJSON && this.parser.currentTokenLocation().getLineNr() <= this.lastLine) {
+                    throw new EventDeserializationException(new IllegalStateException("Expected a line feed before the next JSON object"));
+                }
+                this.ready = true;
+                return true;
+            }
+            switch (this.framing) {
+                case BATCH:
+                    // The events end with the array
+                    if (token == JsonToken.END_ARRAY) {
+                        this.finished = true;
+                        return false;
+                    }
+                    break;
+                case NDJSON:
+                case JSON_SEQ:
+                    // The events end with the stream
+                    if (token == null) {
+                        this.finished = true;
+                        return false;
+                    }
+                    break;
+            }
+            throw new EventDeserializationException(new IllegalStateException("Expected a JSON object, found " + token));
+        } catch (JacksonException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * @return the next event of the stream
+     * @throws NoSuchElementException        if the stream doesn't contain other events.
+     * @throws EventDeserializationException if the event cannot be deserialized.
+     */
+    @Override
+    public CloudEvent next() throws EventDeserializationException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.ready = false;
+        try {
+            CloudEvent event = this.reader.readValue(this.parser);
+            this.lastLine = this.parser.currentTokenLocation().getLineNr();
+            return event;
+        } catch (JacksonException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.parser.close();
+    }
+
+    /**
+     * RFC 7464 records are JSON texts preceded by a record separator, which is not JSON whitespace:
+     * reading it as a space turns the stream into a sequence of JSON values.
+     * A record separator can't appear inside a JSON text, because control characters in strings are escaped.
+     */
+    private static final class RecordSeparatorInputStream extends FilterInputStream {
+
+        RecordSeparatorInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            return b == RECORD_SEPARATOR ? ' ' : b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            for (int i = off; i < off + read; i++) {
+                if (b[i] == RECORD_SEPARATOR) {
+                    b[i] = ' ';
+                }
+            }
+            return read;
+        }
+    }
+}
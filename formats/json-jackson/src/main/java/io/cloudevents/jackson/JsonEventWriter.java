@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventSerializationException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.OutputStream;
+
+/**
+ * Incremental writer of a stream of JSON encoded events, created by {@link JsonFormat#newWriter(OutputStream, JsonStreamFraming)}.
+ * <p>
+ * The events are appended one at a time with a single {@link JsonGenerator}. The batch array is closed by {@link #close()},
+ * which doesn't close the underlying stream.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class JsonEventWriter implements Flushable, Closeable {
+
+    private static final char RECORD_SEPARATOR = 0x1E;
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private final JsonStreamFraming framing;
+
+    JsonEventWriter(ObjectWriter writer, OutputStream out, JsonStreamFraming framing) throws EventSerializationException {
+        this.writer = writer;
+        this.framing = framing;
+        try {
+            this.generator = writer.createGenerator(out);
+            if (framing == JsonStreamFraming.BATCH) {
+                this.generator.writeStartArray();
+            }
+        } catch (JacksonException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Append an event to the stream.
+     *
+     * @param event the event to write
+     * @throws EventSerializationException if something goes wrong during serialization.
+     */
+    public void write(CloudEvent event) throws EventSerializationException {
+        try {
+            if (this.framing == JsonStreamFraming.JSON_SEQ) {
+                this.generator.writeRaw(RECORD_SEPARATOR);
+            }
+            this.writer.writeValue(this.generator, event);
+            if (this.framing != JsonStreamFraming.BATCH) {
+                this.generator.writeRaw('\n');
+            }
+        } catch (JacksonException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Flush the events written so far to the underlying stream.
+     *
+     * @throws EventSerializationException if something goes wrong while writing.
+     */
+    @Override
+    public void flush() throws EventSerializationException {
+        try {
+            this.generator.flush();
+        } catch (JacksonException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Terminate the stream and flush it, without closing the underlying stream.
+     *
+     * @throws EventSerializationException if something goes wrong while writing.
+     */
+    @Override
+    public void close() throws EventSerializationException {
+        try {
+            if (this.framing == JsonStreamFraming.BATCH) {
+                this.generator.writeEndArray();
+            }
+            this.generator.close();
+        } catch (JacksonException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+}
@@ -22,14 +22,30 @@ import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.format.EventDeserializationException;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.core.impl.ByteBufferInputStream;
 import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -45,6 +61,10 @@ public final class JsonFormat implements EventFormat {
      * Content type associated with the JSON event format
      */
     public static final String CONTENT_TYPE = "application/cloudevents+json";
+    /**
+     * Content type associated with the JSON batch format
+     */
+    public static final String BATCH_CONTENT_TYPE = "application/cloudevents-batch+json";
     /**
      * JSON Data Content Type Discriminator
      */
@@ -77,6 +97,9 @@ public final class JsonFormat implements EventFormat {
     public JsonFormat(JsonFormatOptions options) {
         this.mapper = JsonMapper.builder()
             .addModule(getCloudEventJacksonModule(options))
+            // The streams passed to serialize and deserialize are owned by the caller
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
             .build();
         this.options = options;
     }
@@ -98,6 +121,7 @@ public final class JsonFormat implements EventFormat {
                 .forceStringSerialization(this.options.isForceStringSerialization())
                 .forceExtensionNameLowerCaseDeserialization(this.options.isForceExtensionNameLowerCaseDeserialization())
                 .forceIgnoreInvalidExtensionNameDeserialization(this.options.isForceIgnoreInvalidExtensionNameDeserialization())
+                .streamingDeserialization(this.options.isStreamingDeserialization())
                 .build()
         );
     }
@@ -112,6 +136,7 @@ public final class JsonFormat implements EventFormat {
                 .forceStringSerialization(true)
                 .forceExtensionNameLowerCaseDeserialization(this.options.isForceExtensionNameLowerCaseDeserialization())
                 .forceIgnoreInvalidExtensionNameDeserialization(this.options.isForceIgnoreInvalidExtensionNameDeserialization())
+                .streamingDeserialization(this.options.isStreamingDeserialization())
                 .build()
         );
     }
@@ -126,6 +151,7 @@ public final class JsonFormat implements EventFormat {
                 .forceStringSerialization(this.options.isForceStringSerialization())
                 .forceExtensionNameLowerCaseDeserialization(true)
                 .forceIgnoreInvalidExtensionNameDeserialization(this.options.isForceIgnoreInvalidExtensionNameDeserialization())
+                .streamingDeserialization(this.options.isStreamingDeserialization())
                 .build()
         );
     }
@@ -140,6 +166,7 @@ public final class JsonFormat implements EventFormat {
                 .forceStringSerialization(this.options.isForceStringSerialization())
                 .forceExtensionNameLowerCaseDeserialization(this.options.isForceExtensionNameLowerCaseDeserialization())
                 .forceIgnoreInvalidExtensionNameDeserialization(true)
+                .streamingDeserialization(this.options.isStreamingDeserialization())
                 .build()
         );
     }
@@ -153,8 +180,25 @@ public final class JsonFormat implements EventFormat {
         }
     }
 
+    @Override
+    public void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        try {
+            mapper.writeValue(out, event);
+        } catch (JacksonException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes) throws EventDeserializationException {
+        if (this.options.isStreamingDeserialization()) {
+            // Deserialize knowing the source, to retain the original bytes of the JSON data
+            try (JsonParser parser = this.mapper.createParser(bytes)) {
+                return StreamingCloudEventDeserializer.deserialize(parser, bytes, 0, this.options);
+            } catch (JacksonException e) {
+                throw new EventDeserializationException(e);
+            }
+        }
         try {
             return mapper.readValue(bytes, CloudEvent.class);
         } catch (JacksonException e) {
@@ -164,24 +208,195 @@ public final class JsonFormat implements EventFormat {
 
     @Override
     public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
-        CloudEvent deserialized = this.deserialize(bytes);
-        if (deserialized.getData() == null) {
-            return deserialized;
+        try (JsonParser parser = this.mapper.createParser(bytes)) {
+            return decode(parser, bytes, 0, mapper);
+        } catch (JacksonException e) {
+            throw new EventDeserializationException(e);
         }
+    }
+
+    @Override
+    public CloudEvent deserialize(ByteBuffer buffer, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
         try {
-            return CloudEventBuilder.from(deserialized)
-                .withData(mapper.map(deserialized.getData()))
-                .build();
-        } catch (CloudEventRWException e) {
+            if (buffer.hasArray()) {
+                // The array is not retained, because the caller may reuse the buffer
+                CloudEvent event;
+                try (JsonParser parser = this.mapper.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining())) {
+                    event = decode(parser, null, 0, mapper);
+                }
+                buffer.position(buffer.limit());
+                return event;
+            }
+            try (JsonParser parser = this.mapper.createParser(new ByteBufferInputStream(buffer))) {
+                return decode(parser, null, 0, mapper);
+            }
+        } catch (JacksonException e) {
             throw new EventDeserializationException(e);
         }
     }
 
+    @Override
+    public CloudEvent deserialize(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper) throws EventDeserializationException {
+        try (JsonParser parser = this.mapper.createParser(in)) {
+            return decode(parser, null, 0, mapper);
+        } catch (JacksonException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * Read the serialized event straight into the writer, without creating an intermediate {@link CloudEvent}.
+     */
+    @Override
+    public <W extends CloudEventWriter<R>, R> R read(byte[] bytes, CloudEventWriterFactory<W, R> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException {
+        try (JsonParser parser = this.mapper.createParser(bytes)) {
+            return read(parser, bytes, 0, writerFactory, mapper);
+        } catch (JacksonException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * Build the event mapping the data in the same pass, reporting every failure as {@link EventDeserializationException}.
+     */
+    private CloudEvent decode(JsonParser parser, byte[] source, int sourceOffset, CloudEventDataMapper<? extends CloudEventData> mapper) throws JacksonException {
+        try {
+            return read(parser, source, sourceOffset, CloudEventBuilder::fromSpecVersion, mapper);
+        } catch (JacksonException | EventDeserializationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    private <W extends CloudEventWriter<R>, R> R read(
+        JsonParser parser,
+        byte[] source,
+        int sourceOffset,
+        CloudEventWriterFactory<W, R> writerFactory,
+        CloudEventDataMapper<? extends CloudEventData> mapper
+    ) throws JacksonException {
+        if (this.options.isStreamingDeserialization()) {
+            return StreamingCloudEventDeserializer.read(parser, source, sourceOffset, this.options, writerFactory, mapper);
+        }
+        ObjectNode node = this.mapper.readValue(parser, ObjectNode.class);
+        return CloudEventDeserializer.read(parser, node, this.options, writerFactory, mapper);
+    }
+
+    /**
+     * Scan the top level fields of the serialized event, skipping the data and stopping as soon as all the requested attributes are found.
+     */
+    @Override
+    public Map<String, String> peekAttributes(byte[] bytes, Set<String> names) throws EventDeserializationException {
+        try (JsonParser parser = this.mapper.createParser(bytes)) {
+            return JsonAttributeScanner.scan(parser, names, this.options);
+        } catch (JacksonException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * Decode only the provided context attributes and extensions, like the ones needed to route the event or to evaluate
+     * a CESQL expression on it. The scan skips the data and stops as soon as all the requested attributes are found.
+     * <p>
+     * The returned event is a view of the requested attributes, plus {@code specversion}: the other attributes and the
+     * data are null, even when they're mandatory, and the event is not validated.
+     *
+     * @param bytes the serialized event
+     * @param names the names of the context attributes and extensions to decode
+     * @return a partial event with the requested attributes found in the serialized event
+     * @throws EventDeserializationException if something goes wrong during deserialization.
+     */
+    public CloudEvent project(byte[] bytes, Set<String> names) throws EventDeserializationException {
+        try (JsonParser parser = this.mapper.createParser(bytes)) {
+            return JsonAttributeScanner.project(parser, names, this.options);
+        } catch (JacksonException | CloudEventRWException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    /**
+     * Create a reader of the events of a stream, like a {@link #BATCH_CONTENT_TYPE} body or a NDJSON file.
+     * The events are read one at a time, so the memory used doesn't depend on the size of the stream.
+     *
+     * @param in      the stream to read, which is not closed by the reader
+     * @param framing the framing of the events in the stream
+     * @return a new reader of the events of {@code in}
+     * @throws EventDeserializationException if the reader cannot be created.
+     */
+    public JsonEventReader newReader(InputStream in, JsonStreamFraming framing) throws EventDeserializationException {
+        return new JsonEventReader(
+            this.mapper.readerFor(CloudEvent.class).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS),
+            in,
+            framing
+        );
+    }
+
+    /**
+     * Like {@link #newReader(InputStream, JsonStreamFraming)}, reading from a channel.
+     *
+     * @param channel the channel to read, which is not closed by the reader
+     * @param framing the framing of the events in the channel
+     * @return a new reader of the events of {@code channel}
+     * @throws EventDeserializationException if the reader cannot be created.
+     */
+    public JsonEventReader newReader(ReadableByteChannel channel, JsonStreamFraming framing) throws EventDeserializationException {
+        return newReader(Channels.newInputStream(channel), framing);
+    }
+
+    /**
+     * Create a writer appending events to a stream. The events are written one at a time, so the memory used doesn't depend on the size of the stream.
+     *
+     * @param out     the stream to write, which is not closed by the writer
+     * @param framing the framing of the events in the stream
+     * @return a new writer of events to {@code out}
+     * @throws EventSerializationException if the writer cannot be created.
+     */
+    public JsonEventWriter newWriter(OutputStream out, JsonStreamFraming framing) throws EventSerializationException {
+        return new JsonEventWriter(
+            this.mapper.writerFor(CloudEvent.class)
+                .withRootValueSeparator("")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE),
+            out,
+            framing
+        );
+    }
+
+    /**
+     * Compute the size of the serialized event walking its attributes, without serializing it.
+     * The result is exact, as long as the textual data is valid UTF-8.
+     */
+    @Override
+    public int estimateSerializedSize(CloudEvent event) throws EventSerializationException {
+        try {
+            return JsonSizeEstimator.estimate(event, this.options);
+        } catch (RuntimeException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
     @Override
     public String serializedContentType() {
         return CONTENT_TYPE;
     }
 
+    /**
+     * Two {@link JsonFormat} instances are equal when they are configured with equal {@link JsonFormatOptions},
+     * hence they serialize events in the same way.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return this.options.equals(((JsonFormat) o).options);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.options.hashCode();
+    }
+
     /**
      * @return a {@link SimpleModule} with {@link CloudEvent} serializer/deserializer configured using default values.
      */
@@ -213,8 +428,12 @@ public final class JsonFormat implements EventFormat {
         final SimpleModule ceModule = new SimpleModule("CloudEvent");
         ceModule.addSerializer(CloudEvent.class, new CloudEventSerializer(
             options.isForceDataBase64Serialization(), options.isForceStringSerialization()));
-        ceModule.addDeserializer(CloudEvent.class, new CloudEventDeserializer(
-            options.isForceExtensionNameLowerCaseDeserialization(), options.isForceIgnoreInvalidExtensionNameDeserialization(), options.isDataContentTypeDefaultingDisabled()));
+        if (options.isStreamingDeserialization()) {
+            ceModule.addDeserializer(CloudEvent.class, new StreamingCloudEventDeserializer(options));
+        } else {
+            ceModule.addDeserializer(CloudEvent.class, new CloudEventDeserializer(
+                options.isForceExtensionNameLowerCaseDeserialization(), options.isForceIgnoreInvalidExtensionNameDeserialization(), options.isDataContentTypeDefaultingDisabled()));
+        }
         return ceModule;
     }
 
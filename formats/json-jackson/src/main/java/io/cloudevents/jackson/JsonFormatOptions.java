@@ -16,18 +16,21 @@
  */
 package io.cloudevents.jackson;
 
+import java.util.Objects;
+
 public final class JsonFormatOptions {
     private final boolean forceDataBase64Serialization;
     private final boolean forceStringSerialization;
     private final boolean forceExtensionNameLowerCaseDeserialization;
     private final boolean forceIgnoreInvalidExtensionNameDeserialization;
     private final boolean disableDataContentTypeDefaulting;
+    private final boolean streamingDeserialization;
 
     /**
      * Create a new instance of this class options the serialization / deserialization.
      */
     public JsonFormatOptions() {
-        this(false, false, false, false, false);
+        this(false, false, false, false, false, false);
     }
 
     JsonFormatOptions(
@@ -35,13 +38,15 @@ public final class JsonFormatOptions {
         boolean forceStringSerialization,
         boolean forceExtensionNameLowerCaseDeserialization,
         boolean forceIgnoreInvalidExtensionNameDeserialization,
-        boolean disableDataContentTypeDefaulting
+        boolean disableDataContentTypeDefaulting,
+        boolean streamingDeserialization
     ) {
         this.forceDataBase64Serialization = forceDataBase64Serialization;
         this.forceStringSerialization = forceStringSerialization;
         this.forceExtensionNameLowerCaseDeserialization = forceExtensionNameLowerCaseDeserialization;
         this.forceIgnoreInvalidExtensionNameDeserialization = forceIgnoreInvalidExtensionNameDeserialization;
         this.disableDataContentTypeDefaulting = disableDataContentTypeDefaulting;
+        this.streamingDeserialization = streamingDeserialization;
     }
 
     public static JsonFormatOptionsBuilder builder() {
@@ -66,12 +71,41 @@ public final class JsonFormatOptions {
 
     public boolean isDataContentTypeDefaultingDisabled() { return this.disableDataContentTypeDefaulting; }
 
+    /**
+     * @return true if events are deserialized walking the JSON tokens once, without building an intermediate tree of the envelope.
+     * When deserializing from a {@code byte[]}, JSON objects and arrays in {@code data} retain their original bytes,
+     * see {@link JsonCloudEventData#wrap(byte[], int, int)}.
+     */
+    public boolean isStreamingDeserialization() {
+        return this.streamingDeserialization;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JsonFormatOptions that = (JsonFormatOptions) o;
+        return forceDataBase64Serialization == that.forceDataBase64Serialization &&
+            forceStringSerialization == that.forceStringSerialization &&
+            forceExtensionNameLowerCaseDeserialization == that.forceExtensionNameLowerCaseDeserialization &&
+            forceIgnoreInvalidExtensionNameDeserialization == that.forceIgnoreInvalidExtensionNameDeserialization &&
+            disableDataContentTypeDefaulting == that.disableDataContentTypeDefaulting &&
+            streamingDeserialization == that.streamingDeserialization;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(forceDataBase64Serialization, forceStringSerialization, forceExtensionNameLowerCaseDeserialization,
+            forceIgnoreInvalidExtensionNameDeserialization, disableDataContentTypeDefaulting, streamingDeserialization);
+    }
+
     public static class JsonFormatOptionsBuilder {
         private boolean forceDataBase64Serialization = false;
         private boolean forceStringSerialization = false;
         private boolean forceExtensionNameLowerCaseDeserialization = false;
         private boolean forceIgnoreInvalidExtensionNameDeserialization = false;
         private boolean disableDataContentTypeDefaulting = false;
+        private boolean streamingDeserialization = false;
 
         public JsonFormatOptionsBuilder forceDataBase64Serialization(boolean forceDataBase64Serialization) {
             this.forceDataBase64Serialization = forceDataBase64Serialization;
@@ -98,13 +132,19 @@ public final class JsonFormatOptions {
             return this;
         }
 
+        public JsonFormatOptionsBuilder streamingDeserialization(boolean streamingDeserialization) {
+            this.streamingDeserialization = streamingDeserialization;
+            return this;
+        }
+
         public JsonFormatOptions build() {
             return new JsonFormatOptions(
                 this.forceDataBase64Serialization,
                 this.forceStringSerialization,
                 this.forceExtensionNameLowerCaseDeserialization,
                 this.forceIgnoreInvalidExtensionNameDeserialization,
-                this.disableDataContentTypeDefaulting
+                this.disableDataContentTypeDefaulting,
+                this.streamingDeserialization
             );
         }
     }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Computes the size of the JSON written by {@link CloudEventSerializer}, walking the event attributes.
+ * <p>
+ * JSON data, embedded as raw value, and {@link JsonCloudEventData} are counted as their {@link CloudEventData#length()}.
+ */
+final class JsonSizeEstimator implements CloudEventContextWriter {
+
+    // Jackson writes \b, \t, \n, \f and \r with short escapes, the other control chars as \\u00XX
+    private static final int[] CONTROL_ESCAPE_LENGTH = new int[0x20];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            CONTROL_ESCAPE_LENGTH[c] = 6;
+        }
+        CONTROL_ESCAPE_LENGTH['\b'] = 2;
+        CONTROL_ESCAPE_LENGTH['\t'] = 2;
+        CONTROL_ESCAPE_LENGTH['\n'] = 2;
+        CONTROL_ESCAPE_LENGTH['\f'] = 2;
+        CONTROL_ESCAPE_LENGTH['\r'] = 2;
+    }
+
+    private int size = 1; // {
+    private int fields;
+
+    private JsonSizeEstimator() {
+    }
+
+    static int estimate(CloudEvent event, JsonFormatOptions options) {
+        JsonSizeEstimator estimator = new JsonSizeEstimator();
+        estimator.withContextAttribute("specversion", event.getSpecVersion().toString());
+        CloudEventUtils.toContextReader(event).readContext(estimator);
+
+        CloudEventData data = event.getData();
+        if (data != null) {
+            String contentType = event.getDataContentType();
+            boolean isJson = JsonFormat.dataIsJsonContentType(contentType);
+            if (data instanceof JsonCloudEventData) {
+                estimator.field("data", data.length());
+            } else if (isJson ? options.isForceDataBase64Serialization() : !options.isForceStringSerialization()) {
+                int base64Length = 2 + 4 * ((data.length() + 2) / 3);
+                if (event.getSpecVersion() == SpecVersion.V03) {
+                    estimator.withContextAttribute("datacontentencoding", "base64");
+                    estimator.field("data", base64Length);
+                } else {
+                    estimator.field("data_base64", base64Length);
+                }
+            } else if (isJson) {
+                estimator.field("data", data.length());
+            } else {
+                estimator.field("data", 2 + escapedLength(data.toByteBuffer()));
+            }
+        }
+        return estimator.size + 1; // }
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+        field(name, 2 + escapedLength(value));
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Number value) throws CloudEventRWException {
+        if (value instanceof Integer integer) {
+            return withContextAttribute(name, integer);
+        }
+        return withContextAttribute(name, value.toString());
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Integer value) throws CloudEventRWException {
+        field(name, Integer.toString(value).length());
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
+        field(name, value ? 4 : 5);
+        return this;
+    }
+
+    private void field(String name, int valueSize) {
+        if (fields++ > 0) {
+            size++; // ,
+        }
+        size += 2 + escapedLength(name) + 1 + valueSize; // "name":value
+    }
+
+    private static int escapedLength(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20) {
+                length += CONTROL_ESCAPE_LENGTH[c];
+            } else if (c == '"' || c == '\\') {
+                length += 2;
+            } else if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (!Character.isSurrogate(c)) {
+                length += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // Surrogate pairs are 4 bytes in total
+                length += 4;
+                i++;
+            } else {
+                // Jackson writes unpaired surrogates as 6 bytes unicode escapes
+                length += 6;
+            }
+        }
+        return length;
+    }
+
+    private static int escapedLength(ByteBuffer utf8) {
+        int length = 0;
+        for (int i = utf8.position(); i < utf8.limit(); i++) {
+            int b = utf8.get(i) & 0xFF;
+            if (b < 0x20) {
+                length += CONTROL_ESCAPE_LENGTH[b];
+            } else if (b == '"' || b == '\\') {
+                length += 2;
+            } else {
+                length += 1;
+            }
+        }
+        return length;
+    }
+}
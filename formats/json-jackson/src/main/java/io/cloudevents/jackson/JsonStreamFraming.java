@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+/**
+ * Framing of a stream of JSON encoded events, read by {@link JsonEventReader} and written by {@link JsonEventWriter}.
+ */
+public enum JsonStreamFraming {
+
+    /**
+     * A JSON array of events, as defined by the <a href="https://github.com/cloudevents/spec/blob/v1.0/json-format.md#4-json-batch-format">JSON batch format</a>,
+     * with content type {@link JsonFormat#BATCH_CONTENT_TYPE}.
+     */
+    BATCH,
+
+    /**
+     * Events separated by a line feed, as defined by <a href="https://github.com/ndjson/ndjson-spec">NDJSON</a>.
+     * When reading, each event must start on a new line, while any other whitespace between the events is accepted.
+     */
+    NDJSON,
+
+    /**
+     * Events preceded by a record separator ({@code 0x1E}) and followed by a line feed,
+     * as defined by <a href="https://www.rfc-editor.org/rfc/rfc7464">RFC 7464</a>.
+     */
+    JSON_SEQ
+
+}
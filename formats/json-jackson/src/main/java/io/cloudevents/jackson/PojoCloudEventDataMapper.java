@@ -4,9 +4,12 @@ import io.cloudevents.CloudEventData;
 import io.cloudevents.core.data.PojoCloudEventData;
 import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.rw.CloudEventRWException;
+import tools.jackson.core.JsonParser;
 import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
@@ -20,15 +23,29 @@ public class PojoCloudEventDataMapper<T> implements CloudEventDataMapper<PojoClo
 
     private final JsonMapper mapper;
     private final JavaType target;
+    // Reads the data value in the middle of the envelope
+    private final ObjectReader nestedReader;
 
     private PojoCloudEventDataMapper(JsonMapper mapper, JavaType target) {
         this.mapper = mapper;
         this.target = target;
+        this.nestedReader = mapper.readerFor(target).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
     }
 
     @Override
     public PojoCloudEventData<T> map(CloudEventData data) throws CloudEventRWException {
         // Best case, event is already from json
+        if (data instanceof JsonCloudEventData eventData && eventData.getRaw() != null) {
+            // Parse the original JSON straight into the target type
+            RawJsonValue raw = eventData.getRaw();
+            T value;
+            try {
+                value = this.mapper.readValue(raw.bytes, raw.offset, raw.length, this.target);
+            } catch (Exception e) {
+                throw CloudEventRWException.newDataConversion(e, byte[].class.toString(), target.getTypeName());
+            }
+            return PojoCloudEventData.wrap(value, v -> eventData.toBytes());
+        }
         if (data instanceof JsonCloudEventData eventData) {
             JsonNode node = eventData.getNode();
             T value;
@@ -51,6 +68,19 @@ public class PojoCloudEventDataMapper<T> implements CloudEventDataMapper<PojoClo
         return PojoCloudEventData.wrap(value, v -> bytes);
     }
 
+    /**
+     * Read the JSON value the parser is positioned on straight into the target type, without building a {@link JsonNode}.
+     */
+    PojoCloudEventData<T> read(JsonParser p) throws CloudEventRWException {
+        T value;
+        try {
+            value = this.nestedReader.readValue(p);
+        } catch (Exception e) {
+            throw CloudEventRWException.newDataConversion(e, JsonParser.class.toString(), target.getTypeName());
+        }
+        return PojoCloudEventData.wrap(value, mapper::writeValueAsBytes);
+    }
+
     /**
      * Creates a {@link PojoCloudEventDataMapper} mapping {@link CloudEventData} into {@link PojoCloudEventData}&lt;T&gt;
      * using a Jackson {@link JsonMapper}.
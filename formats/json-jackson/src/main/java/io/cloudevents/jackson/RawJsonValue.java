@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.JsonStringEncoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link SerializableString} over a span of UTF-8 encoded JSON, used to write it with
+ * {@link tools.jackson.core.JsonGenerator#writeRawValue(SerializableString)}: byte based generators copy the span
+ * straight to their output buffer, without decoding it.
+ */
+final class RawJsonValue implements SerializableString {
+
+    final byte[] bytes;
+    final int offset;
+    final int length;
+
+    RawJsonValue(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public String getValue() {
+        return new String(this.bytes, this.offset, this.length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public char[] asQuotedChars() {
+        return JsonStringEncoder.getInstance().quoteAsCharArray(getValue());
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        byte[] copy = new byte[this.length];
+        System.arraycopy(this.bytes, this.offset, copy, 0, this.length);
+        return copy;
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        return append(asQuotedUTF8(), buffer, offset);
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        char[] quoted = asQuotedChars();
+        if (offset + quoted.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+        return quoted.length;
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        if (offset + this.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(this.bytes, this.offset, buffer, offset, this.length);
+        return this.length;
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        String value = getValue();
+        if (offset + value.length() > buffer.length) {
+            return -1;
+        }
+        value.getChars(0, value.length(), buffer, offset);
+        return value.length();
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        byte[] quoted = asQuotedUTF8();
+        out.write(quoted);
+        return quoted.length;
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(this.bytes, this.offset, this.length);
+        return this.length;
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) {
+        byte[] quoted = asQuotedUTF8();
+        if (quoted.length > buffer.remaining()) {
+            return -1;
+        }
+        buffer.put(quoted);
+        return quoted.length;
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) {
+        if (this.length > buffer.remaining()) {
+            return -1;
+        }
+        buffer.put(this.bytes, this.offset, this.length);
+        return this.length;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    private static int append(byte[] value, byte[] buffer, int offset) {
+        if (offset + value.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(value, 0, buffer, offset, value.length);
+        return value.length;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.rw.CloudEventRWException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * {@link MismatchedInputException} reporting an invalid event, which doesn't fill its stack trace when created
+ * inside {@link CloudEventRWException#withoutStackTraces(java.util.function.Supplier)}.
+ * <p>
+ * When the event is semantically invalid, rather than malformed, the cause of the exception tells the reason,
+ * so {@link io.cloudevents.core.message.DecodeResult.ErrorKind#of(Throwable)} can classify it.
+ */
+final class StacklessMismatchedInputException extends MismatchedInputException {
+
+    private StacklessMismatchedInputException(JsonParser p, String msg) {
+        super(p, msg, CloudEvent.class);
+    }
+
+    static MismatchedInputException create(JsonParser p, String msg) {
+        return new StacklessMismatchedInputException(p, msg);
+    }
+
+    static MismatchedInputException create(JsonParser p, String msg, Throwable cause) {
+        MismatchedInputException e = new StacklessMismatchedInputException(p, msg);
+        e.initCause(cause);
+        return e;
+    }
+
+    static MismatchedInputException missingAttribute(JsonParser p, String attributeName) {
+        String msg = "Missing mandatory " + attributeName + " attribute";
+        return create(p, msg, new MissingAttributeException(msg));
+    }
+
+    static MismatchedInputException wrongType(JsonParser p, String attributeName, Class<?> type, String msg) {
+        return create(p, msg, "data".equals(attributeName)
+            ? CloudEventRWException.newInvalidDataType(type.getName(), String.class.getName())
+            : CloudEventRWException.newInvalidAttributeType(attributeName, type));
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (CloudEventRWException.isStackTraceDisabled()) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
+    /**
+     * Cause reporting a missing mandatory attribute, like the {@link IllegalStateException} thrown by the event builders.
+     */
+    private static final class MissingAttributeException extends IllegalStateException {
+
+        private MissingAttributeException(String msg) {
+            super(msg);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            if (CloudEventRWException.isStackTraceDisabled()) {
+                return this;
+            }
+            return super.fillInStackTrace();
+        }
+    }
+}
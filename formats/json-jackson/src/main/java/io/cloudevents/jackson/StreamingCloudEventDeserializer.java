@@ -0,0 +1,404 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.BytesCloudEventData;
+import io.cloudevents.core.impl.BaseCloudEventBuilder;
+import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
+import tools.jackson.core.Base64Variants;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.JsonNodeType;
+import tools.jackson.databind.node.NullNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Jackson {@link tools.jackson.databind.deser.std.StdDeserializer} for {@link CloudEvent} which walks the tokens of the
+ * envelope once, writing the attributes straight to the {@link CloudEventWriter} instead of building an intermediate tree.
+ * <p>
+ * The fields preceding {@code specversion} are buffered until the spec version is known. The data is kept aside
+ * until the end of the envelope, because its decoding depends on {@code datacontenttype}.
+ * <p>
+ * When the array the parser reads from is known, JSON objects and arrays in {@code data} are not parsed:
+ * they are wrapped with {@link JsonCloudEventData#wrap(byte[], int, int)}, retaining the original bytes.
+ * Otherwise, when the data mapper is a {@link PojoCloudEventDataMapper} and {@code datacontenttype} precedes the data,
+ * the data is read straight into the target type.
+ *
+ * @see JsonFormatOptions#isStreamingDeserialization()
+ */
+class StreamingCloudEventDeserializer extends StdDeserializer<CloudEvent> {
+
+    // Mandatory attributes of every spec version, besides specversion
+    private static final String[] MANDATORY_ATTRIBUTES = {"id", "source", "type"};
+
+    private final JsonFormatOptions options;
+
+    StreamingCloudEventDeserializer(JsonFormatOptions options) {
+        super(CloudEvent.class);
+        this.options = options;
+    }
+
+    @Override
+    public CloudEvent deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        return deserialize(p, null, 0, this.options);
+    }
+
+    /**
+     * Deserialize the envelope the parser is positioned on, reporting every failure as {@link JacksonException}.
+     *
+     * @param source       the array the parser reads from, or null if unknown
+     * @param sourceOffset the offset where the parser starts reading {@code source}
+     */
+    static CloudEvent deserialize(JsonParser p, byte[] source, int sourceOffset, JsonFormatOptions options) throws JacksonException {
+        try {
+            return read(p, source, sourceOffset, options, CloudEventBuilder::fromSpecVersion, CloudEventDataMapper.identity());
+        } catch (JacksonException e) {
+            // Already carries the parser location, don't wrap it again
+            throw e;
+        } catch (RuntimeException e) {
+            throw StacklessMismatchedInputException.create(p, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read the envelope the parser is positioned on straight into the writer created by {@code writerFactory}.
+     * The parser can be positioned either before or on the {@link JsonToken#START_OBJECT} token.
+     *
+     * @param source       the array the parser reads from, or null if unknown
+     * @param sourceOffset the offset where the parser starts reading {@code source}
+     */
+    static <W extends CloudEventWriter<R>, R> R read(
+        JsonParser p,
+        byte[] source,
+        int sourceOffset,
+        JsonFormatOptions options,
+        CloudEventWriterFactory<W, R> writerFactory,
+        CloudEventDataMapper<? extends CloudEventData> mapper
+    ) throws JacksonException {
+        JsonToken token = p.currentToken();
+        if (token == null) {
+            token = p.nextToken();
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        try {
+            return new EnvelopeReader<>(p, source, sourceOffset, options, writerFactory, mapper).read(token);
+        } catch (IllegalArgumentException e) {
+            throw StacklessMismatchedInputException.create(p, e.getMessage(), e);
+        }
+    }
+
+    private static final class EnvelopeReader<W extends CloudEventWriter<R>, R> {
+
+        private final JsonParser p;
+        private final byte[] source;
+        private final int sourceOffset;
+        private final JsonFormatOptions options;
+        private final CloudEventWriterFactory<W, R> writerFactory;
+        private final CloudEventDataMapper<? extends CloudEventData> mapper;
+
+        // Fields found before specversion, as name/value pairs
+        private List<Object> pending;
+        private SpecVersion specVersion;
+        private CloudEventWriter<R> writer;
+
+        // Bit mask of the MANDATORY_ATTRIBUTES found
+        private int mandatoryAttributes;
+        private String contentType;
+        private String contentEncoding;
+        private Object data;
+        private boolean hasData;
+        private boolean dataMapped;
+        private Object dataBase64;
+
+        EnvelopeReader(JsonParser p, byte[] source, int sourceOffset, JsonFormatOptions options,
+                       CloudEventWriterFactory<W, R> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper) {
+            this.p = p;
+            this.source = source;
+            this.sourceOffset = sourceOffset;
+            this.options = options;
+            this.writerFactory = writerFactory;
+            this.mapper = mapper;
+        }
+
+        R read(JsonToken token) throws JacksonException {
+            while (token == JsonToken.PROPERTY_NAME) {
+                String name = p.currentName();
+                p.nextToken();
+                Object value = "data".equals(name) ? readData() : readValue();
+                if (this.writer != null) {
+                    field(name, value);
+                } else if ("specversion".equals(name)) {
+                    if (!(value instanceof String)) {
+                        throw wrongType(name, value, null);
+                    }
+                    this.specVersion = SpecVersion.parse((String) value);
+                    this.writer = this.writerFactory.create(this.specVersion);
+                    if (this.pending != null) {
+                        for (int i = 0; i < this.pending.size(); i += 2) {
+                            field((String) this.pending.get(i), this.pending.get(i + 1));
+                        }
+                        this.pending = null;
+                    }
+                } else {
+                    if (this.pending == null) {
+                        this.pending = new ArrayList<>();
+                    }
+                    this.pending.add(name);
+                    this.pending.add(value);
+                }
+                token = p.nextToken();
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw StacklessMismatchedInputException.create(p, "Expected a JSON object, found " + token);
+            }
+            if (this.writer == null) {
+                throw missingAttribute("specversion");
+            }
+            for (int i = 0; i < MANDATORY_ATTRIBUTES.length; i++) {
+                if ((this.mandatoryAttributes & (1 << i)) == 0) {
+                    throw missingAttribute(MANDATORY_ATTRIBUTES[i]);
+                }
+            }
+
+            if (this.contentType == null && this.hasData && !this.options.isDataContentTypeDefaultingDisabled()) {
+                this.contentType = "application/json";
+                this.writer.withContextAttribute("datacontenttype", this.contentType);
+            }
+
+            CloudEventData data = toData();
+            if (data != null) {
+                return this.writer.end(this.dataMapped ? data : this.mapper.map(data));
+            }
+            return this.writer.end();
+        }
+
+        /**
+         * Reads the data as {@link String}, if it's a JSON string, as {@link JsonCloudEventData} retaining the original
+         * bytes, if it's an object or an array and the source is known, as the mapped data, if the mapper can read it
+         * from the parser, otherwise as {@link JsonNode}.
+         */
+        private Object readData() throws JacksonException {
+            switch (p.currentToken()) {
+                case VALUE_STRING:
+                    return p.getString();
+                case VALUE_NULL:
+                    return NullNode.getInstance();
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (this.source == null && this.mapper instanceof PojoCloudEventDataMapper
+                        && this.contentType != null && JsonFormat.dataIsJsonContentType(this.contentType)) {
+                        this.dataMapped = true;
+                        return ((PojoCloudEventDataMapper<?>) this.mapper).read(p);
+                    }
+                    if (this.source != null) {
+                        long start = p.currentTokenLocation().getByteOffset();
+                        p.skipChildren();
+                        long end = p.currentLocation().getByteOffset();
+                        if (start >= 0 && end > start) {
+                            return JsonCloudEventData.wrap(this.source, this.sourceOffset + (int) start, (int) (end - start));
+                        }
+                        throw new IllegalStateException("The parser doesn't report the byte offsets");
+                    }
+                    return p.readValueAsTree();
+                default:
+                    return p.readValueAsTree();
+            }
+        }
+
+        /**
+         * Reads the value of the current field: strings, booleans and numbers are returned as they are,
+         * while {@code null}, objects and arrays are returned as {@link JsonNode}.
+         */
+        private Object readValue() throws JacksonException {
+            switch (p.currentToken()) {
+                case VALUE_STRING:
+                    return p.getString();
+                case VALUE_TRUE:
+                    return Boolean.TRUE;
+                case VALUE_FALSE:
+                    return Boolean.FALSE;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    return p.getNumberValue();
+                case VALUE_NULL:
+                    return NullNode.getInstance();
+                default:
+                    return p.readValueAsTree();
+            }
+        }
+
+        private void field(String name, Object value) throws JacksonException {
+            switch (name) {
+                case "specversion":
+                    // Duplicated specversion, the first one wins
+                    return;
+                case "datacontenttype":
+                    this.contentType = stringAttribute(name, value);
+                    if (this.contentType != null) {
+                        this.writer.withContextAttribute(name, this.contentType);
+                    }
+                    return;
+                case "data":
+                    this.data = value;
+                    this.hasData = true;
+                    return;
+            }
+            for (int i = 0; i < MANDATORY_ATTRIBUTES.length; i++) {
+                if (MANDATORY_ATTRIBUTES[i].equals(name)) {
+                    String attribute = stringAttribute(name, value);
+                    if (attribute == null) {
+                        throw missingAttribute(name);
+                    }
+                    this.mandatoryAttributes |= 1 << i;
+                    this.writer.withContextAttribute(name, attribute);
+                    return;
+                }
+            }
+            if (this.specVersion == SpecVersion.V1 && "data_base64".equals(name)) {
+                this.dataBase64 = value;
+            } else if (this.specVersion == SpecVersion.V03 && "datacontentencoding".equals(name)) {
+                this.contentEncoding = stringAttribute(name, value);
+            } else if (this.specVersion.getOptionalAttributes().contains(name)) {
+                String attribute = stringAttribute(name, value);
+                if (attribute != null) {
+                    this.writer.withContextAttribute(name, attribute);
+                }
+            } else {
+                extension(name, value);
+            }
+        }
+
+        private void extension(String name, Object value) {
+            if (this.options.isForceExtensionNameLowerCaseDeserialization()) {
+                name = name.toLowerCase(Locale.ROOT);
+            }
+            if (this.options.isForceIgnoreInvalidExtensionNameDeserialization() && !BaseCloudEventBuilder.isValidExtensionName(name)) {
+                return;
+            }
+            if (value instanceof String) {
+                this.writer.withContextAttribute(name, (String) value);
+            } else if (value instanceof Boolean) {
+                this.writer.withContextAttribute(name, (Boolean) value);
+            } else if (value instanceof Number) {
+                // Only 'Int' values are supported by the specification
+                if (value instanceof Integer) {
+                    this.writer.withContextAttribute(name, (Integer) value);
+                } else {
+                    throw CloudEventRWException.newInvalidAttributeType(name, value);
+                }
+            } else {
+                this.writer.withContextAttribute(name, value.toString());
+            }
+        }
+
+        private CloudEventData toData() throws JacksonException {
+            if (this.dataBase64 != null && this.hasData) {
+                throw StacklessMismatchedInputException.create(p, "CloudEvent cannot have both 'data' and 'data_base64' fields");
+            }
+            if (this.dataBase64 != null) {
+                return BytesCloudEventData.wrap(decodeBase64("data_base64", this.dataBase64));
+            }
+            if (!this.hasData) {
+                return null;
+            }
+            if (this.specVersion == SpecVersion.V03 && "base64".equals(this.contentEncoding)) {
+                return BytesCloudEventData.wrap(decodeBase64("data", this.data));
+            }
+            if (JsonFormat.dataIsJsonContentType(this.contentType)) {
+                if (this.data instanceof CloudEventData) {
+                    return (CloudEventData) this.data;
+                }
+                return JsonCloudEventData.wrap(
+                    this.data instanceof String ? JsonNodeFactory.instance.stringNode((String) this.data) : (JsonNode) this.data
+                );
+            }
+            if (!(this.data instanceof String)) {
+                throw wrongType("data", this.data, "Because content type is not a json, only a string is accepted as data");
+            }
+            return BytesCloudEventData.wrap(((String) this.data).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private byte[] decodeBase64(String name, Object value) throws JacksonException {
+            if (!(value instanceof String)) {
+                throw wrongType(name, value, null);
+            }
+            try {
+                return Base64Variants.getDefaultVariant().decode((String) value);
+            } catch (IllegalArgumentException e) {
+                throw StacklessMismatchedInputException.create(p, "Invalid base64 value for attribute " + name + ": " + e.getMessage());
+            }
+        }
+
+        private String stringAttribute(String name, Object value) throws JacksonException {
+            if (value instanceof NullNode) {
+                return null;
+            }
+            if (!(value instanceof String)) {
+                throw wrongType(name, value, null);
+            }
+            return (String) value;
+        }
+
+        private MismatchedInputException missingAttribute(String name) {
+            return StacklessMismatchedInputException.missingAttribute(p, name);
+        }
+
+        private MismatchedInputException wrongType(String name, Object value, String desc) {
+            return StacklessMismatchedInputException.wrongType(
+                p,
+                name,
+                value.getClass(),
+                "Wrong type " + nodeType(value) + " for attribute " + name + ", expecting " + JsonNodeType.STRING + (desc != null ? ". " + desc : "")
+            );
+        }
+
+        private static JsonNodeType nodeType(Object value) {
+            if (value instanceof JsonNode) {
+                return ((JsonNode) value).getNodeType();
+            }
+            if (value instanceof JsonCloudEventData) {
+                return ((JsonCloudEventData) value).getNode().getNodeType();
+            }
+            if (value instanceof Boolean) {
+                return JsonNodeType.BOOLEAN;
+            }
+            if (value instanceof Number) {
+                return JsonNodeType.NUMBER;
+            }
+            return JsonNodeType.STRING;
+        }
+    }
+}
@@ -22,14 +22,22 @@ import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.mock.MyCloudEventData;
 import io.cloudevents.core.provider.EventFormatProvider;
 import io.cloudevents.core.test.Data;
+import io.cloudevents.rw.CloudEventRWException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.JsonNodeFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class JsonCloudEventDataTest {
     @ParameterizedTest
@@ -59,6 +67,41 @@ public class JsonCloudEventDataTest {
             .isEqualTo(10);
     }
 
+    @Test
+    void testWrapRaw() throws IOException {
+        byte[] raw = "xx{ \"a\" : [1, 2] }yy".getBytes(StandardCharsets.UTF_8);
+        byte[] json = "{ \"a\" : [1, 2] }".getBytes(StandardCharsets.UTF_8);
+        JsonCloudEventData data = JsonCloudEventData.wrap(raw, 2, json.length);
+
+        assertThat(data.toBytes())
+            .isEqualTo(json);
+        assertThat(data.length())
+            .isEqualTo(json.length);
+        assertThat(data.toByteBuffer())
+            .isEqualTo(ByteBuffer.wrap(json));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        data.writeTo(out);
+        assertThat(out.toByteArray())
+            .isEqualTo(json);
+
+        JsonNode expected = JsonNodeFactory.instance.objectNode()
+            .set("a", JsonNodeFactory.instance.arrayNode().add(1).add(2));
+        assertThat(data.getNode())
+            .isEqualTo(expected)
+            .isSameAs(data.getNode());
+        assertThat(data)
+            .isEqualTo(JsonCloudEventData.wrap(expected))
+            .hasSameHashCodeAs(JsonCloudEventData.wrap(expected));
+    }
+
+    @Test
+    void testWrapRawInvalidJson() {
+        JsonCloudEventData data = JsonCloudEventData.wrap("{".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(data::getNode)
+            .isInstanceOf(CloudEventRWException.class);
+    }
+
     public static Stream<Arguments> textContentArguments() {
         return Stream.of(
             Arguments.of("application/json"),
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.provider.DataCodecProvider;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonDataCodecTest {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    @Test
+    void discoveredByProvider() {
+        assertThat(DataCodecProvider.getInstance().resolveCodec(MyPojo.class, null))
+            .isInstanceOf(JsonDataCodec.class);
+        assertThat(DataCodecProvider.getInstance().resolveCodec(MyPojo.class, "application/vnd.example+json"))
+            .isInstanceOf(JsonDataCodec.class);
+        assertThat(DataCodecProvider.getInstance().resolveCodec(MyPojo.class, "application/xml"))
+            .isNull();
+    }
+
+    @Test
+    void builderEncodesPojo() {
+        CloudEvent event = CloudEventBuilder.v1()
+            .withId("1")
+            .withSource(URI.create("/source"))
+            .withType("type")
+            .withData(new MyPojo(1, "b"))
+            .build();
+
+        assertThat(event.getDataContentType())
+            .isEqualTo("application/json");
+        assertThat(event.getData().toBytes())
+            .isEqualTo(MAPPER.writeValueAsBytes(new MyPojo(1, "b")));
+        assertThat(PojoCloudEventDataMapper.from(MAPPER, MyPojo.class).map(event.getData()).getValue())
+            .isEqualTo(new MyPojo(1, "b"));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.jackson;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.test.Data;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonEventStreamTest {
+
+    private final JsonFormat format = new JsonFormat();
+
+    @ParameterizedTest
+    @EnumSource(JsonStreamFraming.class)
+    void roundTrip(JsonStreamFraming framing) {
+        List<CloudEvent> events = Data.allEvents().collect(Collectors.toList());
+
+        byte[] serialized = write(events, framing);
+
+        // Compare with the single event round trip, which normalizes the data
+        List<CloudEvent> expected = events.stream()
+            .map(event -> format.deserialize(format.serialize(event)))
+            .collect(Collectors.toList());
+        assertThat(read(format.newReader(new ByteArrayInputStream(serialized), framing)))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void writeFraming() {
+        List<CloudEvent> events = List.of(Data.V1_MIN, Data.V1_WITH_JSON_DATA);
+
+        String batch = new String(write(events, JsonStreamFraming.BATCH), StandardCharsets.UTF_8);
+        assertThat(batch)
+            .startsWith("[{")
+            .endsWith("}]");
+
+        String ndjson = new String(write(events, JsonStreamFraming.NDJSON), StandardCharsets.UTF_8);
+        assertThat(ndjson.split("\n"))
+            .hasSize(2)
+            .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+
+        String seq = new String(write(events, JsonStreamFraming.JSON_SEQ), StandardCharsets.UTF_8);
+        assertThat(seq.split("\n"))
+            .hasSize(2)
+            .allSatisfy(line -> assertThat(line).startsWith("\u001E{").endsWith("}"));
+    }
+
+    @Test
+    void readFromChannel() {
+        byte[] serialized = write(List.of(Data.V1_MIN, Data.V03_MIN), JsonStreamFraming.NDJSON);
+
+        assertThat(read(format.newReader(Channels.newChannel(new ByteArrayInputStream(serialized)), JsonStreamFraming.NDJSON)))
+            .containsExactly(Data.V1_MIN, Data.V03_MIN);
+    }
+
+    @Test
+    void readEmpty() {
+        assertThat(read(format.newReader(new ByteArrayInputStream("[ ]".getBytes(StandardCharsets.UTF_8)), JsonStreamFraming.BATCH)))
+            .isEmpty();
+        assertThat(read(format.newReader(new ByteArrayInputStream(new byte[0]), JsonStreamFraming.NDJSON)))
+            .isEmpty();
+        assertThat(write(List.of(), JsonStreamFraming.BATCH))
+            .asString(StandardCharsets.UTF_8)
+            .isEqualTo("[]");
+    }
+
+    @Test
+    void readExhausted() {
+        JsonEventReader reader = format.newReader(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), JsonStreamFraming.BATCH);
+
+        assertThatThrownBy(reader::next)
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void readInvalid() {
+        byte[] notAnArray = write(List.of(Data.V1_MIN), JsonStreamFraming.NDJSON);
+        assertThatThrownBy(() -> read(format.newReader(new ByteArrayInputStream(notAnArray), JsonStreamFraming.BATCH)))
+            .isInstanceOf(EventDeserializationException.class);
+
+        byte[] notAnEvent = "{\"specversion\":\"1.0\"}\n".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> read(format.newReader(new ByteArrayInputStream(notAnEvent), JsonStreamFraming.NDJSON)))
+            .isInstanceOf(EventDeserializationException.class);
+
+        byte[] truncated = "[{\"specversion\":\"1.0\"".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> read(format.newReader(new ByteArrayInputStream(truncated), JsonStreamFraming.BATCH)))
+            .isInstanceOf(EventDeserializationException.class);
+    }
+
+    @Test
+    void readNdjsonRequiresLineFeeds() {
+        String event = new String(format.serialize(Data.V1_MIN), StandardCharsets.UTF_8);
+
+        byte[] sameLine = (event + " " + event).getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> read(format.newReader(new ByteArrayInputStream(sameLine), JsonStreamFraming.NDJSON)))
+            .isInstanceOf(EventDeserializationException.class);
+
+        byte[] separateLines = (event + "\r\n\n  " + event + "\n").getBytes(StandardCharsets.UTF_8);
+        assertThat(read(format.newReader(new ByteArrayInputStream(separateLines), JsonStreamFraming.NDJSON)))
+            .containsExactly(Data.V1_MIN, Data.V1_MIN);
+    }
+
+    private byte[] write(List<CloudEvent> events, JsonStreamFraming framing) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonEventWriter writer = format.newWriter(out, framing)) {
+            events.forEach(writer::write);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<CloudEvent> read(JsonEventReader reader) {
+        List<CloudEvent> events = new ArrayList<>();
+        try (reader) {
+            reader.forEachRemaining(events::add);
+        }
+        return events;
+    }
+}
@@ -17,27 +17,46 @@
 
 package io.cloudevents.jackson;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.data.PojoCloudEventData;
 import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.core.message.BulkDecoder;
+import io.cloudevents.core.message.DecodeResult;
+import io.cloudevents.core.message.MessageWriter;
+import io.cloudevents.core.message.impl.AttributesCollector;
+import io.cloudevents.core.mock.MockStructuredMessageReader;
 import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.rw.CloudEventWriter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.exc.MismatchedInputException;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.JsonNodeFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static io.cloudevents.core.format.ContentType.JSON;
@@ -57,6 +76,8 @@ import static io.cloudevents.core.test.Data.V1_WITH_XML_DATA;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 class JsonFormatTest {
     private final JsonMapper mapper = new JsonMapper();
@@ -110,6 +131,37 @@ class JsonFormatTest {
             .isEqualTo(jsonOutput);
     }
 
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void estimateSerializedSize(CloudEvent input) {
+        for (JsonFormat format : new JsonFormat[]{getFormat(), getFormat().withForceNonJsonDataToString(), getFormat().withForceJsonDataToBase64()}) {
+            assertThat(format.estimateSerializedSize(input))
+                .isEqualTo(format.serialize(input).length);
+        }
+    }
+
+    @Test
+    void estimateSerializedSizeWithEscapedCharacters() {
+        CloudEvent input = CloudEventBuilder.v1(V1_WITH_TEXT_DATA)
+            .withSubject("\"quoted\"\t\u0001 \u00e8\u20ac\uD83D\uDE00/")
+            .withData("text/plain", "line\nbreak \"\\ \u00e8".getBytes(StandardCharsets.UTF_8))
+            .build();
+
+        assertThat(getFormat().estimateSerializedSize(input))
+            .isEqualTo(getFormat().serialize(input).length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"lone \uD83D high", "lone \uDE00 low", "reversed \uDE00\uD83D pair", "trailing \uD83D"})
+    void estimateSerializedSizeWithUnpairedSurrogates(String subject) {
+        CloudEvent input = CloudEventBuilder.v1(V1_MIN)
+            .withSubject(subject)
+            .build();
+
+        assertThat(getFormat().estimateSerializedSize(input))
+            .isEqualTo(getFormat().serialize(input).length);
+    }
+
     @ParameterizedTest
     @MethodSource("deserializeTestArguments")
     void deserialize(String inputFile, CloudEvent output) {
@@ -134,6 +186,151 @@ class JsonFormatTest {
             .isEqualTo(output);
     }
 
+    @ParameterizedTest
+    @MethodSource("deserializeTestArguments")
+    void deserializeStreaming(String inputFile, CloudEvent output) {
+        JsonFormat format = getStreamingFormat(JsonFormatOptions.builder());
+        assertThat(format.deserialize(loadFile(inputFile)))
+            .isEqualTo(output);
+        assertThat(format.read(loadFile(inputFile), CloudEventBuilder::fromSpecVersion, CloudEventDataMapper.identity()))
+            .isEqualTo(output);
+    }
+
+    @ParameterizedTest
+    @MethodSource("deserializeTestArgumentsUpperCaseExtensionName")
+    void deserializeStreamingWithUpperCaseExtensionName(String inputFile, CloudEvent output) {
+        CloudEvent deserialized = getStreamingFormat(JsonFormatOptions.builder().forceExtensionNameLowerCaseDeserialization(true))
+            .deserialize(loadFile(inputFile));
+        assertThat(deserialized)
+            .isEqualTo(output);
+    }
+
+    @ParameterizedTest
+    @MethodSource("deserializeTestArgumentsInvalidExtensionName")
+    void deserializeStreamingWithInvalidExtensionName(String inputFile, CloudEvent output) {
+        CloudEvent deserialized = getStreamingFormat(JsonFormatOptions.builder().forceIgnoreInvalidExtensionNameDeserialization(true))
+            .deserialize(loadFile(inputFile));
+        assertThat(deserialized)
+            .isEqualTo(output);
+    }
+
+    @Test
+    void deserializeStreamingWithSpecVersionLast() {
+        byte[] input = ("{\"data\":{\"a\":1},\"id\":\"1\",\"source\":\"/source\",\"type\":\"type\"," +
+            "\"subject\":null,\"ext\":[true],\"specversion\":\"1.0\"}").getBytes(StandardCharsets.UTF_8);
+
+        assertThat(getStreamingFormat(JsonFormatOptions.builder()).deserialize(input))
+            .isEqualTo(getFormat().deserialize(input));
+    }
+
+    @Test
+    void streamingRetainsRawJsonData() {
+        String data = "{ \"a\" : [ 1, 2 ] }";
+        byte[] input = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"source\":\"/source\",\"type\":\"type\",\"data\":" + data + "}")
+            .getBytes(StandardCharsets.UTF_8);
+        JsonFormat format = getStreamingFormat(JsonFormatOptions.builder());
+
+        CloudEvent event = format.deserialize(input);
+        assertThat(event.getData())
+            .isInstanceOf(JsonCloudEventData.class);
+        assertThat(event.getData().toBytes())
+            .isEqualTo(data.getBytes(StandardCharsets.UTF_8));
+        assertThat(new String(format.serialize(event), StandardCharsets.UTF_8))
+            .contains("\"data\":" + data);
+        assertThat(event)
+            .isEqualTo(getFormat().deserialize(input));
+    }
+
+    @Test
+    void deserializeWithPojoMapper() {
+        byte[] input = ("{\"specversion\":\"1.0\",\"id\":\"1\",\"source\":\"/source\",\"type\":\"type\"," +
+            "\"datacontenttype\":\"application/json\",\"data\":{\"a\":10,\"b\":\"Hello World!\"}}").getBytes(StandardCharsets.UTF_8);
+        PojoCloudEventDataMapper<MyPojo> pojoMapper = PojoCloudEventDataMapper.from(new JsonMapper(), MyPojo.class);
+        MyPojo expected = new MyPojo(10, "Hello World!");
+
+        JsonFormat streaming = getStreamingFormat(JsonFormatOptions.builder());
+        for (CloudEvent event : List.of(
+            getFormat().deserialize(input, pojoMapper),
+            getFormat().deserialize(ByteBuffer.wrap(input), pojoMapper),
+            streaming.deserialize(input, pojoMapper),
+            streaming.deserialize(new ByteArrayInputStream(input), pojoMapper)
+        )) {
+            assertThat(event.getData())
+                .isInstanceOf(PojoCloudEventData.class)
+                .extracting(data -> ((PojoCloudEventData<?>) data).getValue())
+                .isEqualTo(expected);
+            assertThat(event.getId())
+                .isEqualTo("1");
+        }
+    }
+
+    @Test
+    void deserializeWithFailingMapper() {
+        byte[] input = getFormat().serialize(V1_WITH_JSON_DATA);
+
+        assertThatThrownBy(() -> getFormat().deserialize(input, data -> {
+            throw CloudEventRWException.newOther(new IllegalStateException());
+        }))
+            .isInstanceOf(EventDeserializationException.class)
+            .hasCauseInstanceOf(CloudEventRWException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("badJsonContent")
+    void verifyStreamingDeserializeError(String inputFile) {
+        byte[] input = loadFile(inputFile);
+
+        assertThatExceptionOfType(EventDeserializationException.class)
+            .isThrownBy(() -> getStreamingFormat(JsonFormatOptions.builder()).deserialize(input));
+    }
+
+    @Test
+    void streamingMissingMandatoryAttribute() {
+        byte[] input = "{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"type\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatCode(() -> getStreamingFormat(JsonFormatOptions.builder()).deserialize(input))
+            .hasCauseInstanceOf(MismatchedInputException.class)
+            .hasMessageContaining("Missing mandatory source attribute");
+    }
+
+    @Test
+    void missingMandatoryAttributeWithoutStackTraces() {
+        byte[] input = "{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"type\"}".getBytes(StandardCharsets.UTF_8);
+
+        for (JsonFormat format : List.of(getFormat(), getStreamingFormat(JsonFormatOptions.builder()))) {
+            DecodeResult result = new BulkDecoder().decode(0, format, input);
+
+            assertThat(result.getErrorKind())
+                .isEqualTo(DecodeResult.ErrorKind.INVALID_EVENT);
+            assertThat(result.getError().getCause())
+                .isInstanceOf(MismatchedInputException.class);
+            assertThat(result.getError().getCause().getStackTrace())
+                .isEmpty();
+            assertThat(result.getError().getCause().getCause().getStackTrace())
+                .isEmpty();
+        }
+    }
+
+    @Test
+    void wrongAttributeTypeErrorKind() {
+        byte[] input = "{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"type\",\"source\":1}".getBytes(StandardCharsets.UTF_8);
+
+        for (JsonFormat format : List.of(getFormat(), getStreamingFormat(JsonFormatOptions.builder()))) {
+            assertThat(new BulkDecoder().decode(0, format, input).getErrorKind())
+                .isEqualTo(DecodeResult.ErrorKind.INVALID_ATTRIBUTE_TYPE);
+        }
+    }
+
+    @Test
+    void malformedErrorKind() {
+        byte[] input = "{\"specversion\":\"1.0\",\"id\":".getBytes(StandardCharsets.UTF_8);
+
+        for (JsonFormat format : List.of(getFormat(), getStreamingFormat(JsonFormatOptions.builder()))) {
+            assertThat(new BulkDecoder().decode(0, format, input).getErrorKind())
+                .isEqualTo(DecodeResult.ErrorKind.MALFORMED);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("roundTripTestArguments")
     void jsonRoundTrip(String inputFile) {
@@ -159,6 +356,165 @@ class JsonFormatTest {
         assertThat(output).isEqualTo(normalizeToJsonValueIfNeeded(input));
     }
 
+    @ParameterizedTest
+    @MethodSource("deserializeTestArguments")
+    void readIntoWriter(String inputFile, CloudEvent output) {
+        CloudEvent read = getFormat().read(loadFile(inputFile), CloudEventBuilder::fromSpecVersion, CloudEventDataMapper.identity());
+        assertThat(read)
+            .isEqualTo(output);
+    }
+
+    @Test
+    void transcodeToStructuredWithDifferentOptions() {
+        MessageWriter<CloudEventWriter<byte[]>, byte[]> writer = new MessageWriter<CloudEventWriter<byte[]>, byte[]>() {
+            @Override
+            public CloudEventWriter<byte[]> create(SpecVersion version) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public byte[] setEvent(EventFormat format, byte[] value) {
+                return value;
+            }
+        };
+        MockStructuredMessageReader structured = new MockStructuredMessageReader(V1_WITH_TEXT_DATA, new JsonFormat());
+        byte[] serialized = structured.read((format, value) -> value);
+
+        // Equal options, the payload is handed over as is
+        assertThat(structured.transcodeToStructured(writer, new JsonFormat()))
+            .isSameAs(serialized);
+
+        // Different options, the payload is serialized again
+        JsonFormat string = new JsonFormat().withForceNonJsonDataToString();
+        byte[] transcoded = structured.transcodeToStructured(writer, string);
+        assertThat(transcoded)
+            .isEqualTo(string.serialize(V1_WITH_TEXT_DATA));
+        assertThat(mapper.readTree(transcoded).has("data"))
+            .isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void streamingRoundTrip(CloudEvent input) {
+        byte[] serialized = getFormat().serialize(input);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        getFormat().serialize(input, out);
+        assertThat(out.toByteArray())
+            .isEqualTo(serialized);
+
+        // Direct buffer, starting after a byte already written
+        ByteBuffer direct = ByteBuffer.allocateDirect(serialized.length + 2);
+        direct.put((byte) 0);
+        assertThat(getFormat().serialize(input, direct))
+            .isEqualTo(serialized.length);
+        assertThat(direct.position())
+            .isEqualTo(serialized.length + 1);
+
+        CloudEvent expected = getFormat().deserialize(serialized);
+        direct.flip().position(1);
+        assertThat(getFormat().deserialize(direct))
+            .isEqualTo(expected);
+        assertThat(direct.remaining())
+            .isEqualTo(0);
+
+        byte[] padded = new byte[serialized.length + 2];
+        System.arraycopy(serialized, 0, padded, 1, serialized.length);
+        assertThat(getFormat().deserialize(ByteBuffer.wrap(padded, 1, serialized.length)))
+            .isEqualTo(expected);
+        assertThat(getFormat().deserialize(new ByteArrayInputStream(serialized)))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void serializeToSmallBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        buffer.position(2);
+        assertThatThrownBy(() -> getFormat().serialize(V1_WITH_JSON_DATA, buffer))
+            .isInstanceOf(EventSerializationException.class);
+        assertThat(buffer.position())
+            .isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    void peekAttributes(CloudEvent input) {
+        byte[] serialized = getFormat().serialize(input);
+        CloudEvent deserialized = getFormat().deserialize(serialized);
+
+        Set<String> names = new HashSet<>(deserialized.getAttributeNames());
+        names.addAll(deserialized.getExtensionNames());
+        names.add("data");
+        names.add("missing");
+        AttributesCollector expected = new AttributesCollector(names).create(deserialized.getSpecVersion());
+        CloudEventUtils.toContextReader(deserialized).readContext(expected);
+
+        assertThat(getFormat().peekAttributes(serialized, names))
+            .isEqualTo(expected.getAttributes());
+    }
+
+    @Test
+    void peekAttributesDefaultsDataContentType() {
+        byte[] serialized = "{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"t\",\"source\":\"/s\",\"data\":{\"a\":[1,{\"type\":\"nested\"}]}}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(getFormat().peekAttributes(serialized, Set.of("type", "datacontenttype")))
+            .containsOnly(entry("type", "t"), entry("datacontenttype", "application/json"));
+        assertThatExceptionOfType(EventDeserializationException.class)
+            .isThrownBy(() -> getFormat().peekAttributes("[]".getBytes(StandardCharsets.UTF_8), Set.of("type")));
+    }
+
+    @Test
+    void peekAttributesLowerCasesOnlyExtensionNames() {
+        byte[] serialized = "{\"specversion\":\"1.0\",\"id\":\"1\",\"type\":\"t\",\"source\":\"/s\",\"MyExt\":\"v\",\"DATA\":\"x\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(getFormat().withForceExtensionNameLowerCaseDeserialization().peekAttributes(serialized, Set.of("type", "myext", "datacontenttype")))
+            .containsOnly(entry("type", "t"), entry("myext", "v"));
+    }
+
+    @Test
+    void project() {
+        byte[] serialized = getFormat().serialize(V1_WITH_JSON_DATA_WITH_EXT);
+
+        CloudEvent projected = getFormat().project(serialized, Set.of("type", "source", "time", "comexampleothervalue"));
+        assertThat(projected.getSpecVersion())
+            .isEqualTo(SpecVersion.V1);
+        assertThat(projected.getType())
+            .isEqualTo(V1_WITH_JSON_DATA_WITH_EXT.getType());
+        assertThat(projected.get(AttributeKey.SOURCE))
+            .isEqualTo(V1_WITH_JSON_DATA_WITH_EXT.getSource());
+        assertThat(projected.getTime())
+            .isEqualTo(V1_WITH_JSON_DATA_WITH_EXT.getTime());
+        assertThat(projected.getExtension("comexampleothervalue"))
+            .isEqualTo(V1_WITH_JSON_DATA_WITH_EXT.getExtension("comexampleothervalue"));
+        assertThat(projected.getId())
+            .isNull();
+        assertThat(projected.getExtension("comexampleextension1"))
+            .isNull();
+        assertThat(projected.getData())
+            .isNull();
+    }
+
+    @Test
+    void projectDefaultsDataContentType() {
+        byte[] input = "{\"specversion\":\"1.0\",\"data\":{\"a\":1},\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+
+        CloudEvent projected = getFormat().project(input, Set.of("datacontenttype"));
+        assertThat(projected.getDataContentType())
+            .isEqualTo("application/json");
+        assertThat(projected.getAttributeNames())
+            .containsExactlyInAnyOrder("specversion", "datacontenttype");
+    }
+
+    @Test
+    void projectInvalid() {
+        assertThatThrownBy(() -> getFormat().project("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8), Set.of("id")))
+            .isInstanceOf(EventDeserializationException.class);
+        assertThatThrownBy(() -> getFormat().project("{\"specversion\":\"1.0\",\"type\":true}".getBytes(StandardCharsets.UTF_8), Set.of("type")))
+            .isInstanceOf(EventDeserializationException.class);
+    }
+
     @Test
     void throwExpectedOnInvalidSpecversion() {
         assertThatCode(() -> getFormat().deserialize(("{\"specversion\":\"9000.1\"}").getBytes(StandardCharsets.UTF_8)))
@@ -323,6 +679,10 @@ class JsonFormatTest {
         );
     }
 
+    private JsonFormat getStreamingFormat(JsonFormatOptions.JsonFormatOptionsBuilder options) {
+        return new JsonFormat(options.streamingDeserialization(true).build());
+    }
+
     private JsonFormat getFormat() {
         return (JsonFormat) EventFormatProvider.getInstance().resolveFormat(JSON);
     }
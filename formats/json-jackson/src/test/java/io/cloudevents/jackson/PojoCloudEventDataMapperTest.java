@@ -58,6 +58,26 @@ class PojoCloudEventDataMapperTest {
             .isEqualTo(myPojo);
     }
 
+    @ParameterizedTest
+    @MethodSource("getPojoMappers")
+    void testWithRawJson(PojoCloudEventDataMapper<MyPojo> mapper) {
+        byte[] raw = ("[" + myPojoSerialized + "]").getBytes(StandardCharsets.UTF_8);
+        CloudEvent event = CloudEventBuilder.v1(Data.V1_MIN)
+            .withData("application/json", JsonCloudEventData.wrap(raw, 1, raw.length - 2))
+            .build();
+
+        PojoCloudEventData<MyPojo> mappedData = CloudEventUtils.mapData(
+            event,
+            mapper
+        );
+        assertThat(mappedData)
+            .isNotNull()
+            .extracting(PojoCloudEventData::getValue)
+            .isEqualTo(myPojo);
+        assertThat(mappedData.toBytes())
+            .isEqualTo(myPojoSerialized.getBytes(StandardCharsets.UTF_8));
+    }
+
     private static Stream<Arguments> getPojoMappers() {
         final JsonMapper objectMapper = new JsonMapper();
         return Stream.of(
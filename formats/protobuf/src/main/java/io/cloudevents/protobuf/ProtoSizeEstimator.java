@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.cloudevents.protobuf;
+
+import com.google.protobuf.CodedOutputStream;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.core.v1.CloudEventV1;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+import static io.cloudevents.protobuf.ProtobufFormat.PROTO_DATA_CONTENT_TYPE;
+import static io.cloudevents.v1.proto.CloudEvent.*;
+import static io.cloudevents.v1.proto.CloudEvent.CloudEventAttributeValue.*;
+
+/**
+ * Computes the size of the protobuf message written by {@link ProtoSerializer}, walking the event attributes
+ * with the {@link CodedOutputStream} size functions, without building the message.
+ */
+class ProtoSizeEstimator implements CloudEventContextWriter {
+
+    private int size;
+    private String dataContentType;
+
+    private ProtoSizeEstimator() {
+    }
+
+    static int estimate(CloudEvent event) {
+        ProtoSizeEstimator estimator = new ProtoSizeEstimator();
+        estimator.withContextAttribute(CloudEventV1.SPECVERSION, event.getSpecVersion().toString());
+        CloudEventUtils.toContextReader(event).readContext(estimator);
+
+        CloudEventData data = event.getData();
+        if (data instanceof ProtoCloudEventData protoData) {
+            estimator.size += CodedOutputStream.computeMessageSize(PROTO_DATA_FIELD_NUMBER, protoData.getAny());
+        } else if (data != null) {
+            int fieldNumber;
+            if (Objects.equals(estimator.dataContentType, PROTO_DATA_CONTENT_TYPE)) {
+                // The data is an Any, written as is
+                fieldNumber = PROTO_DATA_FIELD_NUMBER;
+            } else if (ProtoSupport.isTextContent(estimator.dataContentType)) {
+                fieldNumber = TEXT_DATA_FIELD_NUMBER;
+            } else {
+                fieldNumber = BINARY_DATA_FIELD_NUMBER;
+            }
+            estimator.size += lengthDelimitedSize(fieldNumber, data.length());
+        }
+        return estimator.size;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+        int requiredField = requiredFieldNumber(name);
+        if (requiredField != 0) {
+            // Empty strings are the default value, hence they're not written
+            if (!value.isEmpty()) {
+                size += CodedOutputStream.computeStringSize(requiredField, value);
+            }
+        } else {
+            if (CloudEventV1.DATACONTENTTYPE.equals(name)) {
+                dataContentType = value;
+            }
+            attribute(name, CodedOutputStream.computeStringSize(CE_STRING_FIELD_NUMBER, value));
+        }
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, URI value) throws CloudEventRWException {
+        if (requiredFieldNumber(name) != 0) {
+            return withContextAttribute(name, value.toString());
+        }
+        attribute(name, CodedOutputStream.computeStringSize(value.isAbsolute() ? CE_URI_FIELD_NUMBER : CE_URI_REF_FIELD_NUMBER, value.toString()));
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, OffsetDateTime value) throws CloudEventRWException {
+        Instant instant = value.toInstant();
+        int timestampSize = 0;
+        if (instant.getEpochSecond() != 0) {
+            timestampSize += CodedOutputStream.computeInt64Size(1, instant.getEpochSecond());
+        }
+        if (instant.getNano() != 0) {
+            timestampSize += CodedOutputStream.computeInt32Size(2, instant.getNano());
+        }
+        attribute(name, lengthDelimitedSize(CE_TIMESTAMP_FIELD_NUMBER, timestampSize));
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Number value) throws CloudEventRWException {
+        if (value instanceof Integer integer) {
+            return withContextAttribute(name, integer);
+        }
+        return withContextAttribute(name, value.toString());
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Integer value) throws CloudEventRWException {
+        attribute(name, CodedOutputStream.computeInt32Size(CE_INTEGER_FIELD_NUMBER, value));
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
+        attribute(name, CodedOutputStream.computeBoolSize(CE_BOOLEAN_FIELD_NUMBER, value));
+        return this;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        attribute(name, CodedOutputStream.computeByteArraySize(CE_BYTES_FIELD_NUMBER, value));
+        return this;
+    }
+
+    private void attribute(String name, int valueSize) {
+        // Map entries are written as messages with the key in field 1 and the value in field 2
+        int entrySize = CodedOutputStream.computeStringSize(1, name) + lengthDelimitedSize(2, valueSize);
+        size += lengthDelimitedSize(ATTRIBUTES_FIELD_NUMBER, entrySize);
+    }
+
+    private static int lengthDelimitedSize(int fieldNumber, int length) {
+        return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+    }
+
+    private static int requiredFieldNumber(String name) {
+        switch (name) {
+            case CloudEventV1.ID:
+                return ID_FIELD_NUMBER;
+            case CloudEventV1.SOURCE:
+                return SOURCE_FIELD_NUMBER;
+            case CloudEventV1.TYPE:
+                return TYPE_FIELD_NUMBER;
+            case CloudEventV1.SPECVERSION:
+                return SPEC_VERSION_FIELD_NUMBER;
+            default:
+                return 0;
+        }
+    }
+}
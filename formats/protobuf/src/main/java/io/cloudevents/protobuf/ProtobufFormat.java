@@ -16,6 +16,7 @@
  */
 package io.cloudevents.protobuf;
 
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
@@ -25,6 +26,14 @@ import io.cloudevents.core.format.EventDeserializationException;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.format.EventSerializationException;
 import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
 /**
  * An implemmentation of {@link EventFormat} for <a href="github.com/cloudevents/spec/blob/v1.0.1/protobuf-format">the protobuf format</a>.
@@ -57,17 +66,92 @@ public class ProtobufFormat implements EventFormat {
         }
     }
 
+    @Override
+    public void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+        try {
+            ProtoSerializer.toProto(event).writeTo(out);
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    @Override
+    public int serialize(CloudEvent event, ByteBuffer buffer) throws EventSerializationException {
+        try {
+            final io.cloudevents.v1.proto.CloudEvent asProto = ProtoSerializer.toProto(event);
+            final int size = asProto.getSerializedSize();
+            if (size > buffer.remaining()) {
+                throw new EventSerializationException(new BufferOverflowException());
+            }
+            final CodedOutputStream out = CodedOutputStream.newInstance(buffer);
+            asProto.writeTo(out);
+            // Flushing updates the buffer position
+            out.flush();
+            return size;
+        } catch (IOException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Compute the size of the serialized event walking its attributes, without building the protobuf message.
+     * The result is exact, as long as the data with content type {@link #PROTO_DATA_CONTENT_TYPE} is a canonically encoded {@link com.google.protobuf.Any}.
+     */
+    @Override
+    public int estimateSerializedSize(CloudEvent event) throws EventSerializationException {
+        try {
+            return ProtoSizeEstimator.estimate(event);
+        } catch (RuntimeException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper)
 	    throws EventDeserializationException {
         try {
             final io.cloudevents.v1.proto.CloudEvent ceProto = io.cloudevents.v1.proto.CloudEvent.parseFrom(bytes);
-            return new ProtoDeserializer(ceProto).read(CloudEventBuilder::fromSpecVersion);
+            return new ProtoDeserializer(ceProto).read(CloudEventBuilder::fromSpecVersion, mapper);
         } catch (InvalidProtocolBufferException e) {
             throw new EventDeserializationException(e);
         }
     }
 
+    @Override
+    public <W extends CloudEventWriter<R>, R> R read(byte[] bytes, CloudEventWriterFactory<W, R> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException {
+        final io.cloudevents.v1.proto.CloudEvent ceProto;
+        try {
+            ceProto = io.cloudevents.v1.proto.CloudEvent.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new EventDeserializationException(e);
+        }
+        return new ProtoDeserializer(ceProto).read(writerFactory, mapper);
+    }
+
+    @Override
+    public CloudEvent deserialize(ByteBuffer buffer, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException {
+        try {
+            final io.cloudevents.v1.proto.CloudEvent ceProto = io.cloudevents.v1.proto.CloudEvent.parseFrom(buffer);
+            buffer.position(buffer.limit());
+            return new ProtoDeserializer(ceProto).read(CloudEventBuilder::fromSpecVersion, mapper);
+        } catch (InvalidProtocolBufferException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
+    @Override
+    public CloudEvent deserialize(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException {
+        try {
+            final io.cloudevents.v1.proto.CloudEvent ceProto = io.cloudevents.v1.proto.CloudEvent.parseFrom(in);
+            return new ProtoDeserializer(ceProto).read(CloudEventBuilder::fromSpecVersion, mapper);
+        } catch (IOException e) {
+            throw new EventDeserializationException(e);
+        }
+    }
+
     @Override
     public String serializedContentType() {
         return PROTO_CONTENT_TYPE;
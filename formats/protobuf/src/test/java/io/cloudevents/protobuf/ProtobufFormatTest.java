@@ -20,19 +20,25 @@ import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
 import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.format.EventSerializationException;
+import io.cloudevents.core.mock.MyCloudEventData;
 import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.rw.CloudEventDataMapper;
 import io.cloudevents.v1.proto.CloudEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.UUID;
@@ -41,6 +47,7 @@ import java.util.stream.Stream;
 import static com.google.common.truth.extensions.proto.ProtoTruth.assertThat;
 import static io.cloudevents.core.test.Data.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ProtobufFormatTest {
 
@@ -112,6 +119,81 @@ class ProtobufFormatTest {
         assertThat(outputTime).isEqualTo(inputTime);
     }
 
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    public void estimateSerializedSize(io.cloudevents.CloudEvent input) {
+        ProtobufFormat format = new ProtobufFormat();
+
+        assertThat(format.estimateSerializedSize(input))
+            .isEqualTo(format.serialize(input).length);
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    public void readIntoWriter(io.cloudevents.CloudEvent input) {
+        byte[] serialized = format.serialize(input);
+
+        assertThat(format.read(serialized, CloudEventBuilder::fromSpecVersion, CloudEventDataMapper.identity()))
+            .isEqualTo(format.deserialize(serialized));
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    public void streamingRoundTrip(io.cloudevents.CloudEvent input) {
+        byte[] serialized = format.serialize(input);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        format.serialize(input, out);
+        assertThat(out.toByteArray())
+            .isEqualTo(serialized);
+
+        // Direct buffer, starting after a byte already written
+        ByteBuffer direct = ByteBuffer.allocateDirect(serialized.length + 2);
+        direct.put((byte) 0);
+        assertThat(format.serialize(input, direct))
+            .isEqualTo(serialized.length);
+        assertThat(direct.position())
+            .isEqualTo(serialized.length + 1);
+
+        io.cloudevents.CloudEvent expected = format.deserialize(serialized);
+        direct.flip().position(1);
+        assertThat(format.deserialize(direct))
+            .isEqualTo(expected);
+        assertThat(direct.remaining())
+            .isEqualTo(0);
+
+        byte[] padded = new byte[serialized.length + 2];
+        System.arraycopy(serialized, 0, padded, 1, serialized.length);
+        assertThat(format.deserialize(ByteBuffer.wrap(padded, 1, serialized.length)))
+            .isEqualTo(expected);
+        assertThat(format.deserialize(new ByteArrayInputStream(serialized)))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    public void deserializeWithMapper() {
+        byte[] serialized = format.serialize(V1_WITH_TEXT_DATA);
+        CloudEventDataMapper<MyCloudEventData> mapper = data -> new MyCloudEventData(data.toBytes().length);
+        MyCloudEventData expected = new MyCloudEventData(DATA_TEXT_SERIALIZED.length);
+
+        assertThat(format.deserialize(serialized, mapper).getData())
+            .isEqualTo(expected);
+        assertThat(format.deserialize(ByteBuffer.wrap(serialized), mapper).getData())
+            .isEqualTo(expected);
+        assertThat(format.deserialize(new ByteArrayInputStream(serialized), mapper).getData())
+            .isEqualTo(expected);
+    }
+
+    @Test
+    public void serializeToSmallBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        buffer.position(2);
+        assertThatThrownBy(() -> format.serialize(V1_WITH_JSON_DATA, buffer))
+            .isInstanceOf(EventSerializationException.class);
+        assertThat(buffer.position())
+            .isEqualTo(2);
+    }
+
     @ParameterizedTest
     @MethodSource("serializeTestArgumentsDefault")
     public void serialize(io.cloudevents.CloudEvent input, String jsonFile) throws IOException {
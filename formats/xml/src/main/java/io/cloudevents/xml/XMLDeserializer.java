@@ -120,7 +120,7 @@ class XMLDeserializer implements CloudEventReader {
         // And handle any data
 
         if (dataElement != null) {
-            return writer.end(processData(dataElement));
+            return writer.end(mapper.map(processData(dataElement)));
         } else {
             return writer.end();
         }
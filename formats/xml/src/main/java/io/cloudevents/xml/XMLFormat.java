@@ -23,9 +23,13 @@ import io.cloudevents.core.format.EventDeserializationException;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.format.EventSerializationException;
 import io.cloudevents.rw.CloudEventDataMapper;
+import io.cloudevents.rw.CloudEventWriter;
+import io.cloudevents.rw.CloudEventWriterFactory;
 import org.w3c.dom.Document;
 
 import javax.xml.transform.TransformerException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * An implemmentation of {@link EventFormat} for the XML Format.
@@ -54,12 +58,58 @@ public class XMLFormat implements EventFormat {
         }
     }
 
+    @Override
+    public void serialize(CloudEvent event, OutputStream out) throws EventSerializationException {
+
+        // Convert the CE into an XML Document
+        Document d = XMLSerializer.toDocument(event);
+
+        try {
+            // Write out the XML Document, straight to the stream
+            XMLUtils.writeDocument(d, out);
+        } catch (TransformerException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
+    /**
+     * Compute the size of the serialized event walking its attributes, without building the XML document.
+     * The result is exact for events with textual or binary data, and within a few bytes for events with XML data,
+     * which is re-written by the serializer.
+     */
+    @Override
+    public int estimateSerializedSize(CloudEvent event) throws EventSerializationException {
+        try {
+            return XMLSizeEstimator.estimate(event);
+        } catch (RuntimeException e) {
+            throw new EventSerializationException(e);
+        }
+    }
+
     @Override
     public CloudEvent deserialize(byte[] bytes, CloudEventDataMapper<? extends CloudEventData> mapper)
         throws EventDeserializationException {
 
         final Document doc = XMLUtils.parseIntoDocument(bytes);
-        return new XMLDeserializer(doc).read(CloudEventBuilder::fromSpecVersion);
+        return new XMLDeserializer(doc).read(CloudEventBuilder::fromSpecVersion, mapper);
+
+    }
+
+    @Override
+    public <W extends CloudEventWriter<R>, R> R read(byte[] bytes, CloudEventWriterFactory<W, R> writerFactory, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException {
+
+        final Document doc = XMLUtils.parseIntoDocument(bytes);
+        return new XMLDeserializer(doc).read(writerFactory, mapper);
+
+    }
+
+    @Override
+    public CloudEvent deserialize(InputStream in, CloudEventDataMapper<? extends CloudEventData> mapper)
+        throws EventDeserializationException {
+
+        final Document doc = XMLUtils.parseIntoDocument(in);
+        return new XMLDeserializer(doc).read(CloudEventBuilder::fromSpecVersion, mapper);
 
     }
 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.xml;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
+import io.cloudevents.rw.CloudEventContextWriter;
+import io.cloudevents.rw.CloudEventRWException;
+import io.cloudevents.types.Time;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+
+/**
+ * Computes the size of the XML document written by {@link XMLFormat}, walking the event attributes
+ * without building the DOM {@link org.w3c.dom.Document}.
+ * <p>
+ * The result is exact for textual and binary data. XML data is counted as its bytes without the XML declaration,
+ * while the serializer re-writes it, normalizing quotes and namespace declarations: the difference is usually a few bytes.
+ */
+class XMLSizeEstimator implements CloudEventContextWriter {
+
+    private static final int PROLOG_SIZE = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>".length();
+    private static final int ROOT_START_SIZE = ("<" + XMLConstants.XML_ROOT_ELEMENT
+        + " xmlns:xs=\"" + XMLConstants.XS_NAMESPACE + "\""
+        + " xmlns:xsi=\"" + XMLConstants.XSI_NAMESPACE + "\""
+        + " specversion=\"\""
+        + " xmlns=\"" + XMLConstants.CE_NAMESPACE + "\">").length();
+    private static final int ROOT_END_SIZE = ("</" + XMLConstants.XML_ROOT_ELEMENT + ">").length();
+
+    private final SpecVersion specVersion;
+    private int size;
+    private String dataContentType;
+
+    private XMLSizeEstimator(SpecVersion specVersion) {
+        this.specVersion = specVersion;
+        this.size = PROLOG_SIZE + ROOT_START_SIZE + specVersion.toString().length() + ROOT_END_SIZE;
+    }
+
+    static int estimate(CloudEvent event) {
+        XMLSizeEstimator estimator = new XMLSizeEstimator(event.getSpecVersion());
+        CloudEventUtils.toContextReader(event).readContext(estimator);
+
+        CloudEventData data = event.getData();
+        if (data != null) {
+            String dataElement = XMLConstants.XML_DATA_ELEMENT;
+            if (data instanceof XMLCloudEventData || XMLUtils.isXmlContent(estimator.dataContentType)) {
+                int dataSize = data.length() - xmlDeclarationSize(data.toByteBuffer());
+                estimator.size += element(dataElement, XMLConstants.CE_DATA_ATTR_XML, dataSize);
+            } else if (XMLUtils.isTextContent(estimator.dataContentType)) {
+                estimator.size += element(dataElement, XMLConstants.CE_DATA_ATTR_TEXT, escapedLength(data.toByteBuffer()));
+            } else {
+                estimator.size += element(dataElement, XMLConstants.CE_DATA_ATTR_BINARY, 4 * ((data.length() + 2) / 3));
+            }
+        }
+        return estimator.size;
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
+        if ("datacontenttype".equals(name)) {
+            dataContentType = value;
+        }
+        return attribute(name, XMLConstants.CE_ATTR_STRING, value);
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, URI value) throws CloudEventRWException {
+        return attribute(name, XMLConstants.CE_ATTR_URI, value.toString());
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, OffsetDateTime value) throws CloudEventRWException {
+        return attribute(name, XMLConstants.CE_ATTR_TIMESTAMP, Time.writeTime(value));
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Number value) throws CloudEventRWException {
+        if (value instanceof Integer integer) {
+            return withContextAttribute(name, integer);
+        }
+        return withContextAttribute(name, String.valueOf(value));
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Integer value) throws CloudEventRWException {
+        return attribute(name, XMLConstants.CE_ATTR_INTEGER, value.toString());
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, Boolean value) throws CloudEventRWException {
+        return attribute(name, XMLConstants.CE_ATTR_BOOLEAN, value.toString());
+    }
+
+    @Override
+    public CloudEventContextWriter withContextAttribute(String name, byte[] value) throws CloudEventRWException {
+        size += element(name, specVersion.getAllAttributes().contains(name) ? null : XMLConstants.CE_ATTR_BINARY, 4 * ((value.length + 2) / 3));
+        return this;
+    }
+
+    private CloudEventContextWriter attribute(String name, String xsiType, String value) {
+        // Spec attributes are written without type information
+        size += element(name, specVersion.getAllAttributes().contains(name) ? null : xsiType, escapedLength(value));
+        return this;
+    }
+
+    private static int element(String name, String xsiType, int contentSize) {
+        int size = 1 + name.length(); // <name
+        if (xsiType != null) {
+            size += 1 + XMLConstants.XSI_TYPE.length() + 2 + xsiType.length() + 1; // xsi:type="type"
+        }
+        if (contentSize == 0) {
+            return size + 2; // />
+        }
+        return size + 1 + contentSize + 2 + name.length() + 1; // >content</name>
+    }
+
+    private static int escapedLength(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            length += switch (c) {
+                case '&', '\r' -> 5;
+                case '<', '>' -> 4;
+                default -> c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? 2 : 3;
+            };
+        }
+        return length;
+    }
+
+    private static int escapedLength(ByteBuffer utf8) {
+        int length = 0;
+        for (int i = utf8.position(); i < utf8.limit(); i++) {
+            length += switch (utf8.get(i)) {
+                case '&', '\r' -> 5;
+                case '<', '>' -> 4;
+                default -> 1;
+            };
+        }
+        return length;
+    }
+
+    private static int xmlDeclarationSize(ByteBuffer xml) {
+        // Skip the XML declaration and the whitespaces before the root element
+        int i = xml.position();
+        if (startsWith(xml, i, "<?xml")) {
+            while (i < xml.limit() - 1 && !(xml.get(i) == '?' && xml.get(i + 1) == '>')) {
+                i++;
+            }
+            i += 2;
+        }
+        while (i < xml.limit() && Character.isWhitespace(xml.get(i))) {
+            i++;
+        }
+        return Math.min(i, xml.limit()) - xml.position();
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, int index, String prefix) {
+        if (buffer.limit() - index < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer.get(index + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
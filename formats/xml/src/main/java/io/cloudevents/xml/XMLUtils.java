@@ -35,7 +35,10 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -57,13 +60,29 @@ class XMLUtils {
      * @throws CloudEventRWException
      */
     static Document parseIntoDocument(byte[] data) throws CloudEventRWException {
+        return parseIntoDocument(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Parse an {@link InputStream} into an XML {@link Document}, without closing it.
+     *
+     * @param in
+     * @return Document
+     * @throws CloudEventRWException
+     */
+    static Document parseIntoDocument(InputStream in) throws CloudEventRWException {
 
         DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
         dbf.setNamespaceAware(true);
 
         try {
             DocumentBuilder builder = dbf.newDocumentBuilder();
-            return builder.parse(new ByteArrayInputStream(data));
+            // The parser closes the stream when it's done, but the stream is owned by the caller
+            return builder.parse(new FilterInputStream(in) {
+                @Override
+                public void close() {
+                }
+            });
         } catch (ParserConfigurationException | SAXException | IOException e) {
             throw CloudEventRWException.newOther(e);
         }
@@ -78,6 +97,19 @@ class XMLUtils {
      * @throws TransformerException
      */
     static byte[] documentToBytes(Document doc) throws TransformerException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        writeDocument(doc, os);
+        return os.toByteArray();
+    }
+
+    /**
+     * Write an {@link Document} to an {@link OutputStream}, without closing it.
+     *
+     * @param doc {@link Document}
+     * @param os  the stream to write to
+     * @throws TransformerException
+     */
+    static void writeDocument(Document doc, OutputStream os) throws TransformerException {
 
         // Build our transformer
         TransformerFactory tFactory = TransformerFactory.newInstance();
@@ -85,14 +117,10 @@ class XMLUtils {
 
         // Assign the source and result
         Source src = new DOMSource(doc);
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
         StreamResult result = new StreamResult(os);
 
         // Write out the document
         t.transform(src, result);
-
-        // And we're done
-        return os.toByteArray();
     }
 
     /**
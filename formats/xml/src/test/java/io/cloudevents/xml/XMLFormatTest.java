@@ -19,6 +19,8 @@ package io.cloudevents.xml;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.mock.MyCloudEventData;
+import io.cloudevents.rw.CloudEventDataMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -31,6 +33,7 @@ import org.xmlunit.diff.*;
 import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -38,6 +41,7 @@ import java.util.stream.Stream;
 
 import static io.cloudevents.core.test.Data.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 public class XMLFormatTest {
 
@@ -67,6 +71,63 @@ public class XMLFormatTest {
         assertThat(ce.getExtension(name)).isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    public void estimateSerializedSize(CloudEvent input) {
+        int serializedSize = format.serialize(input).length;
+
+        if (input.getDataContentType() != null && input.getDataContentType().endsWith("xml")) {
+            // XML data is re-written by the serializer
+            assertThat(format.estimateSerializedSize(input))
+                .isCloseTo(serializedSize, within(16));
+        } else {
+            assertThat(format.estimateSerializedSize(input))
+                .isEqualTo(serializedSize);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEvents")
+    public void streamingRoundTrip(CloudEvent input) {
+        byte[] serialized = format.serialize(input);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        format.serialize(input, out);
+        assertThat(out.toByteArray())
+            .isEqualTo(serialized);
+
+        // Direct buffer, starting after a byte already written
+        ByteBuffer direct = ByteBuffer.allocateDirect(serialized.length + 2);
+        direct.put((byte) 0);
+        assertThat(format.serialize(input, direct))
+            .isEqualTo(serialized.length);
+        assertThat(direct.position())
+            .isEqualTo(serialized.length + 1);
+
+        // XML data is compared through its serialized form
+        direct.flip().position(1);
+        assertThat(format.serialize(format.deserialize(direct)))
+            .isEqualTo(serialized);
+        assertThat(direct.remaining())
+            .isZero();
+        assertThat(format.serialize(format.deserialize(new ByteArrayInputStream(serialized))))
+            .isEqualTo(serialized);
+    }
+
+    @Test
+    public void deserializeWithMapper() {
+        byte[] serialized = format.serialize(V1_WITH_TEXT_DATA);
+        CloudEventDataMapper<MyCloudEventData> mapper = data -> new MyCloudEventData(data.toBytes().length);
+        MyCloudEventData expected = new MyCloudEventData(DATA_TEXT_SERIALIZED.length);
+
+        assertThat(format.deserialize(serialized, mapper).getData())
+            .isEqualTo(expected);
+        assertThat(format.deserialize(ByteBuffer.wrap(serialized), mapper).getData())
+            .isEqualTo(expected);
+        assertThat(format.deserialize(new ByteArrayInputStream(serialized), mapper).getData())
+            .isEqualTo(expected);
+    }
+
     @ParameterizedTest
     @MethodSource("serializeTestArgumentsDefault")
     /**
@@ -16,6 +16,7 @@
 
 package io.cloudevents.http;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.message.MessageWriter;
 import io.cloudevents.core.message.impl.GenericStructuredMessageReader;
@@ -23,7 +24,9 @@ import io.cloudevents.core.message.impl.MessageUtils;
 import io.cloudevents.http.impl.CloudEventsHeaders;
 import io.cloudevents.http.impl.HttpMessageReader;
 import io.cloudevents.http.impl.HttpMessageWriter;
+import io.cloudevents.http.impl.HttpOutputStreamMessageWriter;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -147,4 +150,41 @@ public final class HttpMessageFactory {
         return new HttpMessageWriter(putHeader, sendBody);
     }
 
+    /**
+     * Creates a new {@link MessageWriter} that can write both structured and binary messages to a HTTP response (server) or request (client),
+     * writing the body straight to {@code body}. Structured events are serialized with {@link io.cloudevents.core.format.EventFormat#serialize(CloudEvent, OutputStream)}
+     * and binary data is written with {@link io.cloudevents.CloudEventData#writeTo(OutputStream)}, without copying them to an intermediate byte array.
+     * <p>
+     * The stream is not closed, and nothing is written to it for a binary event without data.
+     *
+     * <pre>
+     * Example of usage with <a href="https://docs.oracle.com/javaee/6/api/javax/servlet/http/HttpServletResponse.html">HttpServletResponse</a>:
+     * {@code
+     * try (ServletOutputStream outputStream = httpServletResponse.getOutputStream()) {
+     *     HttpMessageFactory.createWriter(httpServletResponse::addHeader, outputStream)
+     *         .writeStructured(event, jsonFormat);
+     * }
+     * }
+     * </pre>
+     * @param putHeader a function that puts header into HTTP request or response.
+     * @param body      the stream to write the body to.
+     * @return a message writer
+     */
+    public static HttpMessageWriter createWriter(BiConsumer<String, String> putHeader, OutputStream body) {
+        return new HttpOutputStreamMessageWriter(putHeader, body);
+    }
+
+    /**
+     * Estimate the size of the HTTP headers written for {@code event} in binary mode, without writing them.
+     * Together with the size of the data, this can be used to keep requests under a body or header size limit.
+     * <p>
+     * Every header is counted as an HTTP/1.1 header line {@code name: value\r\n}.
+     *
+     * @param event the event to estimate
+     * @return the estimated size of the headers, in bytes
+     */
+    public static int estimateBinaryHeadersSize(CloudEvent event) {
+        return MessageUtils.estimateBinaryHeadersSize(event, CloudEventsHeaders::toHeaderName, 4);
+    }
+
 }
@@ -39,4 +39,13 @@ public final class CloudEventsHeaders {
 
     public static final String SPEC_VERSION = ATTRIBUTES_TO_HEADERS.get(CloudEventV1.SPECVERSION);
 
+    /**
+     * @param name the attribute or extension name
+     * @return the header name used to write {@code name} in binary mode
+     */
+    public static String toHeaderName(String name) {
+        String headerName = ATTRIBUTES_TO_HEADERS.get(name);
+        return headerName != null ? headerName : CE_PREFIX + name;
+    }
+
 }
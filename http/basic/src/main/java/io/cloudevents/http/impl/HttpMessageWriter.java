@@ -60,11 +60,7 @@ public class HttpMessageWriter implements CloudEventWriter<Void>, MessageWriter<
 
     @Override
     public CloudEventContextWriter withContextAttribute(String name, String value) throws CloudEventRWException {
-        String headerName = CloudEventsHeaders.ATTRIBUTES_TO_HEADERS.get(name);
-        if (headerName == null) {
-            headerName = "ce-" + name;
-        }
-        putHeader.accept(headerName, value);
+        putHeader.accept(CloudEventsHeaders.toHeaderName(name), value);
         return this;
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-Present The CloudEvents Authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.cloudevents.http.impl;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.rw.CloudEventRWException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.BiConsumer;
+
+import static io.cloudevents.http.impl.CloudEventsHeaders.CONTENT_TYPE;
+
+/**
+ * {@link HttpMessageWriter} writing the body straight to an {@link OutputStream}, without materializing it as a byte array.
+ * The stream is not closed.
+ */
+public class HttpOutputStreamMessageWriter extends HttpMessageWriter {
+
+    private final BiConsumer<String, String> putHeader;
+    private final OutputStream body;
+
+    public HttpOutputStreamMessageWriter(BiConsumer<String, String> putHeader, OutputStream body) {
+        super(putHeader, bytes -> write(body, bytes));
+        this.putHeader = putHeader;
+        this.body = body;
+    }
+
+    @Override
+    public Void writeStructured(CloudEvent event, String format) {
+        EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(format);
+        if (eventFormat == null) {
+            throw new IllegalArgumentException("Format " + format + " not found");
+        }
+        return writeStructured(event, eventFormat);
+    }
+
+    @Override
+    public Void writeStructured(CloudEvent event, EventFormat format) {
+        putHeader.accept(CONTENT_TYPE, format.serializedContentType());
+        format.serialize(event, body);
+        return null;
+    }
+
+    @Override
+    public Void end(CloudEventData value) throws CloudEventRWException {
+        try {
+            value.writeTo(body);
+        } catch (IOException e) {
+            throw CloudEventRWException.newOther(e);
+        }
+        return null;
+    }
+
+    private static void write(OutputStream body, byte[] bytes) {
+        if (bytes == null) {
+            return;
+        }
+        try {
+            body.write(bytes);
+        } catch (IOException e) {
+            throw CloudEventRWException.newOther(e);
+        }
+    }
+}
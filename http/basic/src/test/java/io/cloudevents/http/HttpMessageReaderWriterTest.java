@@ -28,9 +28,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -71,6 +74,48 @@ public class HttpMessageReaderWriterTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
+    void testWriteStructuredToOutputStream(CloudEvent event) {
+
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        HttpMessageFactory.createWriter(headers::put, body)
+            .writeStructured(event, CSVFormat.INSTANCE);
+        assertThat(headers.get("content-type"))
+            .isEqualTo(CSVFormat.INSTANCE.serializedContentType());
+        assertThat(body.toByteArray())
+            .isEqualTo(CSVFormat.INSTANCE.serialize(event));
+    }
+
+    @ParameterizedTest
+    @MethodSource("binaryTestArguments")
+    void testWriteBinaryToOutputStream(CloudEvent event, Map<String,String> expectedHeaders, byte[] expectedBody) {
+
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        HttpMessageFactory.createWriter(headers::put, body).writeBinary(event);
+
+        expectedHeaders.forEach((k, v) -> {
+            assertThat(headers.get(k)).isEqualTo(v);
+        });
+        assertThat(body.toByteArray())
+            .isEqualTo(expectedBody != null ? expectedBody : new byte[0]);
+    }
+
+    @ParameterizedTest
+    @MethodSource("io.cloudevents.core.test.Data#allEventsWithStringExtensions")
+    void testEstimateBinaryHeadersSize(CloudEvent event) {
+        final AtomicInteger size = new AtomicInteger();
+
+        new HttpMessageWriter((k, v) -> size.addAndGet((k + ": " + v + "\r\n").getBytes(StandardCharsets.UTF_8).length), body -> {})
+            .writeBinary(event);
+
+        assertThat(HttpMessageFactory.estimateBinaryHeadersSize(event))
+            .isEqualTo(size.get());
+    }
+
     @ParameterizedTest
     @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
     public void testReadStructured(CloudEvent event) {
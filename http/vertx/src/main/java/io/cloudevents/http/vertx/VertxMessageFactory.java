@@ -47,7 +47,7 @@ public final class VertxMessageFactory {
             () -> headers.get(HttpHeaders.CONTENT_TYPE),
             format -> {
                 if (body != null) {
-                    return new GenericStructuredMessageReader(format, body.getBytes());
+                    return new GenericStructuredMessageReader(format, body.getByteBuf().nioBuffer());
                 }
                 throw CloudEventRWException.newOther(new IllegalStateException(
                     "Found a structured message using format " + format.serializedContentType() + " with null body"
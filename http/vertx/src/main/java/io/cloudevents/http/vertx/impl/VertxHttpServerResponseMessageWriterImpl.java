@@ -17,16 +17,22 @@
 
 package io.cloudevents.http.vertx.impl;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 
+import java.nio.ByteBuffer;
+
 public class VertxHttpServerResponseMessageWriterImpl implements MessageWriter<CloudEventWriter<HttpServerResponse>, HttpServerResponse>, CloudEventWriter<HttpServerResponse> {
 
     private final HttpServerResponse response;
@@ -60,7 +66,7 @@ public class VertxHttpServerResponseMessageWriterImpl implements MessageWriter<C
         if (this.response.ended()) {
             throw CloudEventRWException.newOther(new IllegalStateException("Cannot set the body because the response is already ended"));
         }
-        this.response.end(Buffer.buffer(value.toBytes()));
+        this.response.end(Buffer.buffer(Unpooled.wrappedBuffer(value.toByteBuffer())));
         return this.response;
     }
 
@@ -80,4 +86,22 @@ public class VertxHttpServerResponseMessageWriterImpl implements MessageWriter<C
         this.response.end(Buffer.buffer(value));
         return this.response;
     }
+
+    @Override
+    public HttpServerResponse setEvent(EventFormat format, ByteBuffer value) throws CloudEventRWException {
+        this.response.putHeader(HttpHeaders.CONTENT_TYPE, format.serializedContentType());
+        this.response.end(Buffer.buffer(Unpooled.wrappedBuffer(value)));
+        return this.response;
+    }
+
+    // Structured write, serializing the event straight into the body buffer
+
+    @Override
+    public HttpServerResponse writeStructured(CloudEvent event, EventFormat format) {
+        ByteBuf body = Unpooled.buffer();
+        format.serialize(event, new ByteBufOutputStream(body));
+        this.response.putHeader(HttpHeaders.CONTENT_TYPE, format.serializedContentType());
+        this.response.end(Buffer.buffer(body));
+        return this.response;
+    }
 }
@@ -17,18 +17,24 @@
 
 package io.cloudevents.http.vertx.impl;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.format.EventFormat;
 import io.cloudevents.core.message.MessageWriter;
 import io.cloudevents.rw.CloudEventRWException;
 import io.cloudevents.rw.CloudEventWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 
+import java.nio.ByteBuffer;
+
 public class VertxWebClientRequestMessageWriterImpl implements MessageWriter<CloudEventWriter<Future<HttpResponse<Buffer>>>, Future<HttpResponse<Buffer>>>, CloudEventWriter<Future<HttpResponse<Buffer>>> {
 
     private final HttpRequest<Buffer> request;
@@ -59,7 +65,7 @@ public class VertxWebClientRequestMessageWriterImpl implements MessageWriter<Clo
 
     @Override
     public Future<HttpResponse<Buffer>> end(CloudEventData value) throws CloudEventRWException {
-        return this.request.sendBuffer(Buffer.buffer(value.toBytes()));
+        return this.request.sendBuffer(Buffer.buffer(Unpooled.wrappedBuffer(value.toByteBuffer())));
     }
 
     @Override
@@ -74,4 +80,20 @@ public class VertxWebClientRequestMessageWriterImpl implements MessageWriter<Clo
         this.request.headers().add(HttpHeaders.CONTENT_TYPE, format.serializedContentType());
         return this.request.sendBuffer(Buffer.buffer(value));
     }
+
+    @Override
+    public Future<HttpResponse<Buffer>> setEvent(EventFormat format, ByteBuffer value) throws CloudEventRWException {
+        this.request.headers().add(HttpHeaders.CONTENT_TYPE, format.serializedContentType());
+        return this.request.sendBuffer(Buffer.buffer(Unpooled.wrappedBuffer(value)));
+    }
+
+    // Structured write, serializing the event straight into the body buffer
+
+    @Override
+    public Future<HttpResponse<Buffer>> writeStructured(CloudEvent event, EventFormat format) {
+        ByteBuf body = Unpooled.buffer();
+        format.serialize(event, new ByteBufOutputStream(body));
+        this.request.headers().add(HttpHeaders.CONTENT_TYPE, format.serializedContentType());
+        return this.request.sendBuffer(Buffer.buffer(body));
+    }
 }
@@ -17,6 +17,7 @@
 
 package io.cloudevents.kafka;
 
+import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.message.MessageReader;
 import io.cloudevents.core.message.MessageWriter;
@@ -30,6 +31,7 @@ import io.cloudevents.rw.CloudEventWriter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.utils.ByteUtils;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -104,4 +106,23 @@ public final class KafkaMessageFactory {
     public static MessageWriter<CloudEventWriter<ProducerRecord<Void, byte[]>>, ProducerRecord<Void, byte[]>> createWriter(String topic) {
         return createWriter(topic, null, null, null);
     }
+
+    /**
+     * Estimate the size of the record headers written for {@code event} in binary mode, without writing them.
+     * Together with the size of the data, this can be used to pack records under {@code max.request.size}.
+     * <p>
+     * The size is computed as in the Kafka record format: every header is counted as its UTF-8 key and value,
+     * each prefixed by its length encoded as a varint, and the headers are prefixed by their count encoded as a varint.
+     *
+     * @param event the event to estimate
+     * @return the estimated size of the headers, in bytes
+     */
+    public static int estimateBinaryHeadersSize(CloudEvent event) {
+        int[] count = {0};
+        int size = MessageUtils.estimateBinaryHeadersSize(event, KafkaHeaders::toHeaderName, (keyLength, valueLength) -> {
+            count[0]++;
+            return ByteUtils.sizeOfVarint(keyLength) + keyLength + ByteUtils.sizeOfVarint(valueLength) + valueLength;
+        });
+        return ByteUtils.sizeOfVarint(count[0]) + size;
+    }
 }
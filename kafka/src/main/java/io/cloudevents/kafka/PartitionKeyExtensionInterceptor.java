@@ -1,5 +1,6 @@
 package io.cloudevents.kafka;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
 import org.apache.kafka.clients.producer.ProducerInterceptor;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -22,12 +23,14 @@ public class PartitionKeyExtensionInterceptor implements ProducerInterceptor<Obj
      */
     public static final String PARTITION_KEY_EXTENSION = "partitionkey";
 
+    private static final AttributeKey<Object> PARTITION_KEY = AttributeKey.extension(PARTITION_KEY_EXTENSION);
+
     @Override
     public ProducerRecord<Object, CloudEvent> onSend(ProducerRecord<Object, CloudEvent> record) {
         if (record.value() == null) {
             return record;
         }
-        Object partitionKey = record.value().getExtension(PARTITION_KEY_EXTENSION);
+        Object partitionKey = record.value().get(PARTITION_KEY);
         if (partitionKey == null) {
             return record;
         }
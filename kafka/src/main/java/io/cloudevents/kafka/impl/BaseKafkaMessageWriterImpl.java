@@ -39,11 +39,7 @@ abstract class BaseKafkaMessageWriterImpl<R> implements MessageWriter<CloudEvent
 
     @Override
     public BaseKafkaMessageWriterImpl<R> withContextAttribute(String name, String value) throws CloudEventRWException {
-        String headerName = KafkaHeaders.ATTRIBUTES_TO_HEADERS.get(name);
-        if (headerName == null) {
-            headerName = KafkaHeaders.CE_PREFIX + name;
-        }
-        headers.add(new RecordHeader(headerName, value.getBytes(StandardCharsets.UTF_8)));
+        headers.add(new RecordHeader(KafkaHeaders.toHeaderName(name), value.getBytes(StandardCharsets.UTF_8)));
         return this;
     }
 
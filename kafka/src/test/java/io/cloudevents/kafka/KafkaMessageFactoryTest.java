@@ -19,8 +19,10 @@ package io.cloudevents.kafka;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
 import io.cloudevents.core.message.Encoding;
 import io.cloudevents.core.message.MessageReader;
+import io.cloudevents.core.message.impl.AttributesCollector;
 import io.cloudevents.core.mock.CSVFormat;
 import io.cloudevents.types.Time;
 import org.apache.kafka.common.header.Headers;
@@ -30,6 +32,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static io.cloudevents.core.test.Data.*;
@@ -50,6 +54,23 @@ public class KafkaMessageFactoryTest {
             .isEqualTo(event);
     }
 
+    @ParameterizedTest()
+    @MethodSource("binaryTestArguments")
+    public void peekBinary(Headers headers, byte[] body, CloudEvent event) {
+        MessageReader message = KafkaMessageFactory.createReader(headers, body);
+
+        Set<String> names = new HashSet<>(event.getAttributeNames());
+        names.addAll(event.getExtensionNames());
+        names.add("ignored");
+        AttributesCollector expected = new AttributesCollector(names).create(event.getSpecVersion());
+        CloudEventUtils.toContextReader(event).readContext(expected);
+
+        assertThat(message.peekAttributes(names))
+            .isEqualTo(expected.getAttributes());
+        assertThat(message.peekAttribute("type"))
+            .isEqualTo(event.getType());
+    }
+
     @ParameterizedTest()
     @MethodSource("io.cloudevents.core.test.Data#allEventsWithoutExtensions")
     public void readStructured(CloudEvent event) {
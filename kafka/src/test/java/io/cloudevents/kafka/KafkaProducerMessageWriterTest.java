@@ -19,17 +19,22 @@ package io.cloudevents.kafka;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
 import io.cloudevents.core.message.StructuredMessageReader;
 import io.cloudevents.core.mock.CSVFormat;
+import io.cloudevents.core.test.Data;
 import io.cloudevents.kafka.impl.KafkaHeaders;
 import io.cloudevents.types.Time;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.record.DefaultRecord;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
@@ -69,6 +74,29 @@ public class KafkaProducerMessageWriterTest {
             .isEqualTo(expectedBuffer);
     }
 
+    @ParameterizedTest
+    @MethodSource("estimateBinaryHeadersSizeArguments")
+    void testEstimateBinaryHeadersSize(CloudEvent event) {
+        ProducerRecord<Void, byte[]> producerRecord = KafkaMessageFactory
+            .createWriter("test")
+            .writeBinary(event);
+
+        // Size of the headers in a serialized record, including their count. A record without headers has a 1 byte count.
+        Header[] headers = producerRecord.headers().toArray();
+        int size = DefaultRecord.sizeOfBodyInBytes(0, 0, -1, -1, headers) - DefaultRecord.sizeOfBodyInBytes(0, 0, -1, -1, new Header[0]) + 1;
+        assertThat(KafkaMessageFactory.estimateBinaryHeadersSize(event))
+            .isEqualTo(size);
+    }
+
+    public static Stream<CloudEvent> estimateBinaryHeadersSizeArguments() {
+        // Lengths from 64 bytes take 2 bytes as varints
+        CloudEvent longAttributes = CloudEventBuilder.v1(V1_WITH_JSON_DATA)
+            .withSource(URI.create("http://localhost/" + "s".repeat(100)))
+            .withExtension("longext", "e".repeat(300))
+            .build();
+        return Stream.concat(Data.allEventsWithStringExtensions(), Stream.of(longAttributes));
+    }
+
     @ParameterizedTest
     @MethodSource("binaryTestArguments")
     void testRequestWithBinary(CloudEvent event, Headers expectedHeaders, byte[] expectedBody) {
@@ -63,10 +63,12 @@ public class CloudEventDecoder extends AbstractDataBufferDecoder<CloudEvent> {
 		}
 		EventFormat format = EventFormatProvider.getInstance()
 				.resolveFormat(mimeType.toString());
-		byte[] result = new byte[buffer.readableByteCount()];
-		buffer.read(result);
-		DataBufferUtils.release(buffer);
-		return format.deserialize(result);
+		try {
+			return format.deserialize(buffer.asInputStream());
+		}
+		finally {
+			DataBufferUtils.release(buffer);
+		}
 	}
 
 }
@@ -31,6 +31,7 @@ import org.springframework.core.codec.AbstractSingleValueEncoder;
 import org.springframework.core.codec.Hints;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
@@ -41,6 +42,8 @@ import org.springframework.util.MimeTypeUtils;
  */
 public class CloudEventEncoder extends AbstractSingleValueEncoder<CloudEvent> {
 
+	private static final int INITIAL_BUFFER_SIZE = 256;
+
 	public CloudEventEncoder() {
 		super(EventFormatProvider.getInstance().getContentTypes().stream()
 				.map(type -> MimeTypeUtils.parseMimeType(type))
@@ -71,7 +74,16 @@ public class CloudEventEncoder extends AbstractSingleValueEncoder<CloudEvent> {
 		}
 		EventFormat format = EventFormatProvider.getInstance()
 				.resolveFormat(mimeType.toString());
-		return bufferFactory.wrap(format.serialize(event));
+		// Serialize straight into the data buffer, without an intermediate byte array
+		DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+		try {
+			format.serialize(event, buffer.asOutputStream());
+			return buffer;
+		}
+		catch (RuntimeException e) {
+			DataBufferUtils.release(buffer);
+			throw e;
+		}
 	}
 
 }
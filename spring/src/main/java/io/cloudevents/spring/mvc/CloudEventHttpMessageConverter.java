@@ -64,8 +64,7 @@ public class CloudEventHttpMessageConverter extends AbstractHttpMessageConverter
             : null;
 
         if (format != null) {
-            byte[] serialized = format.serialize(event);
-            StreamUtils.copy(serialized, outputMessage.getBody());
+            format.serialize(event, outputMessage.getBody());
         } else {
             CloudEventUtils.toReader(event)
                 .read(CloudEventHttpUtils.toWriter(outputMessage.getHeaders(), body -> copy(body, outputMessage)));
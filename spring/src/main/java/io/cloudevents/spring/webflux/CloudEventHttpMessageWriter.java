@@ -34,6 +34,7 @@ import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.http.codec.HttpMessageWriter;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -95,7 +96,7 @@ public class CloudEventHttpMessageWriter implements HttpMessageWriter<CloudEvent
 
         @Override
         public Mono<Void> end(CloudEventData value) throws CloudEventRWException {
-            return copy(value.toBytes(), this.response);
+            return copy(value.toByteBuffer(), this.response);
         }
 
         @Override
@@ -111,11 +112,23 @@ public class CloudEventHttpMessageWriter implements HttpMessageWriter<CloudEvent
 			return copy(value, this.response);
 		}
 
+		@Override
+		public Mono<Void> setEvent(EventFormat format, ByteBuffer value) throws CloudEventRWException {
+			this.response.getHeaders().set(HttpHeaders.CONTENT_TYPE, format.serializedContentType());
+			return copy(value, this.response);
+		}
+
 		private Mono<Void> copy(byte[] bytes, ReactiveHttpOutputMessage message) {
 			DataBuffer data = message.bufferFactory().wrap(bytes);
 			message.getHeaders().setContentLength(bytes.length);
 			return message.writeWith(Mono.just(data));
 		}
+
+		private Mono<Void> copy(ByteBuffer bytes, ReactiveHttpOutputMessage message) {
+			message.getHeaders().setContentLength(bytes.remaining());
+			DataBuffer data = message.bufferFactory().wrap(bytes);
+			return message.writeWith(Mono.just(data));
+		}
     }
 
 }
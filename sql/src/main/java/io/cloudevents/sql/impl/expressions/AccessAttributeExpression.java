@@ -1,7 +1,7 @@
 package io.cloudevents.sql.impl.expressions;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
-import io.cloudevents.SpecVersion;
 import io.cloudevents.sql.EvaluationRuntime;
 import io.cloudevents.sql.ExceptionFactory;
 import io.cloudevents.sql.impl.ExpressionInternalVisitor;
@@ -10,22 +10,21 @@ import org.antlr.v4.runtime.misc.Interval;
 
 import java.util.Base64;
 import java.util.Objects;
-import java.util.function.Function;
 
 public class AccessAttributeExpression extends BaseExpression {
 
     private final String key;
-    private final Function<CloudEvent, Object> getter;
+    private final AttributeKey<Object> attributeKey;
 
     public AccessAttributeExpression(Interval expressionInterval, String expressionText, String key) {
         super(expressionInterval, expressionText);
         this.key = key;
-        this.getter = generateGetter(key);
+        this.attributeKey = AttributeKey.of(key);
     }
 
     @Override
     public EvaluationResult evaluate(EvaluationRuntime runtime, CloudEvent event, ExceptionFactory exceptionFactory) {
-        Object value = this.getter.apply(event);
+        Object value = getValue(event, this.attributeKey);
         if (value == null) {
             return new EvaluationResult(false, exceptionFactory.missingAttribute(this.expressionInterval(), this.expressionText(), key));
         }
@@ -40,8 +39,13 @@ public class AccessAttributeExpression extends BaseExpression {
         return visitor.visitAccessAttributeExpression(this);
     }
 
-    private static Function<CloudEvent, Object> generateGetter(String key) {
-        return SpecVersion.V1.getAllAttributes().contains(key) ? ce -> ce.getAttribute(key) : ce -> ce.getExtension(key);
+    static Object getValue(CloudEvent event, AttributeKey<Object> attributeKey) {
+        Object value = event.get(attributeKey);
+        if (value == null && attributeKey.isSpecAttribute() && !attributeKey.isAttributeOf(event.getSpecVersion())) {
+            // Attributes of other spec versions are extensions, like schemaurl for v1
+            value = event.getExtension(attributeKey.getName());
+        }
+        return value;
     }
 
     private static Object coherceTypes(Object value) {
@@ -1,5 +1,6 @@
 package io.cloudevents.sql.impl.expressions;
 
+import io.cloudevents.AttributeKey;
 import io.cloudevents.CloudEvent;
 import io.cloudevents.sql.EvaluationRuntime;
 import io.cloudevents.sql.ExceptionFactory;
@@ -11,15 +12,17 @@ import org.antlr.v4.runtime.misc.Interval;
 public class ExistsExpression extends BaseExpression {
 
     private final String key;
+    private final AttributeKey<Object> attributeKey;
 
     public ExistsExpression(Interval expressionInterval, String expressionText, String key) {
         super(expressionInterval, expressionText);
         this.key = key.toLowerCase();
+        this.attributeKey = AttributeKey.of(this.key);
     }
 
     @Override
     public EvaluationResult evaluate(EvaluationRuntime runtime, CloudEvent event, ExceptionFactory exceptionFactory) {
-        return new EvaluationResult(hasContextAttribute(event, key));
+        return new EvaluationResult(AccessAttributeExpression.getValue(event, attributeKey) != null);
     }
 
     @Override
@@ -31,8 +34,4 @@ public class ExistsExpression extends BaseExpression {
         return key;
     }
 
-    private static boolean hasContextAttribute(CloudEvent event, String key) {
-        return event.getAttributeNames().contains(key) || event.getExtensionNames().contains(key);
-    }
-
 }